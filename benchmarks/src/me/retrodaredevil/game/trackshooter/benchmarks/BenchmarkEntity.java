@@ -0,0 +1,23 @@
+package me.retrodaredevil.game.trackshooter.benchmarks;
+
+import me.retrodaredevil.game.trackshooter.CollisionIdentity;
+import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.entity.SimpleEntity;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+/**
+ * An entity that never moves on its own and ignores every collision so the state of a benchmark doesn't change
+ * between invocations.
+ */
+class BenchmarkEntity extends SimpleEntity {
+
+	BenchmarkEntity(World world, CollisionIdentity identity, float size){
+		super(world);
+		collisionIdentity = identity;
+		setHitboxSize(size);
+	}
+
+	@Override
+	public void onHit(Entity other) {
+	}
+}
@@ -0,0 +1,65 @@
+package me.retrodaredevil.game.trackshooter.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+
+import me.retrodaredevil.game.trackshooter.headless.HeadlessRenderObjects;
+import me.retrodaredevil.game.trackshooter.level.EnemyLevel;
+import me.retrodaredevil.game.trackshooter.multiplayer.DisconnectedMultiplayer;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+import me.retrodaredevil.game.trackshooter.world.Track;
+import me.retrodaredevil.game.trackshooter.world.Tracks;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+/**
+ * Creates the objects that benchmarks need so each benchmark doesn't have to set up libGDX itself
+ */
+final class BenchmarkWorlds {
+	static final float DELTA = 1 / 60f;
+	/** The seed of every World so each benchmark run does the same thing */
+	static final long SEED = 1;
+
+	private static RenderObject renderObject = null;
+
+	private BenchmarkWorlds(){ throw new UnsupportedOperationException(); }
+
+	/**
+	 * Initializes libGDX the first time this is called
+	 * @return A RenderObject with stubbed skins
+	 */
+	static synchronized RenderObject getRenderObject(){
+		if(renderObject == null){
+			if(Gdx.app == null){
+				new HeadlessApplication(new ApplicationAdapter() {});
+			}
+			renderObject = HeadlessRenderObjects.createRenderObject();
+		}
+		return renderObject;
+	}
+
+	/**
+	 * Creates a World that only has levels without any enemies. Nothing is spawned until the world is updated.
+	 * @param track The track each level uses
+	 * @return A new World
+	 */
+	static World createWorld(Track track){
+		return new World(new DisconnectedMultiplayer(1), world -> new EnemyLevel(world, 1, track) {}, 18, 18, getRenderObject(),
+				(screenX, screenY, result) -> result.set(screenX, screenY), SEED);
+	}
+
+	/**
+	 * @param name The name of a track from {@link Tracks}. "circle", "kingdom", "plus", "maze" or "pointy"
+	 * @return A new Track
+	 */
+	static Track createTrack(String name){
+		switch(name){
+			case "circle": return Tracks.newCircleTrack();
+			case "kingdom": return Tracks.newKingdomTrack();
+			case "plus": return Tracks.newPlusTrack();
+			case "maze": return Tracks.newMazeTrack();
+			case "pointy": return Tracks.newPointyTrack();
+			default: throw new IllegalArgumentException("Unknown track: " + name);
+		}
+	}
+}
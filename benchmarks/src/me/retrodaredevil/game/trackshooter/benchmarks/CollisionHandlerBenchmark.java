@@ -0,0 +1,59 @@
+package me.retrodaredevil.game.trackshooter.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+import me.retrodaredevil.game.trackshooter.CollisionHandler;
+import me.retrodaredevil.game.trackshooter.CollisionIdentity;
+import me.retrodaredevil.game.trackshooter.world.Tracks;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+/**
+ * Measures {@link CollisionHandler#update(float)} with entities of every identity spread randomly over the world
+ */
+@State(Scope.Thread)
+public class CollisionHandlerBenchmark {
+	private static final CollisionIdentity[] IDENTITIES = {
+			CollisionIdentity.FRIENDLY, CollisionIdentity.FRIENDLY_ALLY, CollisionIdentity.ENEMY,
+			CollisionIdentity.FRIENDLY_PROJECTILE, CollisionIdentity.ENEMY_PROJECTILE, CollisionIdentity.POWERUP,
+			CollisionIdentity.ENEMY_EATER
+	};
+
+	@Param({"50", "200", "800"})
+	public int entityCount;
+
+	@Param({"BRUTE_FORCE", "UNIFORM_GRID"})
+	public CollisionHandler.Broadphase broadphase;
+
+	private CollisionHandler collisionHandler;
+
+	@Setup
+	public void setup(){
+		World world = BenchmarkWorlds.createWorld(Tracks.newCircleTrack());
+		collisionHandler = world.getCollisionHandler();
+		collisionHandler.setBroadphase(broadphase);
+
+		Random random = new Random(entityCount);
+		Rectangle bounds = world.getBounds();
+		for(int i = 0; i < entityCount; i++){
+			CollisionIdentity identity = IDENTITIES[i % IDENTITIES.length];
+			float size = identity.isProjectile() ? .25f : .6f;
+			BenchmarkEntity entity = new BenchmarkEntity(world, identity, size);
+			entity.setLocation(bounds.x + random.nextFloat() * bounds.width, bounds.y + random.nextFloat() * bounds.height);
+			world.addEntity(entity);
+		}
+		world.update(BenchmarkWorlds.DELTA); // spawn the entities
+	}
+
+	@Benchmark
+	public void update(){
+		collisionHandler.update(BenchmarkWorlds.DELTA);
+	}
+}
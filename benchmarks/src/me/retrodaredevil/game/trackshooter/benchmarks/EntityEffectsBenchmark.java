@@ -0,0 +1,67 @@
+package me.retrodaredevil.game.trackshooter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.retrodaredevil.game.trackshooter.CollisionIdentity;
+import me.retrodaredevil.game.trackshooter.effect.Effect;
+import me.retrodaredevil.game.trackshooter.effect.TimedSpeedEffect;
+import me.retrodaredevil.game.trackshooter.item.Item;
+import me.retrodaredevil.game.trackshooter.world.Tracks;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+/**
+ * Measures {@link me.retrodaredevil.game.trackshooter.entity.SimpleEntity#update(float)} and
+ * {@link me.retrodaredevil.game.trackshooter.entity.Entity#getSpeedMultiplier()} for an entity with many
+ * effects and items that never finish. Half of the effects are speed effects.
+ */
+@State(Scope.Thread)
+public class EntityEffectsBenchmark {
+	/** Long enough that no effect will finish during a benchmark */
+	private static final long EFFECT_TIME = 1_000_000_000L;
+
+	@Param({"0", "8", "32"})
+	public int effects;
+
+	@Param({"0", "8", "32"})
+	public int items;
+
+	private BenchmarkEntity entity;
+
+	@Setup
+	public void setup(){
+		World world = BenchmarkWorlds.createWorld(Tracks.newCircleTrack());
+		entity = new BenchmarkEntity(world, CollisionIdentity.UNKNOWN, 1);
+		for(int i = 0; i < effects; i++){
+			entity.addEffect(i % 2 == 0 ? new TimedSpeedEffect(world, EFFECT_TIME, 1) : new EndlessEffect());
+		}
+		for(int i = 0; i < items; i++){
+			entity.addItem(new EndlessItem());
+		}
+		world.addEntity(entity);
+		world.update(BenchmarkWorlds.DELTA); // spawn the entity
+	}
+
+	@Benchmark
+	public void update(){
+		entity.update(BenchmarkWorlds.DELTA);
+	}
+
+	@Benchmark
+	public float getSpeedMultiplier(){
+		return entity.getSpeedMultiplier();
+	}
+
+	private static class EndlessEffect implements Effect {
+		@Override public boolean isDone() { return false; }
+		@Override public float percentDone(World world) { return 0; }
+		@Override public void update(float delta) { }
+	}
+	private static class EndlessItem implements Item {
+		@Override public boolean isUsed() { return false; }
+		@Override public void update(float delta) { }
+	}
+}
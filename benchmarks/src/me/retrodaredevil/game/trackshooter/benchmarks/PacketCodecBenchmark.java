@@ -0,0 +1,114 @@
+package me.retrodaredevil.game.trackshooter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.MalformedPacketException;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketCodec;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.Packets;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.PlayerInputPacket;
+import me.retrodaredevil.game.trackshooter.replay.PlayerInputState;
+
+/**
+ * Compares encoding and decoding a {@link PlayerInputPacket} with {@link PacketCodec} to encoding and decoding the
+ * same fields with Java serialization, which is what was used before packets had a codec. Each serialized packet
+ * gets its own streams like it would if it were sent on its own. The size of each is printed during setup.
+ */
+@State(Scope.Thread)
+public class PacketCodecBenchmark {
+	private final PacketCodec codec = Packets.createCodec();
+	private PlayerInputPacket packet;
+	private SerializableInput serializableInput;
+	private ByteBuffer encoded;
+	private byte[] serialized;
+
+	@Setup
+	public void setup() throws IOException {
+		PlayerInputState state = new PlayerInputState();
+		state.moveX = .6f;
+		state.moveY = -.8f;
+		state.rotateIsAxis = true;
+		state.rotate = .25f;
+		state.rotationPointConnected = true;
+		state.shoot = true;
+		packet = new PlayerInputPacket(1, 12_345, state);
+		serializableInput = new SerializableInput(packet);
+
+		encoded = codec.encode(packet);
+		serialized = serialize();
+		System.out.println("codec: " + encoded.remaining() + " bytes, serialization: " + serialized.length + " bytes");
+	}
+
+	@Benchmark
+	public int codecEncode(){
+		ByteBuffer buffer = codec.encode(packet);
+		int size = buffer.remaining();
+		codec.getBufferPool().free(buffer);
+		return size;
+	}
+
+	@Benchmark
+	public Packet codecDecode() throws MalformedPacketException {
+		encoded.rewind();
+		return codec.decode(encoded);
+	}
+
+	@Benchmark
+	public byte[] serializationEncode() throws IOException {
+		return serialize();
+	}
+
+	@Benchmark
+	public Object serializationDecode() throws IOException, ClassNotFoundException {
+		try(ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))){
+			return input.readObject();
+		}
+	}
+
+	private byte[] serialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try(ObjectOutputStream output = new ObjectOutputStream(bytes)){
+			output.writeObject(serializableInput);
+		}
+		return bytes.toByteArray();
+	}
+
+	/** Has the same fields as a {@link PlayerInputPacket} */
+	private static class SerializableInput implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final int playerIndex;
+		private final long tick;
+		private final float moveX, moveY, rotate;
+		private final boolean slow, rotateIsAxis, rotationPointConnected, rotationPointActive, shoot, activatePowerup;
+		private final float rotationPointX, rotationPointY;
+
+		SerializableInput(PlayerInputPacket packet){
+			PlayerInputState state = packet.getState();
+			playerIndex = packet.getPlayerIndex();
+			tick = packet.getTick();
+			moveX = state.moveX;
+			moveY = state.moveY;
+			rotate = state.rotate;
+			slow = state.slow;
+			rotateIsAxis = state.rotateIsAxis;
+			rotationPointConnected = state.rotationPointConnected;
+			rotationPointActive = state.rotationPointActive;
+			shoot = state.shoot;
+			activatePowerup = state.activatePowerup;
+			rotationPointX = state.rotationPointX;
+			rotationPointY = state.rotationPointY;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package me.retrodaredevil.game.trackshooter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+import me.retrodaredevil.game.trackshooter.entity.EntityDifficulty;
+import me.retrodaredevil.game.trackshooter.entity.enemies.snake.SnakePart;
+import me.retrodaredevil.game.trackshooter.world.Tracks;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+/**
+ * Measures updating every part of a snake once. The head is always travelling towards the center of the world
+ * so it circles around it forever.
+ */
+@State(Scope.Thread)
+public class SnakeBenchmark {
+	@Param({"10", "20", "35"})
+	public int parts;
+
+	private SnakePart[] snake;
+
+	@Setup
+	public void setup(){
+		World world = BenchmarkWorlds.createWorld(Tracks.newCircleTrack());
+		List<SnakePart> snakeList = SnakePart.createSnake(parts, world, EntityDifficulty.NORMAL);
+		SnakePart head = snakeList.get(0);
+		head.setLocation(5, 0, 90);
+		for(SnakePart part : snakeList){
+			world.addEntity(part);
+		}
+		world.update(BenchmarkWorlds.DELTA); // spawn the parts
+		head.switchToManualTarget(0, 0);
+		snake = snakeList.toArray(new SnakePart[0]);
+	}
+
+	@Benchmark
+	public void update(){
+		for(SnakePart part : snake){
+			part.update(BenchmarkWorlds.DELTA);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package me.retrodaredevil.game.trackshooter.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import me.retrodaredevil.game.trackshooter.world.Track;
+
+/**
+ * Measures looking up positions on each track from {@link me.retrodaredevil.game.trackshooter.world.Tracks}. Each
+ * invocation samples {@link #SAMPLES} distances spread over the whole track, including distances that wrap around.
+ */
+@State(Scope.Thread)
+public class TrackBenchmark {
+	private static final int SAMPLES = 256;
+
+	@Param({"circle", "kingdom", "plus", "maze", "pointy"})
+	public String trackName;
+
+	private Track track;
+	private final float[] distances = new float[SAMPLES];
+	private final Vector2 result = new Vector2();
+
+	@Setup
+	public void setup(){
+		track = BenchmarkWorlds.createTrack(trackName);
+		float total = track.getTotalDistance();
+		for(int i = 0; i < SAMPLES; i++){
+			distances[i] = (i - SAMPLES / 4) * total * 1.5f / SAMPLES; // from -.375 to 1.125 of the track
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLES)
+	public void getDesiredLocation(Blackhole blackhole){
+		for(float distance : distances){
+			blackhole.consume(track.getDesiredLocation(distance, result));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLES)
+	public void getMovePercent(Blackhole blackhole){
+		for(int i = 0; i < SAMPLES; i++){
+			blackhole.consume(track.getMovePercent(i * 360f / SAMPLES, distances[i]));
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package me.retrodaredevil.game.trackshooter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.PacketListener;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketCodec;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketSerializer;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.Packets;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.PlayerInputPacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.udp.UdpMultiplayer;
+import me.retrodaredevil.game.trackshooter.replay.PlayerInputState;
+
+/**
+ * Measures round trips between a host and a client that are connected with {@link UdpMultiplayer} over loopback.
+ * The client sends a packet to the host and the host sends it back. Both sides call
+ * {@link Multiplayer#receivePackets(PacketListener)} until the packet comes back, so this includes encoding, decoding
+ * and, for reliable packets, the acknowledgements.
+ */
+@State(Scope.Thread)
+public class UdpMultiplayerBenchmark {
+	/** Not one of {@link Packets} so the benchmark can send a reliable packet that the game never sends */
+	private static final int ECHO_ID = 127;
+
+	private UdpMultiplayer host;
+	private UdpMultiplayer client;
+	private PlayerInputPacket inputPacket;
+	private final EchoPacket echoPacket = new EchoPacket();
+	/** Set to true when the packet comes back to the client */
+	private boolean received;
+	private final PacketListener hostListener = (sender, packet) -> host.sendToPlayer(packet, sender);
+	private final PacketListener clientListener = (sender, packet) -> received = true;
+
+	@Setup
+	public void setup() throws IOException, InterruptedException {
+		host = UdpMultiplayer.host(0, 1, 1, createCodec());
+		client = UdpMultiplayer.join(new InetSocketAddress("127.0.0.1", host.getPort()), 1, createCodec());
+		long end = System.currentTimeMillis() + 5000;
+		while(!client.isConnected() || client.getPlayers().isEmpty()){
+			if(System.currentTimeMillis() > end){
+				throw new IllegalStateException("Could not connect!");
+			}
+			host.receivePackets(PacketListener.Defaults.IGNORE);
+			client.receivePackets(PacketListener.Defaults.IGNORE);
+			Thread.sleep(1);
+		}
+		PlayerInputState state = new PlayerInputState();
+		state.moveX = .6f;
+		state.moveY = -.8f;
+		state.shoot = true;
+		inputPacket = new PlayerInputPacket(1, 12_345, state);
+	}
+	@TearDown
+	public void tearDown(){
+		client.leave();
+		host.leave();
+	}
+
+	@Benchmark
+	public void unreliableRoundTrip(){
+		roundTrip(inputPacket);
+	}
+
+	@Benchmark
+	public void reliableRoundTrip(){
+		roundTrip(echoPacket);
+	}
+
+	private void roundTrip(Packet packet){
+		received = false;
+		client.sendToHost(packet);
+		while(!received){
+			host.receivePackets(hostListener);
+			client.receivePackets(clientListener);
+		}
+	}
+
+	private static PacketCodec createCodec(){
+		PacketCodec codec = Packets.createCodec();
+		codec.register(ECHO_ID, EchoPacket.class, new PacketSerializer<EchoPacket>() {
+			@Override
+			public void write(EchoPacket packet, PacketWriter writer) {
+			}
+
+			@Override
+			public EchoPacket read(PacketReader reader) {
+				return new EchoPacket();
+			}
+		});
+		return codec;
+	}
+
+	private static final class EchoPacket implements Packet {
+		@Override
+		public boolean isReliable() {
+			return true;
+		}
+	}
+}
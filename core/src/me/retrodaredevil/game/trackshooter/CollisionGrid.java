@@ -0,0 +1,111 @@
+package me.retrodaredevil.game.trackshooter;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * A uniform grid used by {@link CollisionHandler} as a broadphase. Each {@link CollisionIdentity} gets its own set of
+ * cells so a query only returns entities that trigger a collision with the identity being queried.
+ * <p>
+ * Entities are stored as indexes so that a query can return them in the same order they were inserted. Anything
+ * outside of the bounds is put in the closest cell on the edge so nothing is ever missed.
+ */
+class CollisionGrid {
+	private final float x, y;
+	private final int columns, rows;
+	private final float cellWidth, cellHeight;
+	/** [CollisionIdentity ordinal][cell index] -> indexes of the entities in that cell */
+	private final IntArray[][] cells;
+	/** The query number each index was last returned in. Used so an index in multiple cells is only returned once */
+	private int[] lastQuery = new int[0];
+	private int queryNumber = 0;
+
+	/**
+	 * @param bounds The bounds of the world. Usually {@link me.retrodaredevil.game.trackshooter.world.World#getBounds()}
+	 * @param cellSize The preferred width and height of each cell
+	 */
+	CollisionGrid(Rectangle bounds, float cellSize){
+		this.x = bounds.x;
+		this.y = bounds.y;
+		this.columns = Math.max(1, MathUtils.ceil(bounds.width / cellSize));
+		this.rows = Math.max(1, MathUtils.ceil(bounds.height / cellSize));
+		this.cellWidth = bounds.width / columns;
+		this.cellHeight = bounds.height / rows;
+
+		CollisionIdentity[] identities = CollisionIdentity.values();
+		cells = new IntArray[identities.length][];
+		for(CollisionIdentity identity : identities){
+			IntArray[] identityCells = new IntArray[columns * rows];
+			for(int i = 0; i < identityCells.length; i++){
+				identityCells[i] = new IntArray(false, 8);
+			}
+			cells[identity.ordinal()] = identityCells;
+		}
+	}
+
+	/** Removes every index from every cell */
+	void clear(){
+		for(IntArray[] identityCells : cells){
+			for(IntArray cell : identityCells){
+				cell.clear();
+			}
+		}
+	}
+
+	/**
+	 * NOTE: Indexes should be inserted in ascending order
+	 * @param identity The identity of the cells to put the index in
+	 * @param index The index of the entity
+	 * @param hitbox The hitbox of the entity
+	 */
+	void insert(CollisionIdentity identity, int index, Rectangle hitbox){
+		IntArray[] identityCells = cells[identity.ordinal()];
+		int minColumn = getColumn(hitbox.x), maxColumn = getColumn(hitbox.x + hitbox.width);
+		int minRow = getRow(hitbox.y), maxRow = getRow(hitbox.y + hitbox.height);
+		for(int row = minRow; row <= maxRow; row++){
+			for(int column = minColumn; column <= maxColumn; column++){
+				identityCells[row * columns + column].add(index);
+			}
+		}
+	}
+
+	/**
+	 * Puts the index of every entity inserted with the given identity that may overlap hitbox in result
+	 * @param identity The identity of the cells to look in
+	 * @param hitbox The area to look in
+	 * @param result The IntArray to put the indexes in. This is cleared and is sorted in ascending order after this call
+	 */
+	void query(CollisionIdentity identity, Rectangle hitbox, IntArray result){
+		result.clear();
+		queryNumber++;
+		IntArray[] identityCells = cells[identity.ordinal()];
+		int minColumn = getColumn(hitbox.x), maxColumn = getColumn(hitbox.x + hitbox.width);
+		int minRow = getRow(hitbox.y), maxRow = getRow(hitbox.y + hitbox.height);
+		for(int row = minRow; row <= maxRow; row++){
+			for(int column = minColumn; column <= maxColumn; column++){
+				IntArray cell = identityCells[row * columns + column];
+				for(int i = 0; i < cell.size; i++){
+					int index = cell.items[i];
+					if(index >= lastQuery.length){
+						int[] newLastQuery = new int[Math.max(index + 1, lastQuery.length * 2)];
+						System.arraycopy(lastQuery, 0, newLastQuery, 0, lastQuery.length);
+						lastQuery = newLastQuery;
+					}
+					if(lastQuery[index] != queryNumber){
+						lastQuery[index] = queryNumber;
+						result.add(index);
+					}
+				}
+			}
+		}
+		result.sort();
+	}
+
+	private int getColumn(float worldX){
+		return MathUtils.clamp((int) Math.floor((worldX - x) / cellWidth), 0, columns - 1);
+	}
+	private int getRow(float worldY){
+		return MathUtils.clamp((int) Math.floor((worldY - y) / cellHeight), 0, rows - 1);
+	}
+}
@@ -1,61 +1,286 @@
 package me.retrodaredevil.game.trackshooter;
 
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
 import me.retrodaredevil.game.trackshooter.world.World;
 
 import java.util.*;
 
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Handles collisions for every entity in a {@link World}. Everything that's used during {@link #update(float)} is
+ * kept and cleared each frame so there are no allocations once the lists have grown big enough.
+ * <p>
+ * When continuous projectiles are enabled, collisions involving a projectile (see {@link CollisionIdentity#isProjectile()})
+ * are handled before everything else by testing the segment the projectile moved along during the last update.
+ */
 public class CollisionHandler implements Updateable {
 	/*
 	Future references if we change how collision handling works:
 	 * https://stackoverflow.com/a/45142822/5434860 good answer on how he dealt with collisions
 	 * https://gamedev.stackexchange.com/a/137345 a visitor pattern (lots of methods)
 	 */
+	/** The width and height of each cell in the {@link CollisionGrid} in world units */
+	private static final float GRID_CELL_SIZE = 2;
+	/** Cached because {@link CollisionIdentity#values()} creates a new array each call */
+	private static final CollisionIdentity[] IDENTITIES = CollisionIdentity.values();
+
 	private final World world;
+	private Broadphase broadphase;
+	private boolean continuousProjectiles;
+	/** Initialized the first time {@link Broadphase#UNIFORM_GRID} is used */
+	private CollisionGrid grid = null;
+	private final IntArray gridResult = new IntArray();
+
+	private final List<Entity> possiblyCollides = new ArrayList<>();
+	/**
+	 * Indexed by {@link CollisionIdentity#ordinal()}. Each list contains all the entities that should be checked
+	 * for each entity of that CollisionIdentity
+	 */
+	private final List<Entity>[] collisionBuckets;
+	/** Indexed by {@link CollisionIdentity#ordinal()}. Each list contains all the entities with that CollisionIdentity */
+	private final List<Entity>[] identityBuckets;
 
-	public CollisionHandler(World world) {
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public CollisionHandler(World world, Broadphase broadphase, boolean continuousProjectiles) {
 		this.world = world;
+		this.broadphase = requireNonNull(broadphase);
+		this.continuousProjectiles = continuousProjectiles;
+		collisionBuckets = new List[IDENTITIES.length];
+		identityBuckets = new List[IDENTITIES.length];
+		for(int i = 0; i < IDENTITIES.length; i++){
+			collisionBuckets[i] = new ArrayList<>();
+			identityBuckets[i] = new ArrayList<>();
+		}
+	}
+	public CollisionHandler(World world){
+		this(world, Broadphase.BRUTE_FORCE, true);
+	}
+
+	public Broadphase getBroadphase(){
+		return broadphase;
+	}
+
+	/**
+	 * Changes how entities that may collide are found. No matter what is used, the same entities will have their
+	 * {@link Entity#onHit(Entity)} called in the same order.
+	 * @param broadphase The new Broadphase to use starting next update
+	 */
+	public void setBroadphase(Broadphase broadphase){
+		this.broadphase = requireNonNull(broadphase);
+	}
+
+	public boolean isContinuousProjectiles(){
+		return continuousProjectiles;
+	}
+
+	/**
+	 * @param continuousProjectiles true to test the path each projectile moved along during the last update instead of
+	 *                              only testing where it is now. If false, projectiles are handled like everything else
+	 */
+	public void setContinuousProjectiles(boolean continuousProjectiles){
+		this.continuousProjectiles = continuousProjectiles;
 	}
 
 	@Override
 	public void update(float delta) {
-		final Collection<Entity> entities = world.getEntities();
+		final List<Entity> entities = world.getEntities();
 
-		Collection<Entity> possiblyCollides = new ArrayList<>();
-		// This map represents all the entities that should be checked for each entity of a certain CollisionIdentity
-		Map<CollisionIdentity, Collection<Entity>> collisionMap = new EnumMap<>(CollisionIdentity.class);
-		for(Entity e : entities){
+		possiblyCollides.clear();
+		for(int i = 0; i < IDENTITIES.length; i++){
+			collisionBuckets[i].clear();
+			identityBuckets[i].clear();
+		}
+		for(int i = 0; i < entities.size(); i++){ // index loops so we don't create iterators
+			Entity e = entities.get(i);
 			CollisionIdentity collisionIdentity = e.getCollisionIdentity();
 			if(!collisionIdentity.canCollide()){
 				continue;
 			}
 			possiblyCollides.add(e);
+			identityBuckets[collisionIdentity.ordinal()].add(e);
 
-			for(CollisionIdentity element : collisionIdentity.getTriggers()){
-				Collection<Entity> collisionList = collisionMap.get(element);
-				if(collisionList == null){
-					collisionList = new ArrayList<>();
-					collisionMap.put(element, collisionList); // only call put() once
+			int triggers = collisionIdentity.getTriggersMask();
+			while(triggers != 0){
+				int ordinal = Integer.numberOfTrailingZeros(triggers);
+				triggers &= triggers - 1; // clear the lowest bit
+				collisionBuckets[ordinal].add(e);
+			}
+		}
+		if(continuousProjectiles){
+			updateProjectiles();
+		}
+		if(broadphase == Broadphase.UNIFORM_GRID){
+			updateGrid();
+		} else {
+			updateBruteForce();
+		}
+	}
+	private void updateBruteForce(){
+		outerLoop : for(int i = 0; i < possiblyCollides.size(); i++){
+			Entity e = possiblyCollides.get(i);
+			List<Entity> collidesWith = collisionBuckets[e.getCollisionIdentity().ordinal()];
+			for(int j = 0; j < collidesWith.size(); j++){
+				Entity test = collidesWith.get(j);
+				if(e.shouldRemove()){
+					continue outerLoop;
+				}
+				if(test.shouldRemove() || isHandledByProjectiles(e, test)){
+					continue;
+				}
+				if (test.getHitbox().overlaps(e.getHitbox())) { // for player bullet - enemy collisions
+					test.onHit(e);
+					e.onHit(test);
 				}
-				collisionList.add(e);
 			}
 		}
-		outerLoop : for(Entity e : possiblyCollides){
-			Collection<Entity> collidesWith = collisionMap.get(e.getCollisionIdentity());
-			if(collidesWith != null){
-				for(Entity test : collidesWith){
-					if(e.shouldRemove()){
-						continue outerLoop;
-					}
-					if(test.shouldRemove()){
-						continue;
-					}
-					if (test.getHitbox().overlaps(e.getHitbox())) { // for player bullet - enemy collisions
-						test.onHit(e);
-						e.onHit(test);
+	}
+
+	/**
+	 * Does the same thing as {@link #updateBruteForce()} but only tests entities that share a cell in the grid.
+	 * Each bucket is stored by index in the grid so each query returns entities in the same order as the bucket.
+	 */
+	private void updateGrid(){
+		if(grid == null){
+			grid = new CollisionGrid(world.getBounds(), GRID_CELL_SIZE);
+		}
+		grid.clear();
+		for(CollisionIdentity identity : IDENTITIES){
+			List<Entity> bucket = collisionBuckets[identity.ordinal()];
+			for(int i = 0; i < bucket.size(); i++){
+				grid.insert(identity, i, bucket.get(i).getHitbox());
+			}
+		}
+		for(int i = 0; i < possiblyCollides.size(); i++){
+			Entity e = possiblyCollides.get(i);
+			CollisionIdentity identity = e.getCollisionIdentity();
+			List<Entity> collidesWith = collisionBuckets[identity.ordinal()];
+			if(collidesWith.isEmpty()){
+				continue;
+			}
+			grid.query(identity, e.getHitbox(), gridResult);
+			for(int j = 0; j < gridResult.size; j++){
+				Entity test = collidesWith.get(gridResult.get(j));
+				if(e.shouldRemove()){
+					break;
+				}
+				if(test.shouldRemove() || isHandledByProjectiles(e, test)){
+					continue;
+				}
+				if (test.getHitbox().overlaps(e.getHitbox())) {
+					test.onHit(e);
+					e.onHit(test);
+				}
+			}
+		}
+	}
+
+	private boolean isHandledByProjectiles(Entity e, Entity test){
+		return continuousProjectiles && (e.getCollisionIdentity().isProjectile() || test.getCollisionIdentity().isProjectile());
+	}
+
+	/**
+	 * For each projectile, finds the entity it would have hit first while moving from its previous location to its
+	 * current location and calls {@link Entity#onHit(Entity)} on both of them in the same order the discrete pass would.
+	 * <p>
+	 * The entities the projectile can hit are assumed to be where they are now for the whole update.
+	 */
+	private void updateProjectiles(){
+		for(int i = 0; i < possiblyCollides.size(); i++){
+			Entity projectile = possiblyCollides.get(i);
+			CollisionIdentity identity = projectile.getCollisionIdentity();
+			if(!identity.isProjectile() || projectile.shouldRemove()){
+				continue;
+			}
+			Entity first = null;
+			boolean firstTriggers = false; // true if first triggers a collision with projectile
+			float firstTime = Float.MAX_VALUE;
+
+			List<Entity> triggeredBy = collisionBuckets[identity.ordinal()];
+			for(int j = 0; j < triggeredBy.size(); j++){
+				Entity test = triggeredBy.get(j);
+				float time = test.shouldRemove() ? -1 : getSweptHitTime(projectile, test.getHitbox());
+				if(time >= 0 && time < firstTime){
+					first = test;
+					firstTriggers = true;
+					firstTime = time;
+				}
+			}
+			int triggers = identity.getTriggersMask();
+			while(triggers != 0){
+				int ordinal = Integer.numberOfTrailingZeros(triggers);
+				triggers &= triggers - 1;
+				List<Entity> ofIdentity = identityBuckets[ordinal];
+				for(int j = 0; j < ofIdentity.size(); j++){
+					Entity test = ofIdentity.get(j);
+					float time = test.shouldRemove() ? -1 : getSweptHitTime(projectile, test.getHitbox());
+					if(time >= 0 && time < firstTime){
+						first = test;
+						firstTriggers = false;
+						firstTime = time;
 					}
 				}
 			}
+			if(first != null){
+				if(firstTriggers){
+					first.onHit(projectile);
+					projectile.onHit(first);
+				} else {
+					projectile.onHit(first);
+					first.onHit(projectile);
+				}
+			}
 		}
 	}
+
+	/**
+	 * Uses the slab method to test the segment from the projectile's previous location to its current location against
+	 * the target's hitbox expanded by half of the projectile's hitbox size.
+	 * @return A number from 0 to 1 representing how far along the segment the projectile first touches target or -1 if it never does
+	 */
+	private static float getSweptHitTime(Entity projectile, Rectangle target){
+		Rectangle hitbox = projectile.getHitbox();
+		float halfWidth = hitbox.width / 2, halfHeight = hitbox.height / 2;
+		float startX = projectile.getPreviousX(), startY = projectile.getPreviousY();
+		float deltaX = projectile.getX() - startX, deltaY = projectile.getY() - startY;
+
+		float enter = 0, exit = 1;
+		float minX = target.x - halfWidth, maxX = target.x + target.width + halfWidth;
+		if(deltaX == 0){
+			if(startX <= minX || startX >= maxX){
+				return -1;
+			}
+		} else {
+			float t1 = (minX - startX) / deltaX, t2 = (maxX - startX) / deltaX;
+			enter = Math.max(enter, Math.min(t1, t2));
+			exit = Math.min(exit, Math.max(t1, t2));
+		}
+		float minY = target.y - halfHeight, maxY = target.y + target.height + halfHeight;
+		if(deltaY == 0){
+			if(startY <= minY || startY >= maxY){
+				return -1;
+			}
+		} else {
+			float t1 = (minY - startY) / deltaY, t2 = (maxY - startY) / deltaY;
+			enter = Math.max(enter, Math.min(t1, t2));
+			exit = Math.min(exit, Math.max(t1, t2));
+		}
+		if(enter >= exit){
+			return -1;
+		}
+		return enter;
+	}
+
+	public enum Broadphase {
+		/** Every entity is tested against every entity in its trigger list */
+		BRUTE_FORCE,
+		/**
+		 * Entities are put in a {@link CollisionGrid} sized from the world's bounds and only tested against entities in the same cells.
+		 * <p>
+		 * NOTE: This assumes {@link Entity#onHit(Entity)} does not move entities
+		 */
+		UNIFORM_GRID
+	}
 }
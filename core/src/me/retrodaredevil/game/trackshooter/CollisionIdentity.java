@@ -35,10 +35,21 @@ public enum CollisionIdentity {
 				identity.triggersWith = EnumSet.copyOf(triggers);
 			}
 			// else: triggers is empty and we must have already created an empty collection
+
+			int mask = 0;
+			for(CollisionIdentity trigger : identity.triggersWith){
+				mask |= 1 << trigger.ordinal();
+			}
+			identity.triggersMask = mask;
 		}
 	}
 
 	private Set<CollisionIdentity> triggersWith;
+	/**
+	 * Each bit at the ordinal of an identity in {@link #triggersWith} is set. Initialized in the static block.
+	 * This means there can't be more than 32 identities
+	 */
+	private int triggersMask;
 
 
 	CollisionIdentity(){
@@ -59,10 +70,27 @@ public enum CollisionIdentity {
 		return this != UNKNOWN;
 	}
 
+	/**
+	 * Entities with a projectile identity are usually small and fast so they may be checked with continuous
+	 * collision detection instead of only checking where they are at the end of each frame.
+	 * @return true if this is {@link #FRIENDLY_PROJECTILE} or {@link #ENEMY_PROJECTILE}
+	 */
+	public boolean isProjectile(){
+		return this == FRIENDLY_PROJECTILE || this == ENEMY_PROJECTILE;
+	}
+
 	public Collection<CollisionIdentity> getTriggers(){
 		return triggersWith;
 	}
 
+	/**
+	 * This can be used instead of {@link #getTriggers()} when you want to avoid creating an iterator.
+	 * @return A bitmask where the bit at the ordinal of each identity in {@link #getTriggers()} is set
+	 */
+	public int getTriggersMask(){
+		return triggersMask;
+	}
+
 	/**
 	 * NOTE: If a call with a given parameters returns true, then calling it the other way around returns false:<p>
 	 * if a.triggersCollision(b) then b.triggersCollision(a) == false
@@ -71,7 +99,7 @@ public enum CollisionIdentity {
 	 * @return true if this colliding with collisionIdentity triggers a collision
 	 */
 	public boolean triggersCollision(CollisionIdentity collisionIdentity){
-		return triggersWith.contains(collisionIdentity);
+		return (triggersMask & (1 << collisionIdentity.ordinal())) != 0;
 	}
 	/**
 	 *
@@ -14,6 +14,7 @@ import me.retrodaredevil.game.trackshooter.input.GameInput;
 import me.retrodaredevil.game.trackshooter.render.RenderObject;
 import me.retrodaredevil.game.trackshooter.render.RenderParts;
 import me.retrodaredevil.game.trackshooter.render.Renderer;
+import me.retrodaredevil.game.trackshooter.replay.ReplayOutput;
 import me.retrodaredevil.game.trackshooter.sound.VolumeControl;
 import me.retrodaredevil.game.trackshooter.util.Constants;
 
@@ -25,17 +26,19 @@ public class CreditsScreen extends ScreenAdapter implements UsableScreen {
 	private final RenderParts renderParts;
 	private final AccountObject accountObject;
 	private final VolumeControl volumeControl;
+	private final ReplayOutput replayOutput;
 	private final Stage stage;
 	private final Button backButton;
 	private boolean done = false;
 
-	public CreditsScreen(List<GameInput> gameInputs, RenderObject renderObject, RenderParts renderParts, AccountObject accountObject, VolumeControl volumeControl){
+	public CreditsScreen(List<GameInput> gameInputs, RenderObject renderObject, RenderParts renderParts, AccountObject accountObject, VolumeControl volumeControl, ReplayOutput replayOutput){
 		this.gameInputs = gameInputs;
 		this.gameInput = gameInputs.get(0);
 		this.renderObject = renderObject;
 		this.renderParts = renderParts;
 		this.accountObject = accountObject;
 		this.volumeControl = volumeControl;
+		this.replayOutput = replayOutput;
 		stage = new Stage(new FitViewport(640, 640), renderObject.getBatch());
 		Table table = new Table(renderObject.getUISkin());
 		table.setFillParent(true);
@@ -88,6 +91,6 @@ public class CreditsScreen extends ScreenAdapter implements UsableScreen {
 
 	@Override
 	public UsableScreen createNextScreen() {
-		return new StartScreen(gameInputs, renderObject, renderParts, accountObject, volumeControl);
+		return new StartScreen(gameInputs, renderObject, renderParts, accountObject, volumeControl, replayOutput);
 	}
 }
@@ -27,6 +27,7 @@ import me.retrodaredevil.game.trackshooter.util.Resources;
 import me.retrodaredevil.game.trackshooter.world.Track;
 import me.retrodaredevil.game.trackshooter.world.Tracks;
 import me.retrodaredevil.game.trackshooter.world.World;
+import me.retrodaredevil.game.trackshooter.util.MathUtil;
 
 /**
  * This is the default level getter used all of the time
@@ -47,7 +48,14 @@ public class GameLevelGetter implements LevelGetter {
 	public GameLevelGetter(Collection<? extends Player> players, AchievementHandler achievementHandler){
 		this.players = players;
 		this.achievementHandler = achievementHandler;
-		this.tracks = new Track[] { Tracks.newMazeTrack(), Tracks.newPointyTrack(), Tracks.newPlusTrack(), Tracks.newKingdomTrack(), Tracks.newCircleTrack() };
+		this.tracks = createTracks();
+	}
+
+	/**
+	 * @return A new array of the tracks used by each level. Level n uses the track at index (n - 1) % length
+	 */
+	public static Track[] createTracks(){
+		return new Track[] { Tracks.newMazeTrack(), Tracks.newPointyTrack(), Tracks.newPlusTrack(), Tracks.newKingdomTrack(), Tracks.newCircleTrack() };
 	}
 
 	@Override
@@ -72,7 +80,7 @@ public class GameLevelGetter implements LevelGetter {
 				final boolean isEasy = levelNumber >= 10 && (levelNumber - 2) % 8 == 0; // 10, 18, 26 // galaga level reference
 				final Track track = world.getTrack();
 				for(Player player : players){ // move all players to a random spot
-					float distance = MathUtils.random(track.getTotalDistance());
+					float distance = MathUtil.random(world.getRandom(), track.getTotalDistance());
 					MoveComponent move = player.getMoveComponent();
 					if(move instanceof OnTrackMoveComponent){
 						((OnTrackMoveComponent) move).setDistanceOnTrack(distance);
@@ -94,7 +102,7 @@ public class GameLevelGetter implements LevelGetter {
 				if(levelNumber % 2 == 1){
 					addFunction(new TripleShotPowerupFunction(world));
 				} else if(levelNumber >= 4) { // all even levels >= 4
-					Entity cargoEntity = new CargoShip(world, .8f * MathUtils.randomSign(), MathUtils.random(track.getTotalDistance()));
+					Entity cargoEntity = new CargoShip(world, .8f * MathUtil.randomSign(world.getRandom()), MathUtil.random(world.getRandom(), track.getTotalDistance()));
 					this.addEntity(cargoEntity);
 					final Points points;
 					if(levelNumber >= 12){
@@ -131,8 +139,8 @@ public class GameLevelGetter implements LevelGetter {
 				}
 				final int amount = 4 + (amountLevelNumber / 2); // add a shark every 2 levels
 				final float spacing = world.getTrack().getTotalDistance() / amount;
-				final int waitTimeIndexShift = MathUtils.random(amount);
-				final boolean invertWaitTimeIndex = MathUtils.randomBoolean();
+				final int waitTimeIndexShift = world.getRandom().nextInt(amount + 1);
+				final boolean invertWaitTimeIndex = world.getRandom().nextBoolean();
 				for(int i = 0; i < amount; i++){
 					final int sign = ((i % 2) * 2) - 1; // instead of using Math.pow(-1, i), we use this
 					final float trackDistanceAway = sign * ((i / 2f) * spacing);
@@ -6,11 +6,13 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.controllers.Controller;
 import com.badlogic.gdx.controllers.Controllers;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.Array;
 
 import java.util.ArrayList;
@@ -52,7 +54,9 @@ import me.retrodaredevil.game.trackshooter.render.parts.ArrowRenderer;
 import me.retrodaredevil.game.trackshooter.render.parts.Background;
 import me.retrodaredevil.game.trackshooter.render.parts.OptionMenu;
 import me.retrodaredevil.game.trackshooter.render.parts.Overlay;
+import me.retrodaredevil.game.trackshooter.render.parts.ProfilerOverlay;
 import me.retrodaredevil.game.trackshooter.render.parts.TouchpadRenderer;
+import me.retrodaredevil.game.trackshooter.replay.ReplayOutput;
 import me.retrodaredevil.game.trackshooter.save.SaveObject;
 import me.retrodaredevil.game.trackshooter.sound.OptionValueVolumeControl;
 import me.retrodaredevil.game.trackshooter.sound.VolumeControl;
@@ -65,15 +69,25 @@ import static java.util.Objects.requireNonNull;
 public class GameMain extends Game {
 	/** Should only be used during initialization. Not for static access*/
 	public static final PreferencesGetter SCORE_PREFERENCSE_GETTER = () -> Gdx.app.getPreferences("score");
+	/** The maximum number of milliseconds each frame should spend loading assets */
+	private static final int ASSET_LOAD_MILLIS = 8;
 
 	private final PreferencesGetter scorePreferencesGetter;
 	private final RumbleAnalogControl rumbleAnalogControl;
 	private final AccountObject accountObject;
 	private final InputConfig inputConfig;
 
+	/** The nanoTime that {@link #create()} was called. Used to report startup times */
+	private long createNanos;
+	private Batch batch;
+	private AssetManager assetManager;
+	/** true once every asset loaded in the background has been added to the main skin */
+	private boolean backgroundAssetsAdded = false;
+
 	private RenderObject renderObject;
 	private SaveObject saveObject;
 	private VolumeControl volumeControl;
+	private ReplayOutput replayOutput;
 	private RenderParts renderParts;
 
 	private final PartUpdater controllerUpdater = new PartUpdater();
@@ -101,20 +115,40 @@ public class GameMain extends Game {
 	@Override
 	public void create () {
 //		GdxControllerTester.initialize();
-		Batch batch = new SpriteBatch();
-		Skin skin = new Skin(Gdx.files.internal("skins/main/skin.json"));
-		Resources.loadToSkin(skin);
-		Skin uiSkin = new Skin(Gdx.files.internal("skins/sgx/sgx-ui.json"));
-		Skin arcadeSkin = new Skin(Gdx.files.internal("skins/arcade/arcade-ui.json"));
+		createNanos = TimeUtils.nanoTime();
+		Gdx.graphics.setTitle("Track Shooter");
+		batch = new SpriteBatch();
+		assetManager = new AssetManager();
+		Resources.queueAssets(assetManager);
+		setScreen(new LoadingScreen(assetManager, this::onStartupLoaded, createNanos));
+	}
+
+	/**
+	 * Called once every skin is loaded. Creates everything that depends on the skins
+	 * @return The StartScreen
+	 */
+	private UsableScreen onStartupLoaded(){
+		Skin skin = assetManager.get(Resources.MAIN_SKIN, Skin.class);
+		Skin uiSkin = assetManager.get(Resources.UI_SKIN, Skin.class);
+		Skin arcadeSkin = assetManager.get(Resources.ARCADE_SKIN, Skin.class);
 		renderObject = new RenderObject(batch, skin, uiSkin, arcadeSkin);
 		saveObject = new SaveObject();
 		OptionValue volumeOption = OptionValues.createAnalogRangedOptionValue(0, 1, 1);
 		volumeControl = new OptionValueVolumeControl(volumeOption);
+		OptionValue recordReplaysOption = OptionValues.createBooleanOptionValue(false);
+		replayOutput = () -> recordReplaysOption.getBooleanOptionValue()
+				? Gdx.files.local("replays/" + System.currentTimeMillis() + ".replay").write(false)
+				: null;
+		OptionValue showProfilerOption = OptionValues.createBooleanOptionValue(false);
 		OptionMenu optionMenu = new OptionMenu(renderObject, saveObject, Collections.singletonList(
-				new ImmutableConfigurableObject(new ControlOption("Volume", "The volume percentage", "controls.main.options.volume", volumeOption))
+				new ImmutableConfigurableObject(
+						new ControlOption("Volume", "The volume percentage", "controls.main.options.volume", volumeOption),
+						new ControlOption("Record Replays", "Should each game's input be saved to the replays folder", "controls.main.options.record_replays", recordReplaysOption),
+						new ControlOption("Show Profiler", "Should the time each part of a frame takes be shown during a game", "controls.main.options.show_profiler", showProfilerOption)
+				)
 		));
 		renderParts = new RenderParts(new Background(renderObject), optionMenu,
-				new Overlay(renderObject), new TouchpadRenderer(renderObject), new ArrowRenderer(renderObject), new InputMultiplexer());
+				new Overlay(renderObject), new ProfilerOverlay(renderObject, showProfilerOption), new TouchpadRenderer(renderObject), new ArrowRenderer(renderObject), new InputMultiplexer());
 		{
 			boolean firstRun = true;
 			for (Iterator<Controller> it = new Array.ArrayIterator<>(Controllers.getControllers()); it.hasNext(); ) {
@@ -192,8 +226,8 @@ public class GameMain extends Game {
 		// Load global configuration, not player or control specific
 		optionMenu.loadGlobalConfiguration();
 
-		Gdx.graphics.setTitle("Track Shooter");
-		startScreen();
+		Gdx.app.log("startup", "StartScreen created after " + TimeUtils.timeSinceNanos(createNanos) / 1_000_000 + " ms");
+		return createStartScreen();
 	}
 	private List<UsableGameInput> getPhysicalInputs(RumbleAnalogControl rumbleAnalogControl){
 
@@ -239,6 +273,12 @@ public class GameMain extends Game {
 
 	@Override
 	public void render() {
+		if(!assetManager.isFinished()){
+			assetManager.update(ASSET_LOAD_MILLIS);
+		}
+		if(renderObject != null && !backgroundAssetsAdded){
+			backgroundAssetsAdded = Resources.addLoadedToSkin(assetManager, renderObject.getMainSkin());
+		}
 		controllerUpdater.updateParts(controllerConfig);
 		super.render(); // renders current screen
 //		for(GameInput input : inputs){
@@ -252,15 +292,21 @@ public class GameMain extends Game {
 			setScreen(screen.createNextScreen());
 		}
 	}
-	private void startScreen(){
-		setScreen(new StartScreen(inputs, renderObject, renderParts, accountObject, volumeControl));
+	private UsableScreen createStartScreen(){
+		return new StartScreen(inputs, renderObject, renderParts, accountObject, volumeControl, replayOutput);
 	}
 
 	@Override
 	public void dispose() {
 		super.dispose();
-		renderObject.dispose();
-		renderParts.dispose();
+		if(renderObject != null){
+			Resources.removeLoadedFromSkin(renderObject.getMainSkin());
+		}
+		if(renderParts != null){
+			renderParts.dispose();
+		}
+		batch.dispose();
+		assetManager.dispose(); // disposes the skins and sounds
 		System.out.println("dispose() called on GameMain!");
 	}
 }
@@ -4,11 +4,15 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import me.retrodaredevil.game.trackshooter.account.achievement.AchievementHandler;
 import me.retrodaredevil.game.trackshooter.achievement.DefaultGameEvent;
@@ -20,20 +24,42 @@ import me.retrodaredevil.game.trackshooter.entity.player.Score;
 import me.retrodaredevil.game.trackshooter.level.Level;
 import me.retrodaredevil.game.trackshooter.level.LevelMode;
 import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.PacketListener;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.PlayerInputPacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.prediction.PlayerStatePacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.prediction.PredictedPlayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.prediction.RemotePlayerInput;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.MirroredLevelGetter;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.SnapshotAckPacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.SnapshotPacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.SnapshotReceiver;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.SnapshotSender;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.WorldMirror;
+import me.retrodaredevil.game.trackshooter.profile.FrameProfiler;
+import me.retrodaredevil.game.trackshooter.profile.ProfilerPhase;
 import me.retrodaredevil.game.trackshooter.render.RenderObject;
 import me.retrodaredevil.game.trackshooter.render.RenderParts;
 import me.retrodaredevil.game.trackshooter.render.Renderer;
 import me.retrodaredevil.game.trackshooter.render.parts.PauseMenu;
 import me.retrodaredevil.game.trackshooter.render.viewports.WorldViewport;
+import me.retrodaredevil.game.trackshooter.replay.PlayerInputState;
+import me.retrodaredevil.game.trackshooter.replay.ReplayOutput;
+import me.retrodaredevil.game.trackshooter.replay.ReplayWriter;
 import me.retrodaredevil.game.trackshooter.sound.VolumeControl;
 import me.retrodaredevil.game.trackshooter.world.World;
 
 public class GameScreen implements UsableScreen {
+	/** The amount of time in seconds the world is updated by each step. The world is updated this way zero or more times each frame */
+	public static final float STEP_DELTA = 1 / 120f;
+	/** The maximum frame delta that is simulated so we don't try to catch up after a long frame */
+	private static final float MAX_FRAME_DELTA = 1 / 30f;
 
 //	private final GameInput gameInput;
 	private final List<GameInput> gameInputs;
 	private final GameType gameType;
 	private final List<Player> players = new ArrayList<>(); // elements may be removed // initialized in constructor
+	private final List<PlayerController> playerControllers = new ArrayList<>();
 	private final World world;
 
 	private final RenderObject renderObject;
@@ -42,15 +68,38 @@ public class GameScreen implements UsableScreen {
 	private final PauseMenu pauseMenu;
 	private final AccountObject accountObject;
 	private final VolumeControl volumeControl;
+	private final ReplayOutput replayOutput;
+	private final FrameProfiler profiler;
 
 	private final Multiplayer multiplayer;
+	/** Sends the state of the world to each client or null if we are not hosting a multiplayer game */
+	private final SnapshotSender snapshotSender;
+	/** Rebuilds the state of the world from the host or null if we are not a client in a multiplayer game */
+	private final SnapshotReceiver snapshotReceiver;
+	/** Makes the world look like the host's latest snapshot or null if we are not a client in a multiplayer game */
+	private final WorldMirror worldMirror;
+	private final PacketListener packetListener = this::onPacket;
+	/** The players that we handle and predict. Only used if we are a client in a multiplayer game */
+	private final List<PredictedPlayer> predictedPlayers = new ArrayList<>();
+	/** The players that clients handle by their index in {@link Multiplayer#getPlayers()}. Only used if we are hosting a multiplayer game */
+	private final IntMap<RemotePlayerInput> remoteInputs = new IntMap<>();
+	/** The number of times the world has been updated */
+	private long tick = 0;
 
 	private final Stage stage;
 
 	private boolean shouldExit = false;
+	/** The frame time in seconds that hasn't been simulated yet. Always less than {@link #STEP_DELTA} after {@link #doUpdate(float)} */
+	private float accumulator = 0;
+
+	/** The writer recording this game or null if this game is not being recorded */
+	private ReplayWriter replayWriter = null;
+	/** The last input of each PlayerController in {@link #playerControllers}. Only used when recording */
+	private final List<PlayerInputState> recordedInputs = new ArrayList<>();
+	private int recordedLevelNumber;
 
 	public GameScreen(Multiplayer multiplayer, List<GameInput> gameInputs, RenderObject renderObject, RenderParts renderParts, GameType gameType,
-					  AccountObject accountObject, VolumeControl volumeControl){
+					  AccountObject accountObject, VolumeControl volumeControl, ReplayOutput replayOutput){
 		this.multiplayer = multiplayer;
 		this.gameInputs = gameInputs;
 		this.gameType = gameType;
@@ -58,31 +107,59 @@ public class GameScreen implements UsableScreen {
 		this.renderParts = renderParts;
 		this.accountObject = accountObject;
 		this.volumeControl = volumeControl;
+		this.replayOutput = replayOutput;
 
 		final AchievementHandler passedHandler = gameType == GameType.NORMAL ? accountObject.getAchievementHandler() : AchievementHandler.Defaults.UNSUPPORTED_HANDLER;
-		world = new World(multiplayer, new GameLevelGetter(players, passedHandler), 18, 18, renderObject, new StageCoordinatesConverter());
+		final boolean client = !multiplayer.isHost() && multiplayer.isConnected();
+		if(client){ // everything except our players comes from the host
+			MirroredLevelGetter levelGetter = new MirroredLevelGetter();
+			world = new World(multiplayer, levelGetter, 18, 18, renderObject, new StageCoordinatesConverter(), multiplayer.getWorldSeed());
+			worldMirror = new WorldMirror(world, levelGetter);
+		} else {
+			world = new World(multiplayer, new GameLevelGetter(players, passedHandler), 18, 18, renderObject, new StageCoordinatesConverter(), multiplayer.getWorldSeed());
+			worldMirror = null;
+		}
 		stage = new Stage(new WorldViewport(world), renderObject.getBatch());
+		profiler = renderParts.getProfilerOverlay().getProfiler();
+		world.setProfiler(profiler);
+		snapshotSender = multiplayer.isHost() && multiplayer.isConnected() ? new SnapshotSender(world, multiplayer) : null;
+		snapshotReceiver = client ? new SnapshotReceiver() : null;
 
 		if(gameType == GameType.NORMAL){
 			Collection<? extends Multiplayer.Player> handledPlayers = multiplayer.getHandledPlayers();
 			if(gameInputs.size() > handledPlayers.size()){
 				throw new IllegalArgumentException("gameInputs cannot be bigger than handledPlayers!");
 			}
+			List<Multiplayer.Player> allPlayers = new ArrayList<>(multiplayer.getPlayers());
 			int i = 0;
 			for (Multiplayer.Player multiplayerPlayer : handledPlayers) {
 				GameInput gameInput = gameInputs.get(i);
 				Player player = new Player(world, gameInput::getRumble, passedHandler, i % 2 == 0 ? Player.Type.NORMAL : Player.Type.SNIPER, volumeControl, multiplayerPlayer);
 				players.add(player);
-				player.setEntityController(new PlayerController(world, player, gameInput));
+				PlayerController controller = new PlayerController(world, player, gameInput);
+				playerControllers.add(controller);
+				player.setEntityController(controller);
+				if(client){
+					int index = allPlayers.indexOf(multiplayerPlayer);
+					predictedPlayers.add(new PredictedPlayer(world, player, controller, index));
+					worldMirror.addPredictedPlayer(index, player);
+				}
 				world.addEntity(player);
 				i++;
 			}
-			for(Multiplayer.Player multiplayerPlayer : multiplayer.getNonHandledPlayers()){
+			for(Multiplayer.Player multiplayerPlayer : client ? Collections.<Multiplayer.Player>emptyList() : multiplayer.getNonHandledPlayers()){ // a client mirrors other players
 				Player player = new Player(world, () -> null, AchievementHandler.Defaults.UNSUPPORTED_HANDLER, Player.Type.SNIPER, VolumeControl.Defaults.MUTED, multiplayerPlayer);
 				players.add(player);
+				if(snapshotSender != null){
+					int index = allPlayers.indexOf(multiplayerPlayer);
+					remoteInputs.put(index, new RemotePlayerInput(world, player, multiplayerPlayer, index));
+				}
 				world.addEntity(player);
 			}
 			pauseMenu = new PauseMenu(gameInputs, renderObject, renderParts, () -> setToExit(false));
+			if(multiplayer.getNonHandledPlayers().isEmpty()){ // we can't record players that someone else controls
+				startRecording();
+			}
 			renderParts.getOverlay().setGame(players, world); // only do this for a normal game so it doesn't replace or show the score
 		} else { // assume DEMO_AI
 			if(multiplayer.isConnected()){
@@ -103,16 +180,21 @@ public class GameScreen implements UsableScreen {
 
 	@Override
 	public void render(float delta) {
-		delta = Math.min(delta, 1 / 30f);
+		delta = Math.min(delta, MAX_FRAME_DELTA);
+		renderParts.getProfilerOverlay().update(delta);
+		profiler.beginFrame();
 		doUpdate(delta);
 		doRender(delta);
+		profiler.endFrame();
 
 	}
 	private void doUpdate(float delta){
+		profiler.start(ProfilerPhase.OVERLAY);
 		renderParts.getOverlay().update(delta);
 		if(pauseMenu != null) {
 			pauseMenu.update(delta);
 		}
+		profiler.end(ProfilerPhase.OVERLAY);
 		if(gameType == GameType.DEMO_AI){
 			for(GameInput input : gameInputs){
 				if(input.getBackButton().isJustPressed() || input.getFireButton().isJustPressed() || input.getStartButton().isJustPressed()){
@@ -125,6 +207,7 @@ public class GameScreen implements UsableScreen {
 				return;
 			}
 		}
+		multiplayer.receivePackets(packetListener);
 		if(!multiplayer.isConnected() && !multiplayer.isHost()){
 			setToExit(false);
 			return;
@@ -132,8 +215,71 @@ public class GameScreen implements UsableScreen {
 		if(isPaused() && !multiplayer.isConnected()){
 			return;
 		}
+		for(PlayerController controller : playerControllers){
+			controller.updateInput();
+		}
+		accumulator += delta;
+		while(accumulator >= STEP_DELTA){
+			accumulator -= STEP_DELTA;
+			doStep(STEP_DELTA);
+			if(shouldExit){
+				return;
+			}
+		}
+		world.setRenderAlpha(accumulator / STEP_DELTA);
+	}
+	private void onPacket(Multiplayer.Player sender, Packet packet){
+		if(packet instanceof SnapshotAckPacket){
+			if(snapshotSender != null && sender != null){
+				snapshotSender.onAck(sender, (SnapshotAckPacket) packet);
+			}
+		} else if(packet instanceof SnapshotPacket){
+			if(snapshotReceiver != null && snapshotReceiver.onSnapshot((SnapshotPacket) packet) != null){
+				multiplayer.sendToHost(snapshotReceiver.createAck());
+			}
+		} else if(packet instanceof PlayerInputPacket){
+			PlayerInputPacket inputPacket = (PlayerInputPacket) packet;
+			RemotePlayerInput remoteInput = remoteInputs.get(inputPacket.getPlayerIndex());
+			// a client can only control the players it handles
+			if(remoteInput != null && sender != null && sender.isHandledBySameAs(remoteInput.getMultiplayerPlayer())){
+				remoteInput.onInput(inputPacket);
+			}
+		} else if(packet instanceof PlayerStatePacket){
+			PlayerStatePacket statePacket = (PlayerStatePacket) packet;
+			for(PredictedPlayer predictedPlayer : predictedPlayers){
+				if(predictedPlayer.getPlayerIndex() == statePacket.getPlayerIndex()){
+					predictedPlayer.reconcile(statePacket, STEP_DELTA);
+				}
+			}
+		}
+	}
+	private void doStep(float delta){
+		if(worldMirror != null){
+			worldMirror.update(snapshotReceiver.getLatest());
+		}
+		for(RemotePlayerInput remoteInput : remoteInputs.values()){
+			remoteInput.beforeStep();
+		}
 		world.update(delta);
-
+		if(snapshotSender != null){
+			snapshotSender.update();
+		}
+		for(RemotePlayerInput remoteInput : remoteInputs.values()){
+			PlayerStatePacket statePacket = remoteInput.createStatePacket();
+			if(statePacket != null){
+				multiplayer.sendToPlayer(statePacket, remoteInput.getMultiplayerPlayer());
+			}
+		}
+		for(PredictedPlayer predictedPlayer : predictedPlayers){
+			PlayerInputPacket inputPacket = predictedPlayer.afterStep(tick);
+			if(inputPacket != null){
+				multiplayer.sendToHost(inputPacket);
+			}
+		}
+		tick++;
+		if(replayWriter != null){
+			recordStep();
+		}
 
 		Level level = world.getLevel();
 		LevelMode mode = level.getMode();
@@ -149,8 +295,10 @@ public class GameScreen implements UsableScreen {
 			// Actually, as of 2019.4.27, this should be fixed. I fixed this by ignoring new score changes in PlayerScore
 			// after onGameEnd() is called. This was not my initial plan to fix it this way, but I think it's the simplest and most elegant
 
-			if(score.getLives() > 0){
-				if(player.isRemoved() && mode == LevelMode.NORMAL){
+			// a client's lives come from the host, but only the host knows when a player's game is really over
+			final boolean gameOver = worldMirror == null ? score.getLives() <= 0 : worldMirror.isGameOver(player);
+			if(!gameOver){
+				if(worldMirror == null && player.isRemoved() && mode == LevelMode.NORMAL){
 					level.setMode(LevelMode.RESET);
 				}
 			} else {
@@ -160,6 +308,9 @@ public class GameScreen implements UsableScreen {
 			}
 		}
 		// now players only has players that will appear on screen in the future
+		if(worldMirror != null){ // the host decides when our players respawn and when the game ends
+			return;
+		}
 
 		if(!players.isEmpty()){
 			if(mode == LevelMode.STANDBY){
@@ -185,8 +336,50 @@ public class GameScreen implements UsableScreen {
 			}
 		}
 	}
+	private void startRecording(){
+		try {
+			OutputStream outputStream = replayOutput.createOutputStream();
+			if(outputStream == null){
+				return;
+			}
+			replayWriter = new ReplayWriter(outputStream, world.getSeed(), playerControllers.size());
+			for(PlayerController controller : playerControllers){
+				recordedInputs.add(controller.getLastInput());
+			}
+			recordedLevelNumber = world.getLevel().getNumber();
+			replayWriter.writeLevel(recordedLevelNumber);
+		} catch(IOException e){
+			Gdx.app.error("replay", "Unable to start recording", e);
+			stopRecording();
+		}
+	}
+	private void recordStep(){
+		try {
+			replayWriter.writeTick(recordedInputs);
+			int levelNumber = world.getLevel().getNumber();
+			if(levelNumber != recordedLevelNumber){
+				recordedLevelNumber = levelNumber;
+				replayWriter.writeLevel(levelNumber);
+			}
+		} catch(IOException e){
+			Gdx.app.error("replay", "Unable to record. Stopping recording.", e);
+			stopRecording();
+		}
+	}
+	private void stopRecording(){
+		if(replayWriter == null){
+			return;
+		}
+		try {
+			replayWriter.close();
+		} catch(IOException e){
+			Gdx.app.error("replay", "Unable to finish recording", e);
+		}
+		replayWriter = null;
+	}
 	private Renderer createRenderer(){
 		return new Renderer(renderObject.getBatch(), stage)
+				.setProfiler(profiler)
 				.addRenderable(renderParts.getBackground())
 				.addRenderable(world)
 				.addMainStage() // world should have added this anyway
@@ -194,9 +387,11 @@ public class GameScreen implements UsableScreen {
 				.addRenderable(renderParts.getArrowRenderer())
 				.addRenderable(renderParts.getOptionsMenu())
 				.addRenderable(pauseMenu) // may be null
-				.addRenderable(renderParts.getOverlay());
+				.addRenderable(renderParts.getOverlay())
+				.addRenderable(renderParts.getProfilerOverlay());
 	}
 	private void doRender(float delta){
+		profiler.countEntities(world.getEntities());
 		createRenderer().render(delta);
 
 		new InputFocuser()
@@ -216,6 +411,7 @@ public class GameScreen implements UsableScreen {
 		}
 		shouldExit = true;
 		System.out.println("Exiting game.");
+		stopRecording();
 		for(Player player : players){
 			Score score = player.getScoreObject();
 			score.printOut();
@@ -275,6 +471,7 @@ public class GameScreen implements UsableScreen {
 
 	@Override
 	public void dispose() {
+		stopRecording();
 		world.disposeRenderComponent();
 		stage.dispose();
 		if(pauseMenu != null) {
@@ -292,7 +489,7 @@ public class GameScreen implements UsableScreen {
 		if(!shouldExit){
 			throw new IllegalStateException("Cannot create a StartScreen if we aren't done!");
 		}
-		return new StartScreen(gameInputs, renderObject, renderParts, accountObject, volumeControl);
+		return new StartScreen(gameInputs, renderObject, renderParts, accountObject, volumeControl, replayOutput);
 	}
 
 	public enum GameType {
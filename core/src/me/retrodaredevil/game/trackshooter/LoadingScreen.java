@@ -0,0 +1,93 @@
+package me.retrodaredevil.game.trackshooter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import me.retrodaredevil.game.trackshooter.util.RenderUtil;
+import me.retrodaredevil.game.trackshooter.util.Resources;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The first screen that is shown. This shows a progress bar until every asset that the StartScreen needs is loaded.
+ * It does not use any assets so it can be shown right away.
+ * <p>
+ * Loading happens in {@link AssetManager#update()}, which should be called each frame by whatever owns the AssetManager.
+ */
+public class LoadingScreen extends ScreenAdapter implements UsableScreen {
+	private static final Color BACKGROUND = new Color(0.063f, 0.063f, 0.063f, 1);
+	private static final float BAR_WIDTH = 400, BAR_HEIGHT = 16;
+
+	private final AssetManager assetManager;
+	private final NextScreenCreator nextScreenCreator;
+	/** The nanoTime the game started being created */
+	private final long startNanos;
+	private final Viewport viewport = new FitViewport(640, 640);
+	private final ShapeRenderer renderer = new ShapeRenderer();
+	private boolean firstFrame = true;
+
+	/**
+	 * @param assetManager The AssetManager that the assets from {@link Resources#queueAssets(AssetManager)} are loaded with
+	 * @param nextScreenCreator Creates the next screen after the startup assets are loaded
+	 * @param startNanos The {@link System#nanoTime()} when the game started being created. Used to report the time to the first frame
+	 */
+	public LoadingScreen(AssetManager assetManager, NextScreenCreator nextScreenCreator, long startNanos){
+		this.assetManager = requireNonNull(assetManager);
+		this.nextScreenCreator = requireNonNull(nextScreenCreator);
+		this.startNanos = startNanos;
+	}
+
+	@Override
+	public void render(float delta) {
+		if(firstFrame){
+			firstFrame = false;
+			Gdx.app.log("startup", "First frame after " + (System.nanoTime() - startNanos) / 1_000_000 + " ms");
+		}
+		RenderUtil.clearScreen(BACKGROUND);
+		viewport.apply();
+		renderer.setProjectionMatrix(viewport.getCamera().combined);
+		float x = (viewport.getWorldWidth() - BAR_WIDTH) / 2;
+		float y = (viewport.getWorldHeight() - BAR_HEIGHT) / 2;
+
+		renderer.begin(ShapeRenderer.ShapeType.Filled);
+		renderer.setColor(Color.WHITE);
+		renderer.rect(x, y, BAR_WIDTH * assetManager.getProgress(), BAR_HEIGHT);
+		renderer.end();
+		renderer.begin(ShapeRenderer.ShapeType.Line);
+		renderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+		renderer.end();
+	}
+
+	@Override
+	public void resize(int width, int height) {
+		viewport.update(width, height, true);
+	}
+
+	@Override
+	public void dispose() {
+		renderer.dispose();
+	}
+
+	@Override
+	public boolean isScreenDone() {
+		return Resources.isStartupLoaded(assetManager);
+	}
+
+	@Override
+	public UsableScreen createNextScreen() {
+		if(!isScreenDone()){
+			throw new IllegalStateException("Cannot create the next screen until the startup assets are loaded!");
+		}
+		return nextScreenCreator.createNextScreen();
+	}
+
+	public interface NextScreenCreator {
+		/** Called once after every asset the next screen needs is loaded */
+		UsableScreen createNextScreen();
+	}
+}
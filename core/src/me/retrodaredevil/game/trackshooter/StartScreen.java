@@ -26,6 +26,7 @@ import me.retrodaredevil.game.trackshooter.render.selection.options.PlainActorSi
 import me.retrodaredevil.game.trackshooter.render.selection.options.providers.BasicOptionProvider;
 import me.retrodaredevil.game.trackshooter.render.selection.options.providers.MultiActorOptionProvider;
 import me.retrodaredevil.game.trackshooter.render.selection.tables.PlainTable;
+import me.retrodaredevil.game.trackshooter.replay.ReplayOutput;
 import me.retrodaredevil.game.trackshooter.sound.VolumeControl;
 import me.retrodaredevil.game.trackshooter.util.Constants;
 
@@ -41,6 +42,7 @@ public class StartScreen extends ScreenAdapter implements UsableScreen{
 	private final RenderParts renderParts;
 	private final AccountObject accountObject;
 	private final VolumeControl volumeControl;
+	private final ReplayOutput replayOutput;
 	private UsableScreen nextScreen = null;
 
 	private final Stage uiStage;
@@ -64,7 +66,7 @@ public class StartScreen extends ScreenAdapter implements UsableScreen{
 	private boolean showLeaderboardsDown = false;
 	private float idleTime = 0;
 
-	public StartScreen(List<GameInput> gameInputs, RenderObject renderObject, RenderParts renderParts, AccountObject accountObject, VolumeControl volumeControl){
+	public StartScreen(List<GameInput> gameInputs, RenderObject renderObject, RenderParts renderParts, AccountObject accountObject, VolumeControl volumeControl, ReplayOutput replayOutput){
 		this.gameInputs = Collections.unmodifiableList(new ArrayList<>(gameInputs)); // copy gameInputs for safe keeping
 		this.gameInputPlayerIndex = 0;
 		this.gameInput = gameInputs.get(gameInputPlayerIndex);
@@ -72,6 +74,7 @@ public class StartScreen extends ScreenAdapter implements UsableScreen{
 		this.renderParts = Objects.requireNonNull(renderParts);
 		this.accountObject = accountObject;
 		this.volumeControl = volumeControl;
+		this.replayOutput = replayOutput;
 		this.uiStage = new Stage(new FitViewport(640, 640), renderObject.getBatch());
 
 		final TextButton.TextButtonStyle style = renderObject.getUISkin().get(TextButton.TextButtonStyle.class);
@@ -196,7 +199,7 @@ public class StartScreen extends ScreenAdapter implements UsableScreen{
 				return;
 			}
 			if (creditsButton.isPressed()) {
-				nextScreen = new CreditsScreen(gameInputs, renderObject, renderParts, accountObject, volumeControl);
+				nextScreen = new CreditsScreen(gameInputs, renderObject, renderParts, accountObject, volumeControl, replayOutput);
 				return;
 			}
 			if (optionsDown && !optionsButton.isPressed()) { // just released options button
@@ -278,12 +281,12 @@ public class StartScreen extends ScreenAdapter implements UsableScreen{
 	}
 	private void normalGame(Multiplayer multiplayer){
 		if(nextScreen == null) {
-			nextScreen = new GameScreen(multiplayer, gameInputs, renderObject, renderParts, GameScreen.GameType.NORMAL, accountObject, volumeControl);
+			nextScreen = new GameScreen(multiplayer, gameInputs, renderObject, renderParts, GameScreen.GameType.NORMAL, accountObject, volumeControl, replayOutput);
 		}
 	}
 	private void demoGame(){
 		if(nextScreen == null) {
-			nextScreen = new GameScreen(new DisconnectedMultiplayer(1), gameInputs, renderObject, renderParts, GameScreen.GameType.DEMO_AI, accountObject, volumeControl);
+			nextScreen = new GameScreen(new DisconnectedMultiplayer(1), gameInputs, renderObject, renderParts, GameScreen.GameType.DEMO_AI, accountObject, volumeControl, replayOutput);
 		}
 	}
 
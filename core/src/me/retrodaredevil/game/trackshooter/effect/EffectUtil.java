@@ -1,21 +1,21 @@
 package me.retrodaredevil.game.trackshooter.effect;
 
-import me.retrodaredevil.game.trackshooter.entity.Entity;
-
 import java.util.Collection;
 
 public final class EffectUtil {
 	private EffectUtil(){}
 
 
-	public static float getSpeedMultiplier(Entity entity){
-		Collection<SpeedEffect> effects = entity.getEffects(SpeedEffect.class);
+	/**
+	 * @param effects The effects on an entity
+	 * @return The product of the multiplier of each {@link SpeedEffect} in effects. 1 if there are none
+	 */
+	public static float getSpeedMultiplier(Collection<? extends Effect> effects){
 		float r = 1;
-		if(effects == null){
-			return r;
-		}
-		for(SpeedEffect speedEffect : effects){
-			r *= speedEffect.getSpeedMultiplier();
+		for(Effect effect : effects){
+			if(effect instanceof SpeedEffect){
+				r *= ((SpeedEffect) effect).getSpeedMultiplier();
+			}
 		}
 		return r;
 	}
@@ -7,7 +7,8 @@ package me.retrodaredevil.game.trackshooter.effect;
  */
 public interface SpeedEffect extends Effect{
 	/**
-	 *
+	 * NOTE: This should not change while this effect is on an entity because the entity only calculates its
+	 * {@link me.retrodaredevil.game.trackshooter.entity.Entity#getSpeedMultiplier()} when its effects change.
 	 * @return The number to multiply the speed by. (1 means no change)
 	 */
 	float getSpeedMultiplier();
@@ -2,7 +2,7 @@ package me.retrodaredevil.game.trackshooter.entity;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.utils.Pool;
 
 import me.retrodaredevil.game.trackshooter.CollisionIdentity;
 import me.retrodaredevil.game.trackshooter.entity.movement.FixedVelocityMoveComponent;
@@ -10,17 +10,30 @@ import me.retrodaredevil.game.trackshooter.entity.player.Player;
 import me.retrodaredevil.game.trackshooter.level.LevelEndState;
 import me.retrodaredevil.game.trackshooter.render.components.ImageRenderComponent;
 import me.retrodaredevil.game.trackshooter.util.CannotHitException;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 import me.retrodaredevil.game.trackshooter.world.World;
 
-public class Bullet extends SimpleEntity implements Entity {
+public class Bullet extends SimpleEntity implements Entity, Pool.Poolable {
 
-	private final Entity shooter;
-	private final float shotDistance2; // the shot distance squared
+	/** The pool this bullet was obtained from or null if it was constructed directly */
+	private final EntityPool<Bullet> pool;
+	private final FixedVelocityMoveComponent velocityComponent;
+	private Entity shooter;
+	private float shotDistance2; // the shot distance squared
 
 	private Entity hitEntity = null; // right now this is just used to check if it's null. Maybe use in future // init when hit
 
-	private Vector2 startingLocation = null;
+	private boolean hasStartingLocation = false;
+	private float startingX, startingY;
 
+	private Bullet(World world, EntityPool<Bullet> pool){
+		super(world);
+		this.pool = pool;
+		setHitboxSize(.25f);
+		velocityComponent = new FixedVelocityMoveComponent(this, Vector2.Zero);
+		setMoveComponent(velocityComponent);
+		canRespawn = false;
+	}
 	/**
 	 *
 	 * @param shooter The entity that shot this bullet
@@ -28,13 +41,36 @@ public class Bullet extends SimpleEntity implements Entity {
 	 * @param velocity The velocity of the bullet. It cannot be mutated after the constructor is called
 	 */
 	public Bullet(World world, Entity shooter, Vector2 start, Vector2 velocity, float rotation, float shotDistance, CollisionIdentity collisionIdentity){
-		super(world);
+		this(world, null);
+		init(shooter, start.x, start.y, velocity.x, velocity.y, rotation, shotDistance, collisionIdentity);
+	}
+
+	/**
+	 * Gets a bullet from the world's bullet pool. The returned bullet will be put back in the pool after it is removed.
+	 * <p>
+	 * NOTE: Whatever holds on to the returned bullet should stop using it once {@link #isRemoved()} is true
+	 * @return A bullet that is ready to be added to the world
+	 */
+	public static Bullet obtain(World world, Entity shooter, float x, float y, float velocityX, float velocityY, float rotation, float shotDistance, CollisionIdentity collisionIdentity){
+		EntityPool<Bullet> pool = world.getEntityPool(Bullet.class);
+		if(pool == null){
+			pool = new EntityPool<Bullet>() {
+				@Override
+				protected Bullet newObject() {
+					return new Bullet(world, this);
+				}
+			};
+			world.addEntityPool(Bullet.class, pool);
+		}
+		Bullet bullet = pool.obtain();
+		bullet.init(shooter, x, y, velocityX, velocityY, rotation, shotDistance, collisionIdentity);
+		return bullet;
+	}
+	private void init(Entity shooter, float x, float y, float velocityX, float velocityY, float rotation, float shotDistance, CollisionIdentity collisionIdentity){
 		this.shooter = shooter;
 		this.shotDistance2 = shotDistance * shotDistance;
-		setHitboxSize(.25f);
-		setMoveComponent(new FixedVelocityMoveComponent(this, velocity));
-		setLocation(start, rotation);
-		canRespawn = false;
+		velocityComponent.setVelocity(velocityX, velocityY);
+		setLocation(x, y, rotation);
 		// TODO This may cause bugs in the future when enemies shoot bullets. Maybe provide a better way to change levelEndStateWhenActive
 		levelEndStateWhenActive = collisionIdentity == CollisionIdentity.ENEMY_PROJECTILE ? LevelEndState.CANNOT_END : LevelEndState.CAN_END_SOON;
 		this.collisionIdentity = collisionIdentity; // super.collisionIdentity same thing
@@ -43,22 +79,42 @@ public class Bullet extends SimpleEntity implements Entity {
 	@Override
 	public void beforeSpawn() {
 		super.beforeSpawn();
-		setRenderComponent(new ImageRenderComponent(new Image(world.getMainSkin().getDrawable("bullet")), this, .5f, .5f));
+		if(getRenderComponent() == null) { // the same render component is used each time we are obtained from the pool
+			setRenderComponent(new ImageRenderComponent(world.getDrawables().getDrawable(Resources.Sprite.BULLET), this, .5f, .5f));
+		}
 	}
 
 	@Override
 	public void update(float delta) {
 		super.update(delta);
-		if(startingLocation == null){
-			startingLocation = this.getLocation();
+		if(!hasStartingLocation){
+			startingX = getX();
+			startingY = getY();
+			hasStartingLocation = true;
+		}
+	}
+
+	@Override
+	public void afterRemove() {
+		super.afterRemove();
+		if(pool != null){
+			pool.release(this);
 		}
 	}
 
+	@Override
+	public void reset() {
+		resetForReuse();
+		shooter = null;
+		hitEntity = null;
+		hasStartingLocation = false;
+	}
+
 	public static Bullet createFromEntity(World world, Entity entity, float speed, float directionOffsetDegrees, float shotDistance, CollisionIdentity collisionIdentity){
 		float rotation = entity.getRotation() + directionOffsetDegrees;
-		Vector2 velocity = new Vector2(MathUtils.cosDeg(rotation), MathUtils.sinDeg(rotation));
-		velocity.scl(speed);
-		return new Bullet(world, entity, entity.getLocation(), velocity, rotation, shotDistance, collisionIdentity);
+		return obtain(world, entity, entity.getX(), entity.getY(),
+				speed * MathUtils.cosDeg(rotation), speed * MathUtils.sinDeg(rotation),
+				rotation, shotDistance, collisionIdentity);
 	}
 
 	@Override
@@ -88,7 +144,7 @@ public class Bullet extends SimpleEntity implements Entity {
 	@Override
 	public boolean shouldRemove() {
 		return super.shouldRemove() || hitEntity != null
-				|| (this.startingLocation != null && startingLocation.dst2(getX(), getY()) > shotDistance2);
+				|| (hasStartingLocation && Vector2.dst2(startingX, startingY, getX(), getY()) > shotDistance2);
 	}
 
 	public enum ShotType{
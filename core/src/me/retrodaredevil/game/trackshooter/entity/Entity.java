@@ -31,6 +31,14 @@ public interface Entity extends Renderable, Updateable, CanLevelEnd {
 	float getX();
 	/** @return The y value of the location */
 	float getY();
+	/** @return The x value of the location before the last update. If this hasn't been updated since it spawned, the same as {@link #getX()} */
+	float getPreviousX();
+	/** @return The y value of the location before the last update. If this hasn't been updated since it spawned, the same as {@link #getY()} */
+	float getPreviousY();
+	/** @return The x value that should be used when rendering. Between {@link #getPreviousX()} and {@link #getX()} depending on {@link me.retrodaredevil.game.trackshooter.world.World#getRenderAlpha()} */
+	float getRenderX();
+	/** @return The y value that should be used when rendering. Between {@link #getPreviousY()} and {@link #getY()} depending on {@link me.retrodaredevil.game.trackshooter.world.World#getRenderAlpha()} */
+	float getRenderY();
 	void setLocation(Vector2 location);
 	void setLocation(float x, float y);
 	void setLocation(float x, float y, float rotation);
@@ -38,6 +46,8 @@ public interface Entity extends Renderable, Updateable, CanLevelEnd {
 	/** NOTE: 90 is straight up, 0 is right, 180 is left, 270 is down. (How it should be)
 	 * @return The rotation in degrees */
 	float getRotation();
+	/** @return The rotation in degrees that should be used when rendering. Between the rotation before the last update and {@link #getRotation()} */
+	float getRenderRotation();
 	/** @param rotation The rotation in degrees to set */
 	void setRotation(float rotation);
 
@@ -137,6 +147,8 @@ public interface Entity extends Renderable, Updateable, CanLevelEnd {
 	 * @param effect The effect to be added
 	 */
 	void addEffect(Effect effect);
+	/** @return The product of the multiplier of each {@link me.retrodaredevil.game.trackshooter.effect.SpeedEffect} that is active on the Entity. 1 if there are none */
+	float getSpeedMultiplier();
 
 	/** @return A Collection of items that this Entity has */
 	Collection<Item> getItems();
@@ -0,0 +1,39 @@
+package me.retrodaredevil.game.trackshooter.entity;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A {@link Pool} for short lived entities such as bullets and snake parts.
+ * <p>
+ * Entities should call {@link #release(Entity)} in their {@link Entity#afterRemove()}. Released entities are not
+ * given out again until {@link #flush()} is called, which the World does at the start of each update. This makes
+ * sure that everything still holding on to a removed entity has a chance to see that {@link Entity#isRemoved()} is
+ * true before the entity is spawned again.
+ * <p>
+ * If the entity implements {@link Pool.Poolable}, {@link Pool.Poolable#reset()} is called when it is flushed.
+ * @param <T> The type of the entity
+ */
+public abstract class EntityPool<T extends Entity> extends Pool<T> {
+	private final Array<T> released = new Array<>(false, 16);
+
+	/**
+	 * @param entity The entity that was just removed from the world
+	 */
+	public void release(T entity){
+		if(!entity.isRemoved()){
+			throw new IllegalStateException(entity + " cannot be released until it is removed!");
+		}
+		released.add(entity);
+	}
+
+	/**
+	 * Frees every entity passed to {@link #release(Entity)} since the last call to this method
+	 */
+	public void flush(){
+		if(released.size > 0){
+			freeAll(released);
+			released.clear();
+		}
+	}
+}
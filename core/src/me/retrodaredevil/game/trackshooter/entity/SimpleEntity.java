@@ -1,9 +1,11 @@
 package me.retrodaredevil.game.trackshooter.entity;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import me.retrodaredevil.game.trackshooter.CollisionIdentity;
 import me.retrodaredevil.game.trackshooter.effect.Effect;
+import me.retrodaredevil.game.trackshooter.effect.EffectUtil;
 import me.retrodaredevil.game.trackshooter.entity.movement.MoveComponent;
 import me.retrodaredevil.game.trackshooter.item.Item;
 import me.retrodaredevil.game.trackshooter.level.LevelEndState;
@@ -41,9 +43,19 @@ public class SimpleEntity implements Entity {
 
 	private final Rectangle hitbox; // also stores location data but must retrieve using HitboxUtil
 	private float rotation = 0; // in degrees
+	/** The location at the start of the last update. Used for continuous collision detection and render interpolation */
+	private float previousX, previousY;
+	/** The rotation at the start of the last update. Used for render interpolation */
+	private float previousRotation = 0;
 
 	private final List<Effect> effects = new ArrayList<>();
 	private final List<Item> items = new ArrayList<>();
+	/** The effects of each type that have been asked for. Cleared whenever {@link #effects} changes */
+	private final Map<Class<?>, List<?>> effectsByClass = new HashMap<>();
+	/** The items of each type that have been asked for. Cleared whenever {@link #items} changes */
+	private final Map<Class<?>, List<?>> itemsByClass = new HashMap<>();
+	/** The product of the multiplier of each SpeedEffect in {@link #effects}. Updated whenever {@link #effects} changes */
+	private float speedMultiplier = 1;
 
 	protected SimpleEntity(World world){
 		this.world = world;
@@ -99,6 +111,26 @@ public class SimpleEntity implements Entity {
 		return hitbox.y + (hitbox.height / 2.0f);
 	}
 
+	@Override
+	public float getPreviousX() {
+		return previousX;
+	}
+
+	@Override
+	public float getPreviousY() {
+		return previousY;
+	}
+
+	@Override
+	public float getRenderX() {
+		return MathUtils.lerp(previousX, getX(), world.getRenderAlpha());
+	}
+
+	@Override
+	public float getRenderY() {
+		return MathUtils.lerp(previousY, getY(), world.getRenderAlpha());
+	}
+
 	@Override
 	public Rectangle getHitbox() {
 		return hitbox;
@@ -109,6 +141,11 @@ public class SimpleEntity implements Entity {
 		return rotation;
 	}
 
+	@Override
+	public float getRenderRotation() {
+		return MathUtils.lerpAngleDeg(previousRotation, rotation, world.getRenderAlpha());
+	}
+
 	@Override
 	public void setRotation(float rotation) {
 		this.rotation = rotation;
@@ -163,20 +200,33 @@ public class SimpleEntity implements Entity {
 
 	@Override
 	public void update(float delta) {
+		previousX = getX();
+		previousY = getY();
+		previousRotation = rotation;
+		boolean effectsChanged = false;
 		for(Iterator<Effect> it = effects.iterator(); it.hasNext(); ){
 			Effect effect = it.next();
 			effect.update(delta);
 			if(effect.isDone()){
 				it.remove();
+				effectsChanged = true;
 			}
 		}
+		if(effectsChanged){
+			onEffectsChange();
+		}
+		boolean itemsChanged = false;
 		for(Iterator<Item> it = items.iterator(); it.hasNext(); ){
 			Item item = it.next();
 			item.update(delta);
 			if(item.isUsed()){
 				it.remove();
+				itemsChanged = true;
 			}
 		}
+		if(itemsChanged){
+			itemsByClass.clear();
+		}
 		if (entityController != null) {
 			entityController.update(delta);
 		}
@@ -198,10 +248,34 @@ public class SimpleEntity implements Entity {
 	public void beforeSpawn() {
 		this.removed = false;
 		spawnTimes++;
+		previousX = getX();
+		previousY = getY();
+		previousRotation = rotation;
 		if(!canRespawn && spawnTimes > 1){
 			throw new IllegalStateException(this.toString() + " cannot respawn");
 		}
 	}
+	/**
+	 * Makes this entity act like it was just constructed so it can be spawned again. Only pooled entities should call
+	 * this and subclasses should also reset their own state.
+	 * <p>
+	 * The MoveComponent, RenderComponent, location, and hitbox size are kept.
+	 * @throws IllegalStateException If this entity has not been removed
+	 */
+	protected void resetForReuse(){
+		if(!removed){
+			throw new IllegalStateException(this + " cannot be reset while it is still in the world!");
+		}
+		spawnTimes = 0;
+		forceRemove = false;
+		rotation = 0;
+		entityController = null;
+		effects.clear();
+		items.clear();
+		onEffectsChange();
+		itemsByClass.clear();
+	}
+
 	/**
 	 * By default returns false. It is recommended to call this and isInBounds()
 	 */
@@ -259,11 +333,20 @@ public class SimpleEntity implements Entity {
 	}
 	@Override
 	public <T extends Effect> Collection<T> getEffects(Class<T> clazz) {
-		return Util.getElementsOfClass(effects, clazz);
+		return getCachedElementsOfClass(effects, effectsByClass, clazz);
 	}
 	@Override
 	public void addEffect(Effect effect) {
 		effects.add(effect);
+		onEffectsChange();
+	}
+	@Override
+	public float getSpeedMultiplier() {
+		return speedMultiplier;
+	}
+	private void onEffectsChange(){
+		effectsByClass.clear();
+		speedMultiplier = EffectUtil.getSpeedMultiplier(effects);
 	}
 
 	@Override
@@ -272,11 +355,34 @@ public class SimpleEntity implements Entity {
 	}
 	@Override
 	public <T extends Item> Collection<T> getItems(Class<T> clazz) {
-		return Util.getElementsOfClass(items, clazz);
+		return getCachedElementsOfClass(items, itemsByClass, clazz);
 	}
 	@Override
 	public void addItem(Item item) {
 		items.add(item);
+		itemsByClass.clear();
+	}
+
+	/**
+	 * Finds the elements of the given type the first time they are asked for and returns the same unmodifiable list
+	 * until cache is cleared. Because cache is cleared instead of changed, a returned list can still be iterated over
+	 * while elements are added or removed.
+	 * @param list The effects or items
+	 * @param cache The cache of list that is cleared whenever list changes
+	 * @return An unmodifiable list of each element in list that is an instance of clazz or null if there are none
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T, V> Collection<V> getCachedElementsOfClass(List<T> list, Map<Class<?>, List<?>> cache, Class<V> clazz){
+		if(list.isEmpty()){
+			return null;
+		}
+		List<?> r = cache.get(clazz);
+		if(r == null){
+			Collection<V> elements = Util.getElementsOfClass(list, clazz);
+			r = elements == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(elements));
+			cache.put(clazz, r);
+		}
+		return r.isEmpty() ? null : (Collection<V>) r;
 	}
 
 	@Override
@@ -1,6 +1,5 @@
 package me.retrodaredevil.game.trackshooter.entity.enemies;
 
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 
 import me.retrodaredevil.game.trackshooter.CollisionIdentity;
 import me.retrodaredevil.game.trackshooter.entity.Enemy;
@@ -9,6 +8,7 @@ import me.retrodaredevil.game.trackshooter.entity.movement.OnTrackMoveComponent;
 import me.retrodaredevil.game.trackshooter.entity.movement.TravelRotateVelocityOnTrackMoveComponent;
 import me.retrodaredevil.game.trackshooter.level.LevelEndState;
 import me.retrodaredevil.game.trackshooter.render.components.ImageRenderComponent;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 import me.retrodaredevil.game.trackshooter.world.World;
 
 public class Sniper extends SimpleEntity implements Enemy {
@@ -26,7 +26,7 @@ public class Sniper extends SimpleEntity implements Enemy {
 	@Override
 	public void beforeSpawn() {
 		super.beforeSpawn();
-		setRenderComponent(new ImageRenderComponent(new Image(world.getMainSkin().getDrawable("sniper")), this, .6f, .6f));
+		setRenderComponent(new ImageRenderComponent(world.getDrawables().getDrawable(Resources.Sprite.SNIPER), this, .6f, .6f));
 
 		OnTrackMoveComponent moveComponent = new TravelRotateVelocityOnTrackMoveComponent(world, this);
 		moveComponent.setDistanceOnTrack(world.getTrack().getTotalDistance() / 2.0f);
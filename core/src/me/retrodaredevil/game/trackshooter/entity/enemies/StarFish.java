@@ -1,7 +1,6 @@
 package me.retrodaredevil.game.trackshooter.entity.enemies;
 
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 
 import me.retrodaredevil.game.trackshooter.CollisionIdentity;
 import me.retrodaredevil.game.trackshooter.account.achievement.AchievementHandler;
@@ -13,6 +12,8 @@ import me.retrodaredevil.game.trackshooter.entity.movement.TravelVelocityOnTrack
 import me.retrodaredevil.game.trackshooter.level.LevelEndState;
 import me.retrodaredevil.game.trackshooter.render.components.ImageRenderComponent;
 import me.retrodaredevil.game.trackshooter.world.World;
+import me.retrodaredevil.game.trackshooter.util.MathUtil;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 
 public class StarFish extends SimpleEntity implements Enemy {
 	/** Cannot flip direction twice within this time. (In seconds)*/
@@ -47,8 +48,8 @@ public class StarFish extends SimpleEntity implements Enemy {
 	@Override
 	public void beforeSpawn() {
 		super.beforeSpawn();
-		moveComponent.getTravelVelocitySetter().setVelocity(MathUtils.randomSign() * speed);
-		ImageRenderComponent renderComponent = new ImageRenderComponent(new Image(world.getMainSkin().getDrawable("starfish")), this, .6f, .6f);
+		moveComponent.getTravelVelocitySetter().setVelocity(MathUtil.randomSign(world.getRandom()) * speed);
+		ImageRenderComponent renderComponent = new ImageRenderComponent(world.getDrawables().getDrawable(Resources.Sprite.STARFISH), this, .6f, .6f);
 		renderComponent.setFacingDirection(0);
 		setRenderComponent(renderComponent);
 //		moveComponent.setDistanceOnTrack(world.getTrack().getTotalDistance() * MathUtils.random());
@@ -1,6 +1,5 @@
 package me.retrodaredevil.game.trackshooter.entity.enemies.shark;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 import me.retrodaredevil.game.trackshooter.CollisionIdentity;
@@ -13,6 +12,7 @@ import me.retrodaredevil.game.trackshooter.render.components.SharkRenderComponen
 import me.retrodaredevil.game.trackshooter.util.EntityUtil;
 import me.retrodaredevil.game.trackshooter.util.Resources;
 import me.retrodaredevil.game.trackshooter.world.World;
+import me.retrodaredevil.game.trackshooter.util.MathUtil;
 
 public class Shark extends SimpleEntity implements Enemy, Entity {
 	private static final float VELOCITY_SPEED = 5; // units per second
@@ -129,11 +129,11 @@ public class Shark extends SimpleEntity implements Enemy, Entity {
 			wantedComponent = wantedComponent.getNextComponent();
 		}
 		SpinMoveComponent spin;
-		float spinTime =  1.75f + .5f * MathUtils.random();
+		float spinTime =  1.75f + .5f * world.getRandom().nextFloat();
 		if(lastSpin != null){
 			spin = new SpinMoveComponent(world, spinTime, this, lastSpin.getRotationalVelocity() * -1);
 		} else {
-			spin = new SpinMoveComponent(world, spinTime, this, 360 * 2 * MathUtils.randomSign());
+			spin = new SpinMoveComponent(world, spinTime, this, 360 * 2 * MathUtil.randomSign(world.getRandom()));
 		}
 		spin.setNextComponent(wantedComponent);
 		this.setMoveComponent(spin);
@@ -167,6 +167,10 @@ public class Shark extends SimpleEntity implements Enemy, Entity {
 
 	}
 
+	/** @return The number of times this has to be hit before it dies when it is not spinning */
+	public int getLives(){
+		return lives;
+	}
 
 	@Override
 	public boolean shouldRemove() {
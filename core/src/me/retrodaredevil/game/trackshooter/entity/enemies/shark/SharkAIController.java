@@ -1,5 +1,7 @@
 package me.retrodaredevil.game.trackshooter.entity.enemies.shark;
 
+import com.badlogic.gdx.math.Vector2;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -23,6 +25,7 @@ public class SharkAIController implements EntityController {
 
 	private final float trackDistanceAway;
 	private final float timeMultiplier;
+	private final Vector2 temp = new Vector2();
 
 	/**
 	 *
@@ -50,9 +53,9 @@ public class SharkAIController implements EntityController {
 			offset *= timeMultiplier;
 			Float averageDistance = getAverageDistance(world.getTrack());
 			if(averageDistance != null) {
-				pointMove.setTargetPosition(world.getTrack().getDesiredLocation(averageDistance + trackDistanceAway + (float) offset));
+				pointMove.setTargetPosition(world.getTrack().getDesiredLocation(averageDistance + trackDistanceAway + (float) offset, temp));
 			} else {
-				pointMove.setTargetPosition(world.getTrack().getDesiredLocation(trackDistanceAway + (float) offset));
+				pointMove.setTargetPosition(world.getTrack().getDesiredLocation(trackDistanceAway + (float) offset, temp));
 			}
 //			pointMove.setTarget(world.getTrack(), target, trackDistanceAway + (float) offset);
 		}
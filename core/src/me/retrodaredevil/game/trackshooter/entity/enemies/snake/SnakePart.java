@@ -1,7 +1,7 @@
 package me.retrodaredevil.game.trackshooter.entity.enemies.snake;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.utils.Pool;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +13,7 @@ import me.retrodaredevil.game.trackshooter.entity.DifficultEntity;
 import me.retrodaredevil.game.trackshooter.entity.Enemy;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
 import me.retrodaredevil.game.trackshooter.entity.EntityDifficulty;
+import me.retrodaredevil.game.trackshooter.entity.EntityPool;
 import me.retrodaredevil.game.trackshooter.entity.SimpleEntity;
 import me.retrodaredevil.game.trackshooter.entity.movement.OnTrackMoveComponent;
 import me.retrodaredevil.game.trackshooter.entity.movement.SmartSightMoveComponent;
@@ -22,6 +23,7 @@ import me.retrodaredevil.game.trackshooter.entity.player.Player;
 import me.retrodaredevil.game.trackshooter.level.CanLevelEnd;
 import me.retrodaredevil.game.trackshooter.level.LevelEndState;
 import me.retrodaredevil.game.trackshooter.render.components.ImageRenderComponent;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 import me.retrodaredevil.game.trackshooter.world.World;
 
 /**
@@ -36,20 +38,24 @@ import me.retrodaredevil.game.trackshooter.world.World;
  * you should not change the target unless you are making sure it is (0, 0) since this SnakePart would need
  * to reset to its starting position.
  */
-public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
+public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity, Pool.Poolable {
 	private static final float HITBOX_SIZE_RATIO = .625f; // whenever the size is set, it's hitbox size will be multiplied by this
 	private static final float DONE_GOING_TO_START_DISTANCE2 = 3 * 3;
 
 	private static final float MIN_SPEED = 6;
 
-	private final EntityDifficulty difficulty;
+	/** The pool this part was obtained from or null if it was constructed directly */
+	private final EntityPool<SnakePart> pool;
+	private EntityDifficulty difficulty;
 	private final SmoothTravelMoveComponent smoothTravel;
-	private ImageRenderComponent renderComponent; // initialized before spawning
+	private ImageRenderComponent renderComponent; // initialized before spawning the first time
 	private SmartSightMoveComponent smartSightCache = null; // will use smoothTravel
 	private SmoothOppositePositionTarget smoothOppositeCache = null;
 
 	private SnakePart inFront = null; // the part in front of us
 	private SnakePart behind = null;   // the part behind us
+	/** Shared with every part we are connected to. Updated in follow() */
+	private SnakeBody body = new SnakeBody(this);
 
 	private float followDistance = 0; // set when setSize() is called
 
@@ -57,8 +63,9 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 
 
 
-	public SnakePart(World world, EntityDifficulty difficulty){
+	private SnakePart(World world, EntityPool<SnakePart> pool, EntityDifficulty difficulty){
 		super(world);
+		this.pool = pool;
 		this.difficulty = difficulty;
 
 		this.smoothTravel = new SmoothTravelMoveComponent(this, Vector2.Zero, 0, 0); // values that are 0 will be reset
@@ -69,13 +76,37 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 
 		this.follow(null);
 	}
+	public SnakePart(World world, EntityDifficulty difficulty){
+		this(world, null, difficulty);
+	}
+
+	/**
+	 * Gets a SnakePart from the world's SnakePart pool. The returned part will be put back in the pool after it is removed.
+	 * @return A SnakePart that isn't following anything
+	 */
+	public static SnakePart obtain(World world, EntityDifficulty difficulty){
+		EntityPool<SnakePart> pool = world.getEntityPool(SnakePart.class);
+		if(pool == null){
+			pool = new EntityPool<SnakePart>() {
+				@Override
+				protected SnakePart newObject() {
+					return new SnakePart(world, this, difficulty);
+				}
+			};
+			world.addEntityPool(SnakePart.class, pool);
+		}
+		SnakePart part = pool.obtain();
+		part.difficulty = difficulty;
+		return part;
+	}
 
 	@Override
 	public void beforeSpawn() {
 		super.beforeSpawn();
-		this.renderComponent = new ImageRenderComponent(new Image(world.getMainSkin().getDrawable("snake_part")), this, 0, 0); // width and height will be changed later
-		setRenderComponent(renderComponent);
-
+		if(renderComponent == null) { // the same render component is used each time we are obtained from the pool
+			this.renderComponent = new ImageRenderComponent(world.getDrawables().getDrawable(Resources.Sprite.SNAKE_PART), this, 0, 0); // width and height will be changed later
+			setRenderComponent(renderComponent);
+		}
 	}
 
 	/**
@@ -89,7 +120,7 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 
 		SnakePart last = null;
 		for(int i = 0; i < amount; i++){
-			SnakePart part = new SnakePart(world, difficulty);
+			SnakePart part = obtain(world, difficulty);
 			part.follow(last);
 			r.add(part);
 
@@ -174,6 +205,9 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 
 	/** @return The number of SnakeParts that are "behind" us or that are "following" us */
 	public int getNumberBehind(){
+		if(inFront == null){
+			return body.size;
+		}
 		int r = 0;
 		SnakePart part = this;
 		while(part != null){
@@ -183,18 +217,10 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 		return r;
 	}
 	public SnakePart getHead(){
-		SnakePart head = this;
-		while(head.inFront != null){
-			head = head.inFront;
-		}
-		return head;
+		return body.head;
 	}
 	public SnakePart getTail(){
-		SnakePart tail = this;
-		while(tail.behind != null){
-			tail = tail.behind;
-		}
-		return tail;
+		return body.tail;
 	}
 
 	@Override
@@ -211,6 +237,7 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 				SnakePart currentlyInFront = inFront;
 				this.inFront = null;
 				currentlyInFront.leadPart(null); // make sure the part we are inFront knows we are detaching
+				SnakeBody.split(currentlyInFront, this);
 			}
 //			setMoveComponent(returnToStart);
 //			setMoveComponent(smoothTravel);
@@ -221,9 +248,19 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 		if(inFront == snakePart){
 			return;
 		}
+		if(snakePart.body == body){
+			throw new IllegalArgumentException("Cannot follow a part of our own snake!");
+		}
+		if(inFront != null){
+			follow(null);
+		}
+		if(snakePart.behind != null && snakePart.behind != this){
+			snakePart.leadPart(null);
+		}
 
 		this.inFront = snakePart;
 		snakePart.leadPart(this); // the SnakePart in front of us should "lead" us
+		SnakeBody.join(snakePart, this);
 		setMoveComponent(new SnakeFollowMoveComponent(this, inFront, .5f));
 	}
 
@@ -256,7 +293,7 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 		 */
 		if(this.isHead()){
 			// ==== Calculate velocity and size ====
-			int numberParts = this.getNumberBehind() + 1; // add one because getNumberBehind() doesn't include head
+			int numberParts = body.size + 1; // the same as getNumberBehind() + 1
 			updateSize(numberParts);
 			updateSpeedAndRotation(numberParts);
 		} else {
@@ -312,7 +349,7 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 	@Override
 	public void onHit(Entity other)  {
 		if(other.getCollisionIdentity() == CollisionIdentity.POWERUP){ // eat it!!
-			SnakePart newTail = new SnakePart(world, difficulty);
+			SnakePart newTail = obtain(world, difficulty);
 			world.getLevel().addEntity(newTail);
 			newTail.follow(getTail());
 
@@ -361,6 +398,16 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 		super.afterRemove();
 		leadPart(null);
 		follow(null);
+		if(pool != null){
+			pool.release(this);
+		}
+	}
+
+	@Override
+	public void reset() {
+		resetForReuse();
+		hit = false;
+		followDistance = 0; // make sure the size is set again
 	}
 
 	@Override
@@ -381,4 +428,85 @@ public class SnakePart extends SimpleEntity implements Enemy, DifficultEntity {
 		// let the DEMO_AI control this
 	}
 
+	/**
+	 * Keeps track of the head, tail and number of parts in a snake so they don't have to be found by walking the
+	 * snake. Every part that is connected shares the same SnakeBody.
+	 * <p>
+	 * When two snakes are joined or a snake is split, only the parts of the smaller snake are given a different body
+	 */
+	private static final class SnakeBody {
+		private SnakePart head;
+		private SnakePart tail;
+		private int size;
+
+		private SnakeBody(SnakePart part){
+			head = part;
+			tail = part;
+			size = 1;
+		}
+
+		/**
+		 * Called right after backHead starts following frontTail
+		 * @param frontTail The tail of the snake in front
+		 * @param backHead The head of the snake that is now following frontTail
+		 */
+		private static void join(SnakePart frontTail, SnakePart backHead){
+			SnakeBody front = frontTail.body;
+			SnakeBody back = backHead.body;
+			if(front.size >= back.size){
+				setBody(backHead, false, front);
+				front.tail = back.tail;
+				front.size += back.size;
+			} else {
+				setBody(frontTail, true, back);
+				back.head = front.head;
+				back.size += front.size;
+			}
+		}
+
+		/**
+		 * Called right after backHead stops following frontTail
+		 * @param frontTail The part that is now the tail of the snake in front
+		 * @param backHead The part that is now the head of the snake that was behind
+		 */
+		private static void split(SnakePart frontTail, SnakePart backHead){
+			SnakeBody body = frontTail.body;
+			SnakePart front = frontTail, back = backHead;
+			while(true){ // walk both ways until we find the smaller snake
+				front = front.inFront;
+				if(front == null){
+					SnakeBody frontBody = new SnakeBody(frontTail);
+					frontBody.head = body.head;
+					frontBody.size = setBody(frontTail, true, frontBody);
+					body.head = backHead;
+					body.size -= frontBody.size;
+					return;
+				}
+				back = back.behind;
+				if(back == null){
+					SnakeBody backBody = new SnakeBody(backHead);
+					backBody.tail = body.tail;
+					backBody.size = setBody(backHead, false, backBody);
+					body.tail = frontTail;
+					body.size -= backBody.size;
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Sets the body of start and every part in front of or behind start
+		 * @return The number of parts whose body was set
+		 */
+		private static int setBody(SnakePart start, boolean towardsHead, SnakeBody body){
+			int size = 0;
+			SnakePart part = start;
+			while(part != null){
+				part.body = body;
+				size++;
+				part = towardsHead ? part.inFront : part.behind;
+			}
+			return size;
+		}
+	}
 }
@@ -1,6 +1,5 @@
 package me.retrodaredevil.game.trackshooter.entity.friendly;
 
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 
 import me.retrodaredevil.game.trackshooter.CollisionIdentity;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
@@ -10,6 +9,7 @@ import me.retrodaredevil.game.trackshooter.entity.movement.OnTrackMoveComponent;
 import me.retrodaredevil.game.trackshooter.entity.movement.TravelVelocityMoveComponent;
 import me.retrodaredevil.game.trackshooter.entity.movement.TravelVelocityOnTrackMoveComponent;
 import me.retrodaredevil.game.trackshooter.render.components.ImageRenderComponent;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 import me.retrodaredevil.game.trackshooter.world.World;
 
 /**
@@ -38,7 +38,7 @@ public class CargoShip extends SimpleEntity {
 	@Override
 	public void beforeSpawn() {
 		super.beforeSpawn();
-		setRenderComponent(new ImageRenderComponent(new Image(world.getMainSkin().getDrawable("cargo_ship")), this, 1.0f, 1.0f));
+		setRenderComponent(new ImageRenderComponent(world.getDrawables().getDrawable(Resources.Sprite.CARGO_SHIP), this, 1.0f, 1.0f));
 	}
 
 	@Override
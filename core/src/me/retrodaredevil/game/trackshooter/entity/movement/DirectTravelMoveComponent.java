@@ -6,7 +6,7 @@ import me.retrodaredevil.game.trackshooter.util.MathUtil;
 import me.retrodaredevil.game.trackshooter.world.World;
 
 public class DirectTravelMoveComponent extends SimpleMoveComponent {
-	private static final Vector2 temp = new Vector2();
+	private final Vector2 temp = new Vector2();
 
 	private final Entity entity;
 	private final Vector2 target = new Vector2();
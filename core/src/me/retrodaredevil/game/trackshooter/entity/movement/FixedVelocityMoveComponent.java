@@ -21,15 +21,22 @@ public class FixedVelocityMoveComponent extends SimpleMoveComponent {
 		this.velocity.set(velocity);
 	}
 
+	/**
+	 * Should only be used when the entity is being reused
+	 * @param x The amount to move in the x direction per second
+	 * @param y The amount to move in the y direction per second
+	 */
+	public void setVelocity(float x, float y){
+		velocity.set(x, y);
+	}
+
 	@Override
 	protected void onStart() {
 	}
 
 	@Override
 	public void onUpdate(float delta) {
-		Vector2 current = entity.getLocation();
-		current.add(velocity.x * delta, velocity.y * delta);
-		entity.setLocation(current);
+		entity.setLocation(entity.getX() + velocity.x * delta, entity.getY() + velocity.y * delta);
 	}
 
 	@Override
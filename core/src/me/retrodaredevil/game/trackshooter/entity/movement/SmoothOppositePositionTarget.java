@@ -10,6 +10,7 @@ public class SmoothOppositePositionTarget extends NestedComponentMoveComponent i
 	private final World world;
 	private final Entity target;
 	private final SmoothTravelMoveComponent smoothTravel;
+	private final Vector2 temp = new Vector2();
 
 	/**
 	 *
@@ -37,7 +38,7 @@ public class SmoothOppositePositionTarget extends NestedComponentMoveComponent i
 			OnTrackMoveComponent trackMove = (OnTrackMoveComponent) targetMove;
 			float position = trackMove.getDistanceOnTrack();
 			Track track = world.getTrack();
-			Vector2 target = track.getDesiredLocation(position + track.getTotalDistance() / 2f);
+			Vector2 target = track.getDesiredLocation(position + track.getTotalDistance() / 2f, temp);
 			smoothTravel.setTargetPosition(target);
 		} else {
 			throw new IllegalStateException("target's MoveComponent must be an OnTrackMoveComponent");
@@ -2,7 +2,6 @@ package me.retrodaredevil.game.trackshooter.entity.movement;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import me.retrodaredevil.game.trackshooter.effect.EffectUtil;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
 import me.retrodaredevil.game.trackshooter.util.MathUtil;
 import me.retrodaredevil.game.trackshooter.util.VelocityHandler;
@@ -11,7 +10,7 @@ import me.retrodaredevil.game.trackshooter.world.World;
 
 public class SmoothTravelMoveComponent extends SimpleMoveComponent implements VelocityTargetPositionMoveComponent, TravelVelocitySetterMoveComponent,
 		RotationalVelocityMoveComponent, RotationalVelocityMultiplierSetterMoveComponent {
-	private static final Vector2 temp = new Vector2();
+	private final Vector2 temp = new Vector2();
 
 	private final Entity entity;
 	private final Vector2 target = new Vector2();
@@ -101,7 +100,7 @@ public class SmoothTravelMoveComponent extends SimpleMoveComponent implements Ve
 
 	@Override
 	public float getTravelVelocity() {
-		return speedHandler.getVelocity() * EffectUtil.getSpeedMultiplier(entity);
+		return speedHandler.getVelocity() * entity.getSpeedMultiplier();
 	}
 
 	@Override
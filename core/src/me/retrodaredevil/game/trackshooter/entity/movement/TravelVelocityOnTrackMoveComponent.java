@@ -2,7 +2,6 @@ package me.retrodaredevil.game.trackshooter.entity.movement;
 
 import com.badlogic.gdx.math.Vector2;
 
-import me.retrodaredevil.game.trackshooter.effect.EffectUtil;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
 import me.retrodaredevil.game.trackshooter.util.Constants;
 import me.retrodaredevil.game.trackshooter.util.VelocityHandler;
@@ -16,6 +15,7 @@ public class TravelVelocityOnTrackMoveComponent extends SimpleMoveComponent
 	protected final Entity entity;
 
 	private float distance = 0; // total distance
+	private final Vector2 temp = new Vector2();
 
 	private final VelocityHandler travelVelocityHandler = new VelocityHandler(Constants.TRAVEL_VELOCITY_SET_GOTO_DEADBAND);
 
@@ -37,12 +37,12 @@ public class TravelVelocityOnTrackMoveComponent extends SimpleMoveComponent
 		updateLocation();
 	}
 	private void updateLocation(){
-		entity.setLocation(world.getTrack().getDesiredLocation(distance));
+		entity.setLocation(world.getTrack().getDesiredLocation(distance, temp));
 	}
 
 	@Override
 	public Vector2 getCorrectLocation() {
-		return world.getTrack().getDesiredLocation(distance);
+		return world.getTrack().getDesiredLocation(distance, new Vector2());
 	}
 
 	@Override
@@ -59,7 +59,7 @@ public class TravelVelocityOnTrackMoveComponent extends SimpleMoveComponent
 	public float getDistanceOnTrack(){ return distance; }
 
 	@Override
-	public float getTravelVelocity(){ return travelVelocityHandler.getVelocity() * EffectUtil.getSpeedMultiplier(entity); }
+	public float getTravelVelocity(){ return travelVelocityHandler.getVelocity() * entity.getSpeedMultiplier(); }
 	@Override
 	public VelocitySetter getTravelVelocitySetter() {
 		return travelVelocityHandler;
@@ -2,9 +2,6 @@ package me.retrodaredevil.game.trackshooter.entity.player;
 
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 
 import me.retrodaredevil.game.trackshooter.CollisionIdentity;
@@ -17,11 +14,13 @@ import me.retrodaredevil.game.trackshooter.entity.SimpleEntity;
 import me.retrodaredevil.game.trackshooter.level.Level;
 import me.retrodaredevil.game.trackshooter.level.LevelMode;
 import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
 import me.retrodaredevil.game.trackshooter.render.components.ImageRenderComponent;
 import me.retrodaredevil.game.trackshooter.sound.VolumeControl;
 import me.retrodaredevil.game.trackshooter.util.CannotHitException;
 import me.retrodaredevil.game.trackshooter.util.Constants;
 import me.retrodaredevil.game.trackshooter.util.MathUtil;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 import me.retrodaredevil.game.trackshooter.world.World;
 
 import java.util.*;
@@ -72,12 +71,16 @@ public class Player extends SimpleEntity {
 	public void beforeSpawn() {
 		super.beforeSpawn();
 		assert !hit : "afterRemove() didn't set hit to false!";
-		setRenderComponent(new ImageRenderComponent(new Image(playerType.getDrawable(world.getMainSkin())), this, .8f, .8f));
+		setRenderComponent(new ImageRenderComponent(playerType.getDrawable(world.getRenderObject()), this, .8f, .8f));
 	}
 
 	public Score getScoreObject(){
 		return score;
 	}
+	/** @return The multiplayer player that controls this player */
+	public Multiplayer.Player getMultiplayerPlayer(){
+		return multiplayerPlayer;
+	}
 
 	@Override
 	public void onHit(Entity other) {
@@ -92,6 +95,14 @@ public class Player extends SimpleEntity {
 		score.onDeath(other);
 	}
 
+	/**
+	 * Used by a client when the host says this player was hit, since collisions are only checked by the host
+	 */
+	public void onHostHit(){
+		hit = true;
+		score.onDeath(null);
+	}
+
 	@Override
 	public void afterRemove() {
 		super.afterRemove();
@@ -158,9 +169,9 @@ public class Player extends SimpleEntity {
 				break;
 			case SHOT_GUN:
 				for(int i = 0; i < SHOT_GUN_BULLETS; i++){
-					float rotation = (MathUtils.random() * 2.0f * SHOT_GUN_RANGE_DEGREES) - SHOT_GUN_RANGE_DEGREES;
+					float rotation = (world.getRandom().nextFloat() * 2.0f * SHOT_GUN_RANGE_DEGREES) - SHOT_GUN_RANGE_DEGREES;
 					Bullet shotBullet = Bullet.createFromEntity(world, this, Constants.SHOT_GUN_BULLET_SPEED, rotation,
-							SHOT_GUN_DISTANCE + MathUtils.random(SHOT_GUN_RANDOM_EXTEND_RANGE), collisionIdentity);
+							SHOT_GUN_DISTANCE + MathUtil.random(world.getRandom(), SHOT_GUN_RANDOM_EXTEND_RANGE), collisionIdentity);
 					bullets.add(shotBullet);
 				}
 				break;
@@ -168,13 +179,13 @@ public class Player extends SimpleEntity {
 				final float speed = Constants.BULLET_SPEED;
 				final float SPACE_BETWEEN = 360.0f / FULL_BULLETS;
 				float offset = (float) ((world.getTimeMillis() / 30.0) % 360.0);
-				offset += SPACE_BETWEEN * MathUtils.random(FULL_BULLETS); // make it so the first bullet is random
+				offset += SPACE_BETWEEN * world.getRandom().nextInt(FULL_BULLETS + 1); // make it so the first bullet is random
 				for(int i = 0; i < FULL_BULLETS; i++){
 					float rotation = i * SPACE_BETWEEN;
 					rotation += offset;
 					rotation = MathUtil.mod(rotation, 360);
-					Bullet fullBullet = new Bullet(world, this, this.getLocation(),
-							new Vector2(speed * MathUtils.cosDeg(rotation), speed * MathUtils.sinDeg(rotation)),
+					Bullet fullBullet = Bullet.obtain(world, this, getX(), getY(),
+							speed * MathUtils.cosDeg(rotation), speed * MathUtils.sinDeg(rotation),
 							rotation, BULLET_DISTANCE, collisionIdentity);
 					bullets.add(fullBullet);
 				}
@@ -196,17 +207,26 @@ public class Player extends SimpleEntity {
 		shotsList.add(bullets);
 
 		if(!volumeControl.isMuted()) {
-			world.getMainSkin().get("bullet", Sound.class).play(volumeControl.getVolume(), 4, 0);
+			Sound sound = world.getMainSkin().optional("bullet", Sound.class); // null if it hasn't loaded yet
+			if(sound != null){
+				sound.play(volumeControl.getVolume(), 4, 0);
+			}
 		}
 		getScoreObject().onShot(bullets.size());
 		return bullets;
 	}
 
 	private boolean canShootBullet(Bullet.ShotType shotType) {
+		if(!world.isHost()){ // only the host's bullets can hit things and they are sent to us
+			return false;
+		}
 		Level level = world.getLevel();
 		if(level.getMode() != LevelMode.NORMAL || level.isEndingSoon()){
 			return false;
 		}
+		if(score.getLives() <= 0){ // we are removed next update and our game may have already ended
+			return false;
+		}
 		updateActive();
 		int max;
 		int amount = 0;
@@ -238,6 +258,11 @@ public class Player extends SimpleEntity {
 			for(ListIterator<List<Bullet>> it = shotsList.listIterator(); it.hasNext(); ){
 				List<Bullet> shot = it.next();
 				World.updateEntityList(shot);
+				for(Iterator<Bullet> bulletIt = shot.iterator(); bulletIt.hasNext(); ){
+					if(bulletIt.next().getShooter() != this){ // pooled bullets may have been reused by someone else
+						bulletIt.remove();
+					}
+				}
 				if(shot.isEmpty()){ // remove the shot if all the bullets were removed
 					it.remove();
 				}
@@ -247,15 +272,15 @@ public class Player extends SimpleEntity {
 
 
 	public enum Type {
-		NORMAL("player"), SNIPER("sniper");
+		NORMAL(Resources.Sprite.PLAYER), SNIPER(Resources.Sprite.SNIPER);
 
-		private final String skinName;
+		private final Resources.Sprite sprite;
 
-		Type(String skinName){
-			this.skinName = skinName;
+		Type(Resources.Sprite sprite){
+			this.sprite = sprite;
 		}
-		public Drawable getDrawable(Skin skin){
-			return skin.getDrawable(skinName);
+		public Drawable getDrawable(RenderObject renderObject){
+			return renderObject.getDrawables().getDrawable(sprite);
 		}
 	}
 }
@@ -7,6 +7,8 @@ import me.retrodaredevil.controller.output.ControllerRumble;
 import me.retrodaredevil.game.trackshooter.entity.EntityController;
 import me.retrodaredevil.game.trackshooter.entity.movement.*;
 import me.retrodaredevil.game.trackshooter.input.GameInput;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.PlayerInputPacket;
+import me.retrodaredevil.game.trackshooter.replay.PlayerInputState;
 import me.retrodaredevil.game.trackshooter.util.Constants;
 import me.retrodaredevil.game.trackshooter.world.World;
 
@@ -17,36 +19,136 @@ public class PlayerController implements EntityController{
 	private final World world;
 	private final Player player;
 	private final GameInput gameInput;
+
+	/** Set in {@link #updateInput()} and used in the next {@link #update(float)} */
+	private boolean shootRequested = false, activatePowerupRequested = false;
+	/** How far the mouse has moved since the last {@link #update(float)} */
+	private double mouseMovement = 0;
+	/** The input that was used in the last {@link #update(float)} */
+	private final PlayerInputState lastInput = new PlayerInputState();
+	private final Vector2 rotationPoint = new Vector2();
+	/** true if each input is quantized like it would be by {@link PlayerInputPacket} before it is used */
+	private boolean quantizeInput = false;
+
 	public PlayerController(World world, Player player, GameInput gameInput){
 		this.world = world;
 		this.player = player;
 		this.gameInput = gameInput;
 	}
 
+	/**
+	 * Should be called once every frame before the world is updated. Since the world may be updated zero or multiple
+	 * times in a single frame, button presses and mouse movement are stored here so each one is only used once.
+	 */
+	public void updateInput(){
+		if(player.isRemoved()){ // don't let anything carry over to when the player respawns
+			shootRequested = false;
+			activatePowerupRequested = false;
+			mouseMovement = 0;
+			return;
+		}
+		if(gameInput.getFireButton().isJustPressed()){
+			shootRequested = true;
+		}
+		if(gameInput.getActivatePowerup().isJustPressed()){
+			activatePowerupRequested = true;
+		}
+		InputPart rotateAxis = gameInput.getRotateAxis();
+		if(!gameInput.getRotationPointInput().isConnected() && !rotateAxis.getAxisType().isShouldUseDelta()){ // probably a mouse
+			mouseMovement += rotateAxis.getPosition();
+		}
+	}
+
+	/**
+	 * Should be set to true for a player whose input is sent to or received from another device so every device
+	 * simulates the player with exactly the same input
+	 * @param quantizeInput true to quantize each input with {@link PlayerInputPacket#quantize(PlayerInputState)} before it is used
+	 */
+	public void setQuantizeInput(boolean quantizeInput){
+		this.quantizeInput = quantizeInput;
+	}
+
+	/**
+	 * The returned value is changed each time this is updated. If the player is not updated, the returned value is
+	 * not changed.
+	 * @return The input that was used in the last {@link #update(float)}. Used to record replays.
+	 */
+	public PlayerInputState getLastInput(){
+		return lastInput;
+	}
+
+	/**
+	 * Puts the current input and anything stored from {@link #updateInput()} into input
+	 */
+	private void readInput(PlayerInputState input){
+		input.shoot = shootRequested;
+		input.activatePowerup = activatePowerupRequested;
+		shootRequested = false;
+		activatePowerupRequested = false;
+
+		JoystickPart movementJoy = gameInput.getMainJoystick();
+		input.slow = gameInput.getSlowButton().isDown();
+		if(movementJoy.isDeadzone()){
+			input.moveX = 0;
+			input.moveY = 0;
+		} else {
+			double magnitude = Math.min(movementJoy.getCorrectMagnitude(), 1);
+			double angle = Math.toRadians(movementJoy.getAngle());
+			input.moveX = (float) (Math.cos(angle) * magnitude);
+			input.moveY = (float) (Math.sin(angle) * magnitude);
+		}
+
+		JoystickPart rotationPointJoystick = gameInput.getRotationPointInput();
+		input.rotationPointConnected = rotationPointJoystick.isConnected();
+		input.rotationPointActive = input.rotationPointConnected && (!rotationPointJoystick.isXDeadzone() || !rotationPointJoystick.isYDeadzone());
+		if(!input.rotationPointActive){
+			input.rotationPointX = 0;
+			input.rotationPointY = 0;
+		} else if(gameInput.isRotationPointInWorldCoordinates()){
+			input.rotationPointX = (float) rotationPointJoystick.getX();
+			input.rotationPointY = (float) rotationPointJoystick.getY();
+		} else {
+			// convert it here so the input is the same on every device no matter how big its screen is
+			world.getWorldCoordinates((int) rotationPointJoystick.getX(), (int) rotationPointJoystick.getY(), rotationPoint);
+			input.rotationPointX = rotationPoint.x;
+			input.rotationPointY = rotationPoint.y;
+		}
+
+		InputPart rotateAxis = gameInput.getRotateAxis();
+		input.rotateIsAxis = rotateAxis.getAxisType().isShouldUseDelta();
+		if(input.rotateIsAxis){
+			input.rotate = rotateAxis.isDeadzone() ? 0 : (float) rotateAxis.getPosition();
+		} else {
+			input.rotate = (float) mouseMovement;
+		}
+		mouseMovement = 0;
+	}
+
 	@Override
 	public void update(float delta) {
+		final PlayerInputState input = lastInput;
+		readInput(input);
+		if(quantizeInput){
+			PlayerInputPacket.quantize(input);
+		}
+		// the movement comes from input instead of the joystick so that it is the same as what gets recorded or sent
+		final boolean moving = input.moveX != 0 || input.moveY != 0;
+		final float moveAngle = (float) Math.toDegrees(Math.atan2(input.moveY, input.moveX));
+		final float moveMagnitude = Math.min(Vector2.len(input.moveX, input.moveY), 1); // quantizing may make it a bit over 1
 		MoveComponent move = player.getMoveComponent();
 		if(move instanceof OnTrackMoveComponent){
 			// ==== Track Movement ====
 			OnTrackMoveComponent trackMove = (OnTrackMoveComponent) move;
-			JoystickPart movementJoy = gameInput.getMainJoystick();
-			boolean slow = gameInput.getSlowButton().isDown();
+			boolean slow = input.slow;
 			final float velocity;
-			if(!movementJoy.isDeadzone() || slow) {
+			if(moving || slow) {
 				float mult = slow ? .5f : 1;
 //				trackMove.setVelocity((float) (movementJoy.getX() * VELOCITY * mult));
-				float movePercent = world.getTrack().getMovePercent((float) movementJoy.getAngle(), trackMove.getDistanceOnTrack());
+				float movePercent = world.getTrack().getMovePercent(moveAngle, trackMove.getDistanceOnTrack());
 				int moveDirection = (int) (Math.signum(movePercent) * (float) Math.ceil(Math.abs(movePercent))); // round this up/down and base speed off magnitude
 
-				float correctMagnitude = (float) movementJoy.getCorrectMagnitude();
-				if(correctMagnitude > 1){
-					if(!movementJoy.getJoystickType().isRangeOver()){
-						throw new IllegalStateException("movementJoy's correct magnitude is: " + correctMagnitude);
-					}
-					correctMagnitude = 1;
-				}
 				velocity =
-						correctMagnitude
+						moveMagnitude
 						* moveDirection
 						* Constants.PLAYER_VELOCITY
 						* mult;
@@ -60,38 +162,26 @@ public class PlayerController implements EntityController{
 
 		} else if(move instanceof VectorVelocitySetterMoveComponent){
 			VectorVelocitySetterMoveComponent vectorMove = (VectorVelocitySetterMoveComponent) move;
-			JoystickPart movementJoy = gameInput.getMainJoystick();
-			boolean slow = gameInput.getSlowButton().isDown();
+			boolean slow = input.slow;
 			final float velocity;
-			if(!movementJoy.isDeadzone() || slow){
+			if(moving || slow){
 				float mult = slow ? .5f : 1;
-				velocity = (float) Math.min(movementJoy.getCorrectMagnitude(), 1) * mult * Constants.PLAYER_FREE_VELOCITY;
+				velocity = moveMagnitude * mult * Constants.PLAYER_FREE_VELOCITY;
 			} else {
 				velocity = 0;
 			}
-			vectorMove.getVectorVelocitySetter().setDesiredVelocityAngleMagnitude((float) movementJoy.getAngle(), velocity, 16, Constants.PLAYER_FREE_VELOCITY);
+			vectorMove.getVectorVelocitySetter().setDesiredVelocityAngleMagnitude(moveAngle, velocity, 16, Constants.PLAYER_FREE_VELOCITY);
 
 		}
 		// ==== Rotation ====
-		JoystickPart rotationPointJoystick = gameInput.getRotationPointInput();
-		if(rotationPointJoystick.isConnected()){
-			if (!rotationPointJoystick.isXDeadzone() || !rotationPointJoystick.isYDeadzone()) {
-				final Vector2 position = new Vector2();
-				int x = (int) rotationPointJoystick.getX();
-				int y = (int) rotationPointJoystick.getY();
-				System.out.println("x: " + x + " y: " + y);
-				world.getWorldCoordinates(x, y, position);
-				float angle = position.sub(player.getLocation()).angle();
+		if(input.rotationPointConnected){
+			if (input.rotationPointActive) {
+				float angle = rotationPoint.set(input.rotationPointX, input.rotationPointY).sub(player.getLocation()).angle();
 				player.setRotation(angle);
 			}
 		} else {
-			InputPart rotateAxis = gameInput.getRotateAxis();
-			double position = rotateAxis.getPosition();
-			if (rotateAxis.getAxisType().isShouldUseDelta()) { // normal joystick
-				float desired = (float) (ROTATE_PER_SECOND * position);
-				if (rotateAxis.isDeadzone()) {
-					desired = 0;
-				}
+			if (input.rotateIsAxis) { // normal joystick
+				float desired = ROTATE_PER_SECOND * input.rotate; // rotate is 0 when in deadzone
 
 				if (move instanceof RotationalVelocitySetterMoveComponent) {
 					((RotationalVelocitySetterMoveComponent) move).getRotationalVelocitySetter().setVelocity(desired);
@@ -101,12 +191,12 @@ public class PlayerController implements EntityController{
 					((RotationalVelocitySetterMoveComponent) move).getRotationalVelocitySetter().setVelocity(0);
 				}
 				// change rotation manually
-				player.setRotation(player.getRotation() + (float) position * ROTATION_PER_MOUSE_PIXEL); // note ROTATION_PER_MOUSE_PIXEL should be negative
+				player.setRotation(player.getRotation() + input.rotate * ROTATION_PER_MOUSE_PIXEL); // note ROTATION_PER_MOUSE_PIXEL should be negative
 			}
 		}
 
 		// ==== Rumble and Shoot ====
-		if (gameInput.getFireButton().isJustPressed()) {
+		if (input.shoot) {
 			int numberShot = player.shootBullet(null).size();
 			ControllerRumble rumble = gameInput.getRumble();
 			if(numberShot > 0 && (numberShot > 1 || gameInput.getRumbleOnSingleShot().isDown()) && rumble.isConnected()){
@@ -115,7 +205,7 @@ public class PlayerController implements EntityController{
 		}
 
 		// ==== Powerup ====
-		if(gameInput.getActivatePowerup().isJustPressed()){
+		if(input.activatePowerup){
 			if(player.activatePowerup()){
 				ControllerRumble rumble = gameInput.getRumble();
 				if(rumble.isConnected()){
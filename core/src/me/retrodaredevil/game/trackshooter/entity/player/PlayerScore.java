@@ -51,7 +51,10 @@ public class PlayerScore implements Score {
 
 	@Override
 	public int getLives() {
-	    int lives = startingLives - deaths;
+		return startingLives + getExtraLives() - deaths;
+	}
+	private int getExtraLives(){
+	    int lives = 0;
 	    for(int extraLifeAt : extraLivesAt){
 	        if(score >= extraLifeAt){
 	            lives++;
@@ -138,6 +141,15 @@ public class PlayerScore implements Score {
 	    return shotsHit;
     }
 
+	@Override
+	public void setFromHost(int score, int lives) {
+		if(isEnded){
+			return;
+		}
+		this.score = score;
+		deaths = startingLives + getExtraLives() - lives; // so getLives() returns lives
+	}
+
 	@Override
 	public void onGameEnd() {
 		if(isEnded){
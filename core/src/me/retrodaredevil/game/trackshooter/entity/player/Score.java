@@ -49,10 +49,18 @@ public interface Score {
 
 	/**
 	 * Called when the player dies to an enemy or an enemy bullet
-	 * @param other the entity causing the death
+	 * @param other the entity causing the death or null if it is unknown because the death happened on the host
 	 */
 	void onDeath(Entity other);
 
+	/**
+	 * Used by a client because the host decides the score and lives of every player. After this is called,
+	 * {@link #getScore()} and {@link #getLives()} return the passed values. Does nothing after {@link #onGameEnd()}
+	 * @param score The player's score on the host
+	 * @param lives The player's lives on the host
+	 */
+	void setFromHost(int score, int lives);
+
 	/**
 	 * Should be called when the player loses all their lives or if the game is ended early
 	 */
@@ -1,8 +1,7 @@
 package me.retrodaredevil.game.trackshooter.entity.powerup;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
 import me.retrodaredevil.game.trackshooter.entity.movement.TravelRotateVelocityOnTrackMoveComponent;
 import me.retrodaredevil.game.trackshooter.entity.player.Player;
@@ -11,6 +10,7 @@ import me.retrodaredevil.game.trackshooter.render.components.ShakeImageRenderCom
 import me.retrodaredevil.game.trackshooter.util.EntityUtil;
 import me.retrodaredevil.game.trackshooter.util.Points;
 import me.retrodaredevil.game.trackshooter.world.World;
+import me.retrodaredevil.game.trackshooter.util.MathUtil;
 
 public class Fruit extends SimplePowerup {
 
@@ -28,9 +28,9 @@ public class Fruit extends SimplePowerup {
 		trackMove.getTravelVelocitySetter().setVelocity(velocity);
 		setMoveComponent(trackMove);
 	}
-	public static Fruit createFruit(World world, Points points, float startingTrackDistance, Image image){
-		Fruit fruit = new Fruit(world, points, 1.5f * MathUtils.randomSign(), startingTrackDistance);
-		ImageRenderComponent renderComponent = new ShakeImageRenderComponent(image,
+	public static Fruit createFruit(World world, Points points, float startingTrackDistance, Drawable drawable){
+		Fruit fruit = new Fruit(world, points, 1.5f * MathUtil.randomSign(world.getRandom()), startingTrackDistance);
+		ImageRenderComponent renderComponent = new ShakeImageRenderComponent(drawable,
 				fruit, .8f, .8f, 250, new Vector2(0, .03f));
 		renderComponent.setFacingDirection(0);
 		fruit.setRenderComponent(renderComponent);
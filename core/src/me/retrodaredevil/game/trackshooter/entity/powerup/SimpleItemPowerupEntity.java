@@ -1,31 +1,31 @@
 package me.retrodaredevil.game.trackshooter.entity.powerup;
 
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 
 import me.retrodaredevil.game.trackshooter.entity.player.Player;
 import me.retrodaredevil.game.trackshooter.item.Item;
 import me.retrodaredevil.game.trackshooter.item.TripleShotPowerupItem;
 import me.retrodaredevil.game.trackshooter.render.components.ImageRenderComponent;
 import me.retrodaredevil.game.trackshooter.world.World;
+import me.retrodaredevil.game.trackshooter.util.MathUtil;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 
 public abstract class SimpleItemPowerupEntity extends PowerupPackage {
-	private final String drawableName;
-	protected SimpleItemPowerupEntity(World world, float velocity, float startingTrackDistance, String drawableName) {
+	private final Resources.Sprite sprite;
+	protected SimpleItemPowerupEntity(World world, float velocity, float startingTrackDistance, Resources.Sprite sprite) {
 		super(world, velocity, startingTrackDistance);
-		this.drawableName = drawableName;
+		this.sprite = sprite;
 	}
 
 	@Override
 	public void beforeSpawn() {
 		super.beforeSpawn();
-		ImageRenderComponent renderComponent = new ImageRenderComponent(new Image(world.getMainSkin().getDrawable(drawableName)), this, .8f, .8f);
+		ImageRenderComponent renderComponent = new ImageRenderComponent(world.getDrawables().getDrawable(sprite), this, .8f, .8f);
 		renderComponent.setFacingDirection(0);
 		this.setRenderComponent(renderComponent);
 	}
 
 	public static SimpleItemPowerupEntity createTripleShotPowerupEntity(World world, float velocity, float startingTrackDistance){
-		return new SimpleItemPowerupEntity(world, velocity * MathUtils.randomSign(), startingTrackDistance, "powerup") {
+		return new SimpleItemPowerupEntity(world, velocity * MathUtil.randomSign(world.getRandom()), startingTrackDistance, Resources.Sprite.POWERUP) {
 			@Override
 			protected Item createItem(Player player) {
 				return new TripleShotPowerupItem(world);
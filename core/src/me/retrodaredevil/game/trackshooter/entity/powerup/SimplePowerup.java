@@ -1,9 +1,9 @@
 package me.retrodaredevil.game.trackshooter.entity.powerup;
 
-import com.badlogic.gdx.math.MathUtils;
 import me.retrodaredevil.game.trackshooter.CollisionIdentity;
 import me.retrodaredevil.game.trackshooter.entity.SimpleEntity;
 import me.retrodaredevil.game.trackshooter.world.World;
+import me.retrodaredevil.game.trackshooter.util.MathUtil;
 
 public class SimplePowerup extends SimpleEntity implements PowerupEntity {
 	protected SimplePowerup(World world){
@@ -14,6 +14,6 @@ public class SimplePowerup extends SimpleEntity implements PowerupEntity {
 	}
 
 	public static float getRandomTrackStarting(World world){
-		return MathUtils.random(world.getTrack().getTotalDistance());
+		return MathUtil.random(world.getRandom(), world.getTrack().getTotalDistance());
 	}
 }
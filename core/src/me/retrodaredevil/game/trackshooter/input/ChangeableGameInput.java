@@ -49,6 +49,10 @@ public class ChangeableGameInput extends SimpleControllerInput implements GameIn
 	public JoystickPart getRotationPointInput() {
 		return getCurrentGameInput().getRotationPointInput();
 	}
+	@Override
+	public boolean isRotationPointInWorldCoordinates() {
+		return getCurrentGameInput().isRotationPointInWorldCoordinates();
+	}
 
 	@Override
 	public InputPart getFireButton() { return getCurrentGameInput().getFireButton(); }
@@ -17,6 +17,11 @@ public interface GameInput extends ControllerInput, RumbleCapableController, Con
 	InputPart getRotateAxis();
 	/** @return a joystick that represents the point where the player is pressing on screen. If connected, should be used over {@link #getRotateAxis()}*/
 	JoystickPart getRotationPointInput();
+	/**
+	 * @return true if the x and y of {@link #getRotationPointInput()} are already in world coordinates, false if they
+	 *         are screen coordinates that need to be converted. By default false
+	 */
+	default boolean isRotationPointInWorldCoordinates(){ return false; }
 	InputPart getFireButton();
 	InputPart getSlowButton(); // TODO maybe remove this entirely and refactor it into main joystick
 	InputPart getActivatePowerup();
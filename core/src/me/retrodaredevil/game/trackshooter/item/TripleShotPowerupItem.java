@@ -15,7 +15,7 @@ public class TripleShotPowerupItem extends EffectItem implements PowerupActivate
 	private final World world;
 
 	public TripleShotPowerupItem(World world){
-		super(new Image(world.getMainSkin().getDrawable("powerup")));
+		super(new Image(world.getDrawables().getDrawable(Resources.Sprite.POWERUP)));
 		this.world = world;
 	}
 
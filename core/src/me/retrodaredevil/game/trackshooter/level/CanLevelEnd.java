@@ -7,6 +7,9 @@ public interface CanLevelEnd {
 	 * if the list this object is in is acted upon correctly.
 	 * <p><p>
 	 * Called only when the level may possibly end
+	 * <p>
+	 * NOTE: This should return the same value the whole time this is in a world or level because the level only
+	 * calls this when this is added or removed.
 	 * @return true if the level is allowed to end
 	 */
 	LevelEndState canLevelEnd();
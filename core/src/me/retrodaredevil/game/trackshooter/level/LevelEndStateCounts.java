@@ -0,0 +1,40 @@
+package me.retrodaredevil.game.trackshooter.level;
+
+/**
+ * Keeps track of how many {@link CanLevelEnd}s are in each {@link LevelEndState} so the highest state can be found
+ * without asking each one.
+ * <p>
+ * NOTE: This only works if each {@link CanLevelEnd#canLevelEnd()} returns the same value when it is removed as it did
+ * when it was added.
+ */
+public final class LevelEndStateCounts {
+	private static final LevelEndState[] STATES = LevelEndState.values();
+
+	private final int[] counts = new int[STATES.length];
+
+	public void add(LevelEndState state){
+		counts[state.ordinal()]++;
+	}
+	public void remove(LevelEndState state){
+		if(counts[state.ordinal()] == 0){
+			throw new IllegalStateException("Nothing with the state " + state + " was added!");
+		}
+		counts[state.ordinal()]--;
+	}
+	public int getCount(LevelEndState state){
+		return counts[state.ordinal()];
+	}
+
+	/**
+	 * @return The state with the highest {@link LevelEndState#value} that has been added at least once or null if nothing has been added
+	 */
+	public LevelEndState getHighest(){
+		LevelEndState highest = null;
+		for(LevelEndState state : STATES){
+			if(counts[state.ordinal()] > 0 && (highest == null || state.value > highest.value)){
+				highest = state;
+			}
+		}
+		return highest;
+	}
+}
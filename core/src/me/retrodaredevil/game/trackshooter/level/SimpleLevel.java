@@ -26,6 +26,8 @@ public abstract class SimpleLevel implements Level {
 
 	private final List<LevelFunction> functions = new ArrayList<>();
 	private final Queue<LevelFunction> addFunctionsQueue = new ArrayDeque<>(); // used to poll new functions from
+	/** The LevelEndStates of everything in {@link #functions} */
+	private final LevelEndStateCounts functionLevelEndStateCounts = new LevelEndStateCounts();
 
 	private LevelEndState lastLevelEndState = null;
 
@@ -62,11 +64,13 @@ public abstract class SimpleLevel implements Level {
 			boolean functionDone = function.update(delta, addFunctionsQueue);
 			if (functionDone) {
 				it.remove();
+				functionLevelEndStateCounts.remove(function.canLevelEnd());
 			}
 		}
 		while(!addFunctionsQueue.isEmpty()){
 			LevelFunction element = addFunctionsQueue.poll();
 			functions.add(element);
+			functionLevelEndStateCounts.add(element.canLevelEnd());
 		}
 		if(!firstRun) { // we don't want to check if it's done on the first run because not everything may have been initialized
 			this.done = shouldLevelEnd();
@@ -77,22 +81,22 @@ public abstract class SimpleLevel implements Level {
 	}
 	/**
 	 * Should be called once every update() call
+	 * <p>
+	 * NOTE: This uses counts that are kept up to date by the world and this level, so the LevelEndState of each entity
+	 * and function should not change while it is active
 	 * @return true if this level is able to end, false otherwise
 	 */
 	private boolean shouldLevelEnd(){
-		Collection<CanLevelEnd> endCheckCollection = new HashSet<>();
-		endCheckCollection.addAll(world.getAllEntities());
-		endCheckCollection.addAll(functions);
-
 		LevelEndState highest = LevelEndState.CAN_END;
-		for(CanLevelEnd endCheck : endCheckCollection){
-			LevelEndState state = endCheck.canLevelEnd();
-			if(state.value > highest.value){
-				highest = state;
-			}
+		LevelEndState entityState = world.getHighestLevelEndState();
+		if(entityState != null && entityState.value > highest.value){
+			highest = entityState;
+		}
+		LevelEndState functionState = functionLevelEndStateCounts.getHighest();
+		if(functionState != null && functionState.value > highest.value){
+			highest = functionState;
 		}
 		lastLevelEndState = highest;
-//		System.out.println("level: " + getNumber() + " is ending. checks: " + endCheckCollection);
 		return highest.value <= LevelEndState.CAN_END.value;
 	}
 	private void end(){
@@ -134,6 +138,7 @@ public abstract class SimpleLevel implements Level {
 	 */
 	protected void addFunction(LevelFunction function){
 		this.functions.add(function);
+		functionLevelEndStateCounts.add(function.canLevelEnd());
 	}
 
 	@Override
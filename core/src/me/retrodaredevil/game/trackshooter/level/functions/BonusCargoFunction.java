@@ -12,6 +12,7 @@ import me.retrodaredevil.game.trackshooter.level.LevelEndState;
 import me.retrodaredevil.game.trackshooter.level.LevelMode;
 import me.retrodaredevil.game.trackshooter.util.EntityUtil;
 import me.retrodaredevil.game.trackshooter.util.Points;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 import me.retrodaredevil.game.trackshooter.world.World;
 
 /**
@@ -56,7 +57,7 @@ public class BonusCargoFunction implements LevelFunction {
 		}
 		if(!showedHelp){
 			EntityUtil.displayScore(world, cargoEntity.getMoveComponent().getCorrectLocation(),
-					world.getRenderObject().getMainSkin().getDrawable("help"), 1.2f, 3.0f);
+					world.getDrawables().getDrawable(Resources.Sprite.HELP), 1.2f, 3.0f);
 			showedHelp = true;
 		}
 
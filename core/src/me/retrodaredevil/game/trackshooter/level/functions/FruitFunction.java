@@ -1,6 +1,5 @@
 package me.retrodaredevil.game.trackshooter.level.functions;
 
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import me.retrodaredevil.game.trackshooter.entity.powerup.Fruit;
 import me.retrodaredevil.game.trackshooter.entity.powerup.PowerupEntity;
 import me.retrodaredevil.game.trackshooter.entity.powerup.SimplePowerup;
@@ -17,20 +16,20 @@ public class FruitFunction extends PowerupFunction {
 	protected PowerupEntity createPowerup() {
 		int level = world.getLevel().getNumber();
 		Points points = Resources.Points.P100;
-		String name = "cherry";
+		Resources.Sprite sprite = Resources.Sprite.CHERRY;
 		if(level >= 15){
 			points = Resources.Points.P1000;
-			name = "pizza";
+			sprite = Resources.Sprite.PIZZA;
 		} else if (level >= 10){
 			points = Resources.Points.P700;
-			name = "grapes";
+			sprite = Resources.Sprite.GRAPES;
 		} else if (level >= 6){
 			points = Resources.Points.P500;
-			name = "strawberry";
+			sprite = Resources.Sprite.STRAWBERRY;
 		} else if(level >= 3){
 			points = Resources.Points.P300;
-			name = "apple";
+			sprite = Resources.Sprite.APPLE;
 		}
-		return Fruit.createFruit(world, points, SimplePowerup.getRandomTrackStarting(world), new Image(world.getMainSkin().getDrawable(name)));
+		return Fruit.createFruit(world, points, SimplePowerup.getRandomTrackStarting(world), world.getDrawables().getDrawable(sprite));
 	}
 }
@@ -1,6 +1,5 @@
 package me.retrodaredevil.game.trackshooter.level.functions;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 
 import me.retrodaredevil.game.trackshooter.entity.enemies.snake.SnakeAIController;
@@ -14,6 +13,7 @@ import me.retrodaredevil.game.trackshooter.world.World;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 
 public class SnakeFunction implements LevelFunction {
 	private static final float WAIT_TO_SPAWN = 10; // seconds
@@ -51,14 +51,15 @@ public class SnakeFunction implements LevelFunction {
 		final Level level = world.getLevel();
 		final Rectangle bounds = world.getBounds();
 
+		final Random random = world.getRandom();
 		final float x, y, rotation;
-		if(MathUtils.randomBoolean()){ // up or down
+		if(random.nextBoolean()){ // up or down
 			x = bounds.getX() + bounds.getWidth() / 2.0f; // center
-			final boolean up = MathUtils.randomBoolean();
+			final boolean up = random.nextBoolean();
 			y = bounds.getY() + (up ? 2 * bounds.getHeight() : -bounds.getHeight());
 			rotation = up ? -90 : 90;
 		} else { // left or right
-			final boolean left = MathUtils.randomBoolean();
+			final boolean left = random.nextBoolean();
 			x = bounds.getX() + (left ? -bounds.getWidth() : 2 * bounds.getWidth());
 			y = bounds.getY() + bounds.getHeight() / 2.0f; // center
 			rotation = left ? 0 : 180;
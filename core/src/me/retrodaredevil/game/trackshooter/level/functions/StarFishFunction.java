@@ -1,6 +1,5 @@
 package me.retrodaredevil.game.trackshooter.level.functions;
 
-import com.badlogic.gdx.math.MathUtils;
 
 import java.util.Collection;
 
@@ -56,7 +55,7 @@ public class StarFishFunction implements LevelFunction {
 			float distance;
 			do { // HEY!!! A USE FOR A DO WHILE LOOP! THIS IS EXCITING!!
 				// TODO If there are many, many players, this *could* result in an infinite loop.
-				distance = world.getTrack().getTotalDistance() * MathUtils.random();
+				distance = world.getTrack().getTotalDistance() * world.getRandom().nextFloat();
 			} while (!canSpawn(distance, world.getTrack()));
 			Entity entity = new StarFish(world, speed, distance, achievementHandler);
 			world.getLevel().addEntity(entity);
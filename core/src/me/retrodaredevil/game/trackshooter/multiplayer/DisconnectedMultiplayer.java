@@ -1,5 +1,7 @@
 package me.retrodaredevil.game.trackshooter.multiplayer;
 
+import com.badlogic.gdx.math.MathUtils;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -8,6 +10,7 @@ import java.util.List;
 public class DisconnectedMultiplayer implements Multiplayer {
 
 	private final Collection<Player> players;
+	private final long worldSeed = MathUtils.random.nextLong();
 
 	public DisconnectedMultiplayer(int numberOfPlayers){
 		players = new ArrayList<>(numberOfPlayers);
@@ -30,6 +33,16 @@ public class DisconnectedMultiplayer implements Multiplayer {
 		return true;
 	}
 
+	@Override
+	public long getWorldSeed() {
+		return worldSeed;
+	}
+
+	@Override
+	public void receivePackets(PacketListener listener) {
+		// nothing is ever received
+	}
+
 	@Override
 	public void sendToHost(Packet packet) {
 		throw new UnsupportedOperationException();
@@ -81,5 +94,10 @@ public class DisconnectedMultiplayer implements Multiplayer {
 		public boolean isPlayerHost() {
 			return true;
 		}
+
+		@Override
+		public boolean isHandledBySameAs(Player other) {
+			return other instanceof DisconnectedPlayer;
+		}
 	}
 }
@@ -14,6 +14,19 @@ public interface Multiplayer {
 	/** @return true if we are the host, false otherwise */
 	boolean isHost();
 
+	/**
+	 * @return The seed that every player's World should be created with so random things happen the same way for
+	 *         everyone. On a client, this may not be the host's seed until the game has started.
+	 */
+	long getWorldSeed();
+
+	/**
+	 * Passes each packet that has been received since the last call to the listener. This should be called once each
+	 * frame and is also where connections are kept alive, so it should be called even when no packets are expected.
+	 * @param listener The listener to pass each packet to
+	 */
+	void receivePackets(PacketListener listener);
+
 	void sendToHost(Packet packet);
 	void sendToEveryone(Packet packet);
 	void sendToPlayer(Packet packet, Player player);
@@ -34,5 +47,10 @@ public interface Multiplayer {
 		boolean isConnected();
 		boolean isHandledByUs();
 		boolean isPlayerHost();
+		/**
+		 * @param other Another player in the same game
+		 * @return true if this player and other are handled by the same process
+		 */
+		boolean isHandledBySameAs(Player other);
 	}
 }
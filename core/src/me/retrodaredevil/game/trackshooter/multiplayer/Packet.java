@@ -1,7 +1,12 @@
 package me.retrodaredevil.game.trackshooter.multiplayer;
 
-import java.io.Serializable;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketCodec;
 
-public interface Packet extends Serializable {
+/**
+ * Something that can be sent to other players. Packets are sent as bytes using a {@link PacketCodec}, so each type of
+ * packet must be registered with the codec.
+ */
+public interface Packet {
+	/** @return true if this must arrive, false if it is fine for this to be dropped */
 	boolean isReliable();
 }
@@ -0,0 +1,17 @@
+package me.retrodaredevil.game.trackshooter.multiplayer;
+
+/**
+ * Is passed each packet received by {@link Multiplayer#receivePackets(PacketListener)}
+ */
+public interface PacketListener {
+	/**
+	 * @param sender The first player that is handled by whoever sent the packet. Use
+	 *               {@link Multiplayer.Player#isHandledBySameAs(Multiplayer.Player)} to check if they also handle another player
+	 * @param packet The packet that was received
+	 */
+	void onPacket(Multiplayer.Player sender, Packet packet);
+
+	class Defaults {
+		public static final PacketListener IGNORE = (sender, packet) -> {};
+	}
+}
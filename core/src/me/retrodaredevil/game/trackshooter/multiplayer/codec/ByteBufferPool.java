@@ -0,0 +1,35 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.codec;
+
+import com.badlogic.gdx.utils.Pool;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Pool} of direct ByteBuffers that all have the same capacity. Buffers are cleared when they are freed.
+ * <p>
+ * Direct buffers are used so NIO channels do not have to copy them before sending or receiving.
+ */
+public class ByteBufferPool extends Pool<ByteBuffer> {
+	private final int capacity;
+
+	/**
+	 * @param capacity The capacity of each buffer
+	 */
+	public ByteBufferPool(int capacity){
+		this.capacity = capacity;
+	}
+
+	public int getCapacity(){
+		return capacity;
+	}
+
+	@Override
+	protected ByteBuffer newObject() {
+		return ByteBuffer.allocateDirect(capacity);
+	}
+
+	@Override
+	protected void reset(ByteBuffer buffer) {
+		buffer.clear();
+	}
+}
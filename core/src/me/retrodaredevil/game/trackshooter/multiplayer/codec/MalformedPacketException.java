@@ -0,0 +1,15 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.codec;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the bytes of a packet cannot be read. Received packets come from other processes, so this should be
+ * handled by dropping the packet instead of crashing.
+ */
+public class MalformedPacketException extends IOException {
+	private static final long serialVersionUID = 1L;
+
+	public MalformedPacketException(String message) {
+		super(message);
+	}
+}
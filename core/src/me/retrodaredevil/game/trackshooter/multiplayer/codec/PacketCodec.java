@@ -0,0 +1,141 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Encodes {@link Packet}s to bytes and decodes them back. Each type of packet is registered with an explicit id that
+ * is written as a varint before the fields of the packet. Ids must never be reused for a different type of packet
+ * because both sides of a connection must agree on them.
+ * <p>
+ * This is not thread safe. Each thread that encodes or decodes packets should have its own codec.
+ */
+public class PacketCodec {
+	/** The maximum size of an encoded packet. Small enough that a packet fits in a single UDP datagram without being fragmented */
+	public static final int MAX_PACKET_SIZE = 1200;
+
+	private final Map<Class<? extends Packet>, Registration<?>> registrationsByType = new HashMap<>();
+	private Registration<?>[] registrationsById = new Registration<?>[8];
+	private final ByteBufferPool bufferPool = new ByteBufferPool(MAX_PACKET_SIZE);
+	private final PacketWriter writer = new PacketWriter();
+	private final PacketReader reader = new PacketReader();
+
+	/**
+	 * @param id The id of the packet type. Must be from 0 to 127 so it takes a single byte
+	 * @param type The class of the packet. Subclasses of this are not registered
+	 * @param serializer The serializer that writes and reads the fields of the packet
+	 * @param <T> The type of the packet
+	 * @throws IllegalArgumentException if the id or type is already registered or if the id is out of range
+	 */
+	public <T extends Packet> void register(int id, Class<T> type, PacketSerializer<T> serializer){
+		requireNonNull(type);
+		requireNonNull(serializer);
+		if(id < 0 || id > 127){
+			throw new IllegalArgumentException("id must be from 0 to 127! got: " + id);
+		}
+		if(id < registrationsById.length && registrationsById[id] != null){
+			throw new IllegalArgumentException("id: " + id + " is already registered to " + registrationsById[id].type);
+		}
+		if(registrationsByType.containsKey(type)){
+			throw new IllegalArgumentException(type + " is already registered!");
+		}
+		Registration<T> registration = new Registration<>(id, type, serializer);
+		if(id >= registrationsById.length){
+			registrationsById = Arrays.copyOf(registrationsById, Math.max(id + 1, registrationsById.length * 2));
+		}
+		registrationsById[id] = registration;
+		registrationsByType.put(type, registration);
+	}
+
+	/** @return The pool that buffers from {@link #encode(Packet)} should be freed to. Can also be used for received packets */
+	public ByteBufferPool getBufferPool(){
+		return bufferPool;
+	}
+
+	/**
+	 * Encodes the packet into a buffer from {@link #getBufferPool()}. The returned buffer should be freed to the pool
+	 * once it has been sent.
+	 * @param packet The packet to encode
+	 * @return A buffer from the pool that is ready to be read from
+	 */
+	public ByteBuffer encode(Packet packet){
+		ByteBuffer buffer = bufferPool.obtain();
+		try {
+			encode(packet, buffer);
+		} catch(RuntimeException e){
+			bufferPool.free(buffer);
+			throw e;
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Encodes the packet starting at the buffer's position
+	 * @param packet The packet to encode
+	 * @param buffer The buffer to write to. When this returns, its position is right after the packet
+	 * @throws IllegalArgumentException if the packet's type is not registered or if the packet does not fit in the buffer
+	 */
+	public void encode(Packet packet, ByteBuffer buffer){
+		Registration<?> registration = registrationsByType.get(packet.getClass());
+		if(registration == null){
+			throw new IllegalArgumentException(packet.getClass() + " is not registered!");
+		}
+		writer.setBuffer(buffer);
+		try {
+			writer.writeVarInt(registration.id);
+			registration.write(packet, writer);
+		} catch(BufferOverflowException e){
+			throw new IllegalArgumentException(packet + " does not fit in " + buffer.capacity() + " bytes!", e);
+		} finally {
+			writer.setBuffer(null);
+		}
+	}
+
+	/**
+	 * Decodes a single packet from the buffer's position to its limit
+	 * @param buffer The buffer to read from
+	 * @return The packet that was decoded
+	 * @throws MalformedPacketException If the packet's id is not registered, the packet could not be read or if
+	 *                                  there are bytes left after the packet
+	 */
+	public Packet decode(ByteBuffer buffer) throws MalformedPacketException {
+		reader.setBuffer(buffer);
+		try {
+			int id = reader.readVarInt();
+			Registration<?> registration = id >= 0 && id < registrationsById.length ? registrationsById[id] : null;
+			if(registration == null){
+				throw new MalformedPacketException("Unknown packet id: " + id);
+			}
+			Packet packet = registration.serializer.read(reader);
+			if(reader.remaining() != 0){
+				throw new MalformedPacketException(reader.remaining() + " byte(s) left after " + registration.type.getSimpleName());
+			}
+			return packet;
+		} finally {
+			reader.setBuffer(null);
+		}
+	}
+
+	private static final class Registration<T extends Packet> {
+		private final int id;
+		private final Class<T> type;
+		private final PacketSerializer<T> serializer;
+
+		private Registration(int id, Class<T> type, PacketSerializer<T> serializer) {
+			this.id = id;
+			this.type = type;
+			this.serializer = serializer;
+		}
+		private void write(Packet packet, PacketWriter writer){
+			serializer.write(type.cast(packet), writer);
+		}
+	}
+}
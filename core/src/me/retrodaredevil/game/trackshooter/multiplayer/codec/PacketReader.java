@@ -0,0 +1,107 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads values written by {@link PacketWriter}. Each method throws a {@link MalformedPacketException} instead of
+ * reading past the end of the buffer.
+ */
+public final class PacketReader {
+	private ByteBuffer buffer;
+
+	/**
+	 * @param buffer The buffer to read from starting at its position up to its limit
+	 */
+	public void setBuffer(ByteBuffer buffer){
+		this.buffer = buffer;
+	}
+
+	/** @return The number of bytes that have not been read */
+	public int remaining(){
+		return buffer.remaining();
+	}
+
+	/** @return The next byte as a value from 0 to 255 */
+	public int readUnsignedByte() throws MalformedPacketException {
+		require(1);
+		return buffer.get() & 0xFF;
+	}
+	public boolean readBoolean() throws MalformedPacketException {
+		int value = readUnsignedByte();
+		if(value > 1){
+			throw new MalformedPacketException("Invalid boolean: " + value);
+		}
+		return value == 1;
+	}
+	public int readVarInt() throws MalformedPacketException {
+		int result = 0;
+		for(int shift = 0; shift < 35; shift += 7){
+			int b = readUnsignedByte();
+			result |= (b & 0x7F) << shift;
+			if((b & 0x80) == 0){
+				return result;
+			}
+		}
+		throw new MalformedPacketException("VarInt is too long!");
+	}
+	public int readSignedVarInt() throws MalformedPacketException {
+		int value = readVarInt();
+		return (value >>> 1) ^ -(value & 1);
+	}
+	public long readVarLong() throws MalformedPacketException {
+		long result = 0;
+		for(int shift = 0; shift < 70; shift += 7){
+			int b = readUnsignedByte();
+			result |= (long) (b & 0x7F) << shift;
+			if((b & 0x80) == 0){
+				return result;
+			}
+		}
+		throw new MalformedPacketException("VarLong is too long!");
+	}
+	public long readSignedVarLong() throws MalformedPacketException {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * @param resolution The resolution passed to {@link PacketWriter#writeQuantized(float, float)}
+	 */
+	public float readQuantized(float resolution) throws MalformedPacketException {
+		return readSignedVarInt() * resolution;
+	}
+	/** @return The angle in degrees from 0 (inclusive) to 360 (exclusive) */
+	public float readAngle() throws MalformedPacketException {
+		require(2);
+		return toDegrees(buffer.getChar());
+	}
+	public float readFloat() throws MalformedPacketException {
+		require(4);
+		return buffer.getFloat();
+	}
+	public String readString() throws MalformedPacketException {
+		int length = readVarInt();
+		if(length < 0){
+			throw new MalformedPacketException("Invalid string length: " + length);
+		}
+		require(length);
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param quantizedAngle An angle from {@link PacketWriter#quantizeAngle(float)}
+	 * @return The angle in degrees from 0 (inclusive) to 360 (exclusive)
+	 */
+	public static float toDegrees(int quantizedAngle){
+		return quantizedAngle * (360 / 65536f);
+	}
+
+	private void require(int bytes) throws MalformedPacketException {
+		if(buffer.remaining() < bytes){
+			throw new MalformedPacketException("Expected " + bytes + " more byte(s) but only " + buffer.remaining() + " remain!");
+		}
+	}
+}
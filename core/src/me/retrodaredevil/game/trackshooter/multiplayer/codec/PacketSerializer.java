@@ -0,0 +1,18 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.codec;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+
+/**
+ * Writes and reads the fields of a single type of {@link Packet}. The id of the packet is handled by {@link PacketCodec}.
+ * @param <T> The type of the packet
+ */
+public interface PacketSerializer<T extends Packet> {
+	void write(T packet, PacketWriter writer);
+
+	/**
+	 * @param reader The reader positioned right after the id of the packet
+	 * @return The packet that was read
+	 * @throws MalformedPacketException If the packet could not be read
+	 */
+	T read(PacketReader reader) throws MalformedPacketException;
+}
@@ -0,0 +1,106 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes values to a ByteBuffer in the format read by {@link PacketReader}.
+ * <p>
+ * Ints and longs are written as varints, which take a single byte for values from 0 to 127. Values that may be
+ * negative should use the "signed" methods which zigzag encode the value first so small negative numbers stay small.
+ * Floats should be quantized with {@link #writeQuantized(float, float)} or {@link #writeAngle(float)} since they
+ * rarely need the full precision of 4 bytes.
+ * <p>
+ * A {@link BufferOverflowException} is thrown if the buffer runs out of room.
+ */
+public final class PacketWriter {
+	private ByteBuffer buffer;
+
+	/**
+	 * @param buffer The buffer to write to starting at its position
+	 */
+	public void setBuffer(ByteBuffer buffer){
+		this.buffer = buffer;
+	}
+
+	public void writeByte(int value){
+		buffer.put((byte) value);
+	}
+	public void writeBoolean(boolean value){
+		buffer.put(value ? (byte) 1 : (byte) 0);
+	}
+	/**
+	 * @param value The value to write. Negative values always take 5 bytes, so {@link #writeSignedVarInt(int)} should be used for them
+	 */
+	public void writeVarInt(int value){
+		while((value & ~0x7F) != 0){
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+	public void writeSignedVarInt(int value){
+		writeVarInt((value << 1) ^ (value >> 31));
+	}
+	public void writeVarLong(long value){
+		while((value & ~0x7FL) != 0){
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+	public void writeSignedVarLong(long value){
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	/**
+	 * Writes the value rounded to the nearest multiple of the resolution. For instance, a resolution of 1/256 keeps
+	 * positions more precise than any sprite can be drawn.
+	 * @param value The value to write
+	 * @param resolution The resolution that must be passed to {@link PacketReader#readQuantized(float)}
+	 */
+	public void writeQuantized(float value, float resolution){
+		writeSignedVarInt(Math.round(value / resolution));
+	}
+	/**
+	 * Writes the angle in 2 bytes, which has a resolution of about 0.0055 degrees
+	 * @param degrees The angle in degrees. This does not have to be between 0 and 360
+	 */
+	public void writeAngle(float degrees){
+		buffer.putChar((char) quantizeAngle(degrees));
+	}
+	public void writeFloat(float value){
+		buffer.putFloat(value);
+	}
+	public void writeString(String value){
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(bytes.length);
+		buffer.put(bytes);
+	}
+
+	/**
+	 * @param degrees The angle in degrees. This does not have to be between 0 and 360
+	 * @return The angle as a number from 0 to 65535 in the same way that {@link #writeAngle(float)} writes it
+	 */
+	public static int quantizeAngle(float degrees){
+		float normalized = degrees % 360;
+		if(normalized < 0){
+			normalized += 360;
+		}
+		return Math.round(normalized * (65536 / 360f)) & 0xFFFF;
+	}
+	/** @return The number of bytes {@link #writeVarInt(int)} writes for the value */
+	public static int getVarIntSize(int value){
+		int size = 1;
+		while((value & ~0x7F) != 0){
+			value >>>= 7;
+			size++;
+		}
+		return size;
+	}
+	/** @return The number of bytes {@link #writeSignedVarInt(int)} writes for the value */
+	public static int getSignedVarIntSize(int value){
+		return getVarIntSize((value << 1) ^ (value >> 31));
+	}
+}
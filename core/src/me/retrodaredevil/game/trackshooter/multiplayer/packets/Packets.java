@@ -0,0 +1,32 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.packets;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketCodec;
+import me.retrodaredevil.game.trackshooter.multiplayer.prediction.PlayerStatePacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.SnapshotAckPacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.SnapshotPacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.udp.PlayersPacket;
+
+/**
+ * Has the id of each type of packet. An id must never be changed or reused once it has been released because both
+ * sides of a connection must agree on them.
+ */
+public final class Packets {
+	public static final int PLAYER_INPUT = 1;
+	public static final int SNAPSHOT = 2;
+	public static final int SNAPSHOT_ACK = 3;
+	public static final int PLAYERS = 4;
+	public static final int PLAYER_STATE = 5;
+
+	private Packets(){ throw new UnsupportedOperationException(); }
+
+	/** @return A new codec with every type of packet registered */
+	public static PacketCodec createCodec(){
+		PacketCodec codec = new PacketCodec();
+		codec.register(PLAYER_INPUT, PlayerInputPacket.class, PlayerInputPacket.SERIALIZER);
+		codec.register(SNAPSHOT, SnapshotPacket.class, SnapshotPacket.SERIALIZER);
+		codec.register(SNAPSHOT_ACK, SnapshotAckPacket.class, SnapshotAckPacket.SERIALIZER);
+		codec.register(PLAYERS, PlayersPacket.class, PlayersPacket.SERIALIZER);
+		codec.register(PLAYER_STATE, PlayerStatePacket.class, PlayerStatePacket.SERIALIZER);
+		return codec;
+	}
+}
@@ -0,0 +1,176 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.packets;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.MalformedPacketException;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketSerializer;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+import me.retrodaredevil.game.trackshooter.replay.PlayerInputState;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The inputs that a player used during one or more ticks in a row. This is sent to the host so the host can update
+ * the player.
+ * <p>
+ * This is unreliable, so each packet also has the inputs that were sent before it that the host may not have gotten.
+ * Unless many packets in a row are lost, every input still gets to the host.
+ * <p>
+ * The joystick and rotate values are quantized to {@link #AXIS_RESOLUTION} and the rotation point is quantized to
+ * {@link #ROTATION_POINT_RESOLUTION}, so the state that is received is not always exactly the state that was sent.
+ * Use {@link #quantize(PlayerInputState)} to get the state that will be received.
+ */
+public final class PlayerInputPacket implements Packet {
+	public static final float AXIS_RESOLUTION = 1 / 4096f;
+	/** The resolution of the rotation point in world units */
+	public static final float ROTATION_POINT_RESOLUTION = 1 / 256f;
+	/** The most inputs in one packet */
+	public static final int MAX_INPUTS = 16;
+
+	public static final PacketSerializer<PlayerInputPacket> SERIALIZER = new PacketSerializer<PlayerInputPacket>() {
+		@Override
+		public void write(PlayerInputPacket packet, PacketWriter writer) {
+			writer.writeVarInt(packet.playerIndex);
+			writer.writeVarLong(packet.tick);
+			writer.writeVarInt(packet.states.length);
+			for(PlayerInputState state : packet.states){
+				writeState(state, writer);
+			}
+		}
+
+		@Override
+		public PlayerInputPacket read(PacketReader reader) throws MalformedPacketException {
+			int playerIndex = reader.readVarInt();
+			long tick = reader.readVarLong();
+			int count = reader.readVarInt();
+			if(playerIndex < 0 || count <= 0 || count > MAX_INPUTS || tick - count + 1 < 0){
+				throw new MalformedPacketException("Invalid player index: " + playerIndex + " or tick: " + tick + " or number of inputs: " + count);
+			}
+			PlayerInputState[] states = new PlayerInputState[count];
+			for(int i = 0; i < count; i++){
+				PlayerInputState state = new PlayerInputState();
+				readState(state, reader);
+				states[i] = state;
+			}
+			return new PlayerInputPacket(playerIndex, tick, states);
+		}
+	};
+
+	private static final int SHOOT = 1;
+	private static final int SLOW = 1 << 1;
+	private static final int ACTIVATE_POWERUP = 1 << 2;
+	private static final int ROTATE_IS_AXIS = 1 << 3;
+	private static final int ROTATION_POINT_CONNECTED = 1 << 4;
+	/** When set, the rotation point's x and y come after the rotate value */
+	private static final int ROTATION_POINT_ACTIVE = 1 << 5;
+
+	private final int playerIndex;
+	private final long tick;
+	/** The input of each tick from {@link #getFirstTick()} to {@link #tick} */
+	private final PlayerInputState[] states;
+
+	/**
+	 * @param playerIndex The index of the player in {@link me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer#getPlayers()}
+	 * @param tick The number of the tick of the newest input
+	 * @param states The input of each tick in a row ending with tick. The oldest input is first. The array and its
+	 *               elements should not be changed after they are passed
+	 */
+	public PlayerInputPacket(int playerIndex, long tick, PlayerInputState[] states){
+		if(states.length == 0 || states.length > MAX_INPUTS){
+			throw new IllegalArgumentException("There must be 1 to " + MAX_INPUTS + " states! states.length: " + states.length);
+		}
+		this.playerIndex = playerIndex;
+		this.tick = tick;
+		this.states = states;
+		for(PlayerInputState state : states){
+			requireNonNull(state);
+		}
+	}
+	/**
+	 * @param playerIndex The index of the player in {@link me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer#getPlayers()}
+	 * @param tick The number of the tick this input is for
+	 * @param state The input. This should not be changed after it is passed
+	 */
+	public PlayerInputPacket(int playerIndex, long tick, PlayerInputState state){
+		this(playerIndex, tick, new PlayerInputState[] { state });
+	}
+
+	public int getPlayerIndex(){ return playerIndex; }
+	/** @return The tick of the newest input */
+	public long getTick(){ return tick; }
+	/** @return The tick of the oldest input */
+	public long getFirstTick(){ return tick - states.length + 1; }
+	/** @return The number of inputs. The tick of each one is {@link #getFirstTick()} plus its index */
+	public int getInputCount(){ return states.length; }
+	/**
+	 * @param index The index of the input where 0 is the oldest
+	 * @return The input. This should not be changed
+	 */
+	public PlayerInputState getState(int index){ return states[index]; }
+	/** @return The newest input. This should not be changed */
+	public PlayerInputState getState(){ return states[states.length - 1]; }
+
+	@Override
+	public boolean isReliable() {
+		return false;
+	}
+
+	/**
+	 * Changes state to exactly what it will be after it is sent and received. The sender should simulate the player
+	 * with this so it uses the same input as the host.
+	 * @param state The state to quantize
+	 */
+	public static void quantize(PlayerInputState state){
+		state.moveX = quantize(state.moveX, AXIS_RESOLUTION);
+		state.moveY = quantize(state.moveY, AXIS_RESOLUTION);
+		state.rotate = quantize(state.rotate, AXIS_RESOLUTION);
+		if(state.rotationPointActive){
+			state.rotationPointX = quantize(state.rotationPointX, ROTATION_POINT_RESOLUTION);
+			state.rotationPointY = quantize(state.rotationPointY, ROTATION_POINT_RESOLUTION);
+		} else {
+			state.rotationPointX = 0;
+			state.rotationPointY = 0;
+		}
+	}
+	/** Does the same as writing value with {@link PacketWriter#writeQuantized(float, float)} and reading it */
+	private static float quantize(float value, float resolution){
+		return Math.round(value / resolution) * resolution;
+	}
+
+	private static void writeState(PlayerInputState state, PacketWriter writer){
+		int flags = 0;
+		if(state.shoot) flags |= SHOOT;
+		if(state.slow) flags |= SLOW;
+		if(state.activatePowerup) flags |= ACTIVATE_POWERUP;
+		if(state.rotateIsAxis) flags |= ROTATE_IS_AXIS;
+		if(state.rotationPointConnected) flags |= ROTATION_POINT_CONNECTED;
+		if(state.rotationPointActive) flags |= ROTATION_POINT_ACTIVE;
+		writer.writeByte(flags);
+		writer.writeQuantized(state.moveX, AXIS_RESOLUTION);
+		writer.writeQuantized(state.moveY, AXIS_RESOLUTION);
+		writer.writeQuantized(state.rotate, AXIS_RESOLUTION);
+		if(state.rotationPointActive){
+			writer.writeQuantized(state.rotationPointX, ROTATION_POINT_RESOLUTION);
+			writer.writeQuantized(state.rotationPointY, ROTATION_POINT_RESOLUTION);
+		}
+	}
+	private static void readState(PlayerInputState state, PacketReader reader) throws MalformedPacketException {
+		int flags = reader.readUnsignedByte();
+		state.shoot = (flags & SHOOT) != 0;
+		state.slow = (flags & SLOW) != 0;
+		state.activatePowerup = (flags & ACTIVATE_POWERUP) != 0;
+		state.rotateIsAxis = (flags & ROTATE_IS_AXIS) != 0;
+		state.rotationPointConnected = (flags & ROTATION_POINT_CONNECTED) != 0;
+		state.rotationPointActive = (flags & ROTATION_POINT_ACTIVE) != 0;
+		state.moveX = reader.readQuantized(AXIS_RESOLUTION);
+		state.moveY = reader.readQuantized(AXIS_RESOLUTION);
+		state.rotate = reader.readQuantized(AXIS_RESOLUTION);
+		if(state.rotationPointActive){
+			state.rotationPointX = reader.readQuantized(ROTATION_POINT_RESOLUTION);
+			state.rotationPointY = reader.readQuantized(ROTATION_POINT_RESOLUTION);
+		} else {
+			state.rotationPointX = 0;
+			state.rotationPointY = 0;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.prediction;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.MalformedPacketException;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketSerializer;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+
+/**
+ * Sent from the host to the client that handles a player after each tick. Has where the host has the player on the
+ * track along with the tick of the last input from the client that the host used. The client uses this to correct
+ * its prediction of the player.
+ * <p>
+ * The distance and rotation are not quantized so that a client that predicted correctly does not have to move its player.
+ */
+public final class PlayerStatePacket implements Packet {
+	public static final PacketSerializer<PlayerStatePacket> SERIALIZER = new PacketSerializer<PlayerStatePacket>() {
+		@Override
+		public void write(PlayerStatePacket packet, PacketWriter writer) {
+			writer.writeVarInt(packet.playerIndex);
+			writer.writeVarLong(packet.inputTick);
+			writer.writeFloat(packet.distance);
+			writer.writeFloat(packet.rotation);
+		}
+
+		@Override
+		public PlayerStatePacket read(PacketReader reader) throws MalformedPacketException {
+			int playerIndex = reader.readVarInt();
+			long inputTick = reader.readVarLong();
+			if(playerIndex < 0 || inputTick < 0){
+				throw new MalformedPacketException("Invalid player index: " + playerIndex + " or input tick: " + inputTick);
+			}
+			return new PlayerStatePacket(playerIndex, inputTick, reader.readFloat(), reader.readFloat());
+		}
+	};
+
+	private final int playerIndex;
+	private final long inputTick;
+	private final float distance;
+	private final float rotation;
+
+	/**
+	 * @param playerIndex The index of the player in {@link me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer#getPlayers()}
+	 * @param inputTick The tick of the last input that was used
+	 * @param distance The distance of the player on the track
+	 * @param rotation The rotation of the player in degrees
+	 */
+	PlayerStatePacket(int playerIndex, long inputTick, float distance, float rotation){
+		this.playerIndex = playerIndex;
+		this.inputTick = inputTick;
+		this.distance = distance;
+		this.rotation = rotation;
+	}
+
+	public int getPlayerIndex(){ return playerIndex; }
+	/** @return The tick of the last input the host used. The distance and rotation are from after that input was used */
+	public long getInputTick(){ return inputTick; }
+	public float getDistance(){ return distance; }
+	public float getRotation(){ return rotation; }
+
+	/** @return false because a newer state is sent each tick */
+	@Override
+	public boolean isReliable() {
+		return false;
+	}
+}
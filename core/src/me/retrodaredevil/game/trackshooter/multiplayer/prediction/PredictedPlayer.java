@@ -0,0 +1,139 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.prediction;
+
+import java.util.Arrays;
+
+import me.retrodaredevil.game.trackshooter.entity.movement.MoveComponent;
+import me.retrodaredevil.game.trackshooter.entity.movement.OnTrackMoveComponent;
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.entity.player.PlayerController;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.PlayerInputPacket;
+import me.retrodaredevil.game.trackshooter.replay.PlaybackGameInput;
+import me.retrodaredevil.game.trackshooter.replay.PlayerInputState;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Used by a client to predict a player that it handles. The player is updated from local input right away like it
+ * would be in a single player game and each input is sent to the host and kept. Each input is sent again with the
+ * next inputs until the host says that it has used it, so an input is only lost if many packets in a row are lost.
+ * <p>
+ * When the host says where it has the player, the player is moved there and each input the host has not used yet is
+ * used again. If the prediction was right, this does not move the player at all. So that the host uses exactly the
+ * same inputs, each input is quantized like it is when it is sent before the player is updated with it.
+ * <p>
+ * Only the position on the track and the rotation are corrected. Shooting and powerups are not replayed.
+ */
+public class PredictedPlayer {
+	/** The number of inputs that are kept. If the host is further behind than this, its state is ignored */
+	private static final int HISTORY = 256;
+
+	private final Player player;
+	private final PlayerController controller;
+	private final int playerIndex;
+	private final PlaybackGameInput replayInput = new PlaybackGameInput();
+	/** Updates the player with the inputs that are used again */
+	private final PlayerController replayController;
+	private final PlayerInputState[] inputs = new PlayerInputState[HISTORY];
+	/** The tick of each element in {@link #inputs} */
+	private final long[] inputTicks = new long[HISTORY];
+
+	/** The tick of the newest input or -1 */
+	private long lastTick = -1;
+	/** The input tick of the last state from the host that was used or -1 */
+	private long lastCorrectedTick = -1;
+	private float lastCorrection = 0;
+
+	/**
+	 * @param world The world
+	 * @param player The player that we handle
+	 * @param controller The controller of player. Each of its inputs is quantized from now on
+	 * @param playerIndex The index of player's Multiplayer.Player in {@link me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer#getPlayers()}
+	 */
+	public PredictedPlayer(World world, Player player, PlayerController controller, int playerIndex){
+		this.player = requireNonNull(player);
+		this.controller = requireNonNull(controller);
+		this.playerIndex = playerIndex;
+		controller.setQuantizeInput(true);
+		replayController = new PlayerController(world, player, replayInput);
+		replayController.setQuantizeInput(true);
+		Arrays.fill(inputTicks, -1);
+	}
+
+	public int getPlayerIndex(){
+		return playerIndex;
+	}
+
+	/**
+	 * Should be called after each update of the world
+	 * @param tick The number of the update
+	 * @return The packet that should be sent to the host or null if the player was not updated
+	 */
+	public PlayerInputPacket afterStep(long tick){
+		if(player.isRemoved()){
+			return null;
+		}
+		PlayerInputState input = new PlayerInputState();
+		input.set(controller.getLastInput());
+		int index = (int) (tick % HISTORY);
+		inputs[index] = input;
+		inputTicks[index] = tick;
+		lastTick = tick;
+
+		// also send each input in a row before this one that the host may not have
+		int count = 1;
+		while(count < PlayerInputPacket.MAX_INPUTS){
+			long previousTick = tick - count;
+			if(previousTick <= lastCorrectedTick || previousTick < 0 || inputTicks[(int) (previousTick % HISTORY)] != previousTick){
+				break;
+			}
+			count++;
+		}
+		PlayerInputState[] states = new PlayerInputState[count];
+		for(int i = 0; i < count; i++){
+			states[i] = inputs[(int) ((tick - count + 1 + i) % HISTORY)];
+		}
+		return new PlayerInputPacket(playerIndex, tick, states);
+	}
+
+	/**
+	 * Moves the player to where the host has it and then uses each input that the host has not used yet
+	 * @param packet The state of the player from the host
+	 * @param delta The delta of each update of the world
+	 */
+	public void reconcile(PlayerStatePacket packet, float delta){
+		long tick = packet.getInputTick();
+		if(tick <= lastCorrectedTick || tick > lastTick || lastTick - tick >= HISTORY || player.isRemoved()){
+			return;
+		}
+		MoveComponent move = player.getMoveComponent();
+		if(!(move instanceof OnTrackMoveComponent)){
+			return;
+		}
+		lastCorrectedTick = tick;
+		OnTrackMoveComponent trackMove = (OnTrackMoveComponent) move;
+		float predictedDistance = trackMove.getDistanceOnTrack();
+
+		trackMove.setDistanceOnTrack(packet.getDistance());
+		player.setRotation(packet.getRotation());
+		PlayerInputState state = replayInput.getState();
+		for(long replayTick = tick + 1; replayTick <= lastTick; replayTick++){
+			int index = (int) (replayTick % HISTORY);
+			if(inputTicks[index] != replayTick){ // the player was not updated during this tick
+				continue;
+			}
+			state.set(inputs[index]);
+			state.shoot = false;
+			state.activatePowerup = false;
+			replayController.updateInput();
+			replayController.update(delta);
+			move.update(delta);
+		}
+		lastCorrection = trackMove.getDistanceOnTrack() - predictedDistance;
+	}
+
+	/** @return How far along the track the player was moved by the last correction. 0 if the prediction was right */
+	public float getLastCorrection(){
+		return lastCorrection;
+	}
+}
@@ -0,0 +1,176 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.prediction;
+
+import com.badlogic.gdx.utils.LongMap;
+
+import me.retrodaredevil.game.trackshooter.entity.movement.MoveComponent;
+import me.retrodaredevil.game.trackshooter.entity.movement.OnTrackMoveComponent;
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.entity.player.PlayerController;
+import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.PlayerInputPacket;
+import me.retrodaredevil.game.trackshooter.replay.PlaybackGameInput;
+import me.retrodaredevil.game.trackshooter.replay.PlayerInputState;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Used by the host to control a player that a client handles. The inputs the client sends are kept until they are
+ * used and one is used each tick in the order they were sent. Each packet may have inputs that were already received,
+ * which are ignored.
+ * <p>
+ * When the next input is late or lost, the player keeps moving the way it last did and that tick counts as used, so
+ * the input is ignored if it arrives later. This way, the tick in each {@link PlayerStatePacket} is always the last
+ * tick that the host simulated and the client only replays its inputs after that. If the player shot or activated a
+ * powerup during a tick that was not used, that is done during the next tick instead so a press is never lost. When
+ * the client disconnects, the player stops.
+ */
+public class RemotePlayerInput {
+	/** The most inputs that are kept waiting. When more arrive, the oldest are skipped so the player does not fall further behind */
+	private static final int MAX_BUFFERED = 8;
+	/**
+	 * The number of ticks that the first input is held back. Inputs that arrive up to this many ticks later than the
+	 * first one did are still used on time instead of being skipped
+	 */
+	private static final int INPUT_DELAY = 4;
+	/** The value of {@link #nextTick} before any input is received */
+	private static final long NO_INPUT = Long.MIN_VALUE;
+	/** The number of ticks that {@link #missedTicks} remembers */
+	private static final int MISSED_TICKS_SIZE = Long.SIZE;
+	/** The input of a player that is not touching anything. Never changed */
+	private static final PlayerInputState IDLE = new PlayerInputState();
+
+	private final Player player;
+	private final Multiplayer.Player multiplayerPlayer;
+	private final int playerIndex;
+	private final PlaybackGameInput input = new PlaybackGameInput();
+	private final PlayerController controller;
+	/** The inputs that have been received but not used by their tick */
+	private final LongMap<PlayerInputState> pending = new LongMap<>();
+
+	/** The tick of the next input that should be used or {@link #NO_INPUT} if no input has been received */
+	private long nextTick = NO_INPUT;
+	/** The tick that was last simulated. Negative until the client's first tick has been simulated */
+	private long lastUsedTick = -1;
+	/** Bit i is set if the input of the tick i ticks before {@link #lastUsedTick} was not received in time and has not arrived since */
+	private long missedTicks = 0;
+	/** true if a late input shot or activated a powerup, which will be done next tick */
+	private boolean lateShoot = false, lateActivatePowerup = false;
+
+	/**
+	 * Sets the EntityController of player
+	 * @param world The world
+	 * @param player The player that the client handles
+	 * @param multiplayerPlayer The Multiplayer.Player of player
+	 * @param playerIndex The index of multiplayerPlayer in {@link Multiplayer#getPlayers()}
+	 */
+	public RemotePlayerInput(World world, Player player, Multiplayer.Player multiplayerPlayer, int playerIndex){
+		this.player = requireNonNull(player);
+		this.multiplayerPlayer = requireNonNull(multiplayerPlayer);
+		this.playerIndex = playerIndex;
+		controller = new PlayerController(world, player, input);
+		controller.setQuantizeInput(true); // so the same input as the client's is used
+		player.setEntityController(controller);
+	}
+
+	public Multiplayer.Player getMultiplayerPlayer(){
+		return multiplayerPlayer;
+	}
+	public int getPlayerIndex(){
+		return playerIndex;
+	}
+
+	/**
+	 * @param packet The inputs from the client. Inputs that were already received or that arrived too late to be used are ignored
+	 */
+	public void onInput(PlayerInputPacket packet){
+		if(nextTick == NO_INPUT){ // the client hasn't moved before this tick, so the player stands still until then
+			nextTick = packet.getTick() - INPUT_DELAY;
+		}
+		long firstTick = packet.getFirstTick();
+		for(int i = 0; i < packet.getInputCount(); i++){
+			long tick = firstTick + i;
+			if(tick <= lastUsedTick){
+				onLateInput(tick, packet.getState(i));
+			} else if(tick >= nextTick && !pending.containsKey(tick)){
+				pending.put(tick, packet.getState(i));
+			}
+		}
+		while(pending.size > MAX_BUFFERED){
+			nextTick = getOldestPendingTick();
+			onSkippedInput(pending.remove(nextTick));
+			nextTick++;
+		}
+	}
+	private void onLateInput(long tick, PlayerInputState state){
+		long age = lastUsedTick - tick;
+		if(age < MISSED_TICKS_SIZE && (missedTicks & (1L << age)) != 0){
+			missedTicks &= ~(1L << age);
+			onSkippedInput(state);
+		}
+	}
+	/** Called when state will never be used so that its button presses are still used */
+	private void onSkippedInput(PlayerInputState state){
+		lateShoot |= state.shoot;
+		lateActivatePowerup |= state.activatePowerup;
+	}
+
+	/**
+	 * Gives the player the input for this tick. Should be called once before each update of the world
+	 */
+	public void beforeStep(){
+		PlayerInputState state = input.getState();
+		PlayerInputState next = nextTick == NO_INPUT ? null : pending.remove(nextTick);
+		if(next != null){
+			state.set(next);
+		} else if(!multiplayerPlayer.isConnected()){ // the client is gone, so stop
+			state.set(IDLE);
+		} else {
+			// keep moving the same way, but a button press or mouse movement should only be used once
+			state.shoot = false;
+			state.activatePowerup = false;
+			if(!state.rotateIsAxis){
+				state.rotate = 0;
+			}
+		}
+		if(nextTick != NO_INPUT){ // even if the input didn't arrive, this is what we simulated for nextTick
+			long skipped = nextTick - lastUsedTick; // more than 1 if inputs were skipped
+			missedTicks = skipped >= MISSED_TICKS_SIZE ? 0 : missedTicks << skipped;
+			if(next == null){
+				missedTicks |= 1;
+			}
+			lastUsedTick = nextTick;
+			nextTick++;
+		}
+		if(multiplayerPlayer.isConnected()){
+			state.shoot |= lateShoot;
+			state.activatePowerup |= lateActivatePowerup;
+		}
+		lateShoot = false;
+		lateActivatePowerup = false;
+		controller.updateInput();
+	}
+
+	/**
+	 * Should be called after each update of the world
+	 * @return The packet that should be sent to the client or null if nothing should be sent
+	 */
+	public PlayerStatePacket createStatePacket(){
+		if(lastUsedTick < 0 || player.isRemoved()){
+			return null;
+		}
+		MoveComponent move = player.getMoveComponent();
+		if(!(move instanceof OnTrackMoveComponent)){
+			return null;
+		}
+		return new PlayerStatePacket(playerIndex, lastUsedTick, ((OnTrackMoveComponent) move).getDistanceOnTrack(), player.getRotation());
+	}
+
+	private long getOldestPendingTick(){
+		long oldest = Long.MAX_VALUE;
+		for(LongMap.Entry<PlayerInputState> entry : pending.entries()){
+			oldest = Math.min(oldest, entry.key);
+		}
+		return oldest;
+	}
+}
@@ -0,0 +1,151 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import me.retrodaredevil.game.trackshooter.CollisionIdentity;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.MalformedPacketException;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+
+/**
+ * The difference between the state of an entity in a baseline snapshot and its current state. Only the values that
+ * changed are written. A new entity is written as the difference from a state where every value is 0.
+ */
+final class EntityDelta {
+	/** The entity is not in the baseline. The type and collision identity are written */
+	private static final int NEW = 1;
+	private static final int IDENTITY = 1 << 1;
+	private static final int POSITION = 1 << 2;
+	private static final int ROTATION = 1 << 3;
+	private static final int LIVES = 1 << 4;
+
+	private static final CollisionIdentity[] IDENTITIES = CollisionIdentity.values();
+
+	private final int id;
+	private final int flags;
+	private final EntityType type;
+	private final CollisionIdentity collisionIdentity;
+	private final int deltaX, deltaY, deltaRotation;
+	private final int lives;
+
+	private EntityDelta(int id, int flags, EntityType type, CollisionIdentity collisionIdentity, int deltaX, int deltaY, int deltaRotation, int lives) {
+		this.id = id;
+		this.flags = flags;
+		this.type = type;
+		this.collisionIdentity = collisionIdentity;
+		this.deltaX = deltaX;
+		this.deltaY = deltaY;
+		this.deltaRotation = deltaRotation;
+		this.lives = lives;
+	}
+
+	/**
+	 * @param baseline The state in the baseline or null if the entity is not in the baseline
+	 * @param current The current state. Must not be the same as baseline
+	 */
+	static EntityDelta create(EntityState baseline, EntityState current){
+		int flags = 0;
+		int baseX = 0, baseY = 0, baseRotation = 0, baseLives = 0;
+		if(baseline == null){
+			flags |= NEW;
+		} else {
+			baseX = baseline.getQuantizedX();
+			baseY = baseline.getQuantizedY();
+			baseRotation = baseline.getQuantizedRotation();
+			baseLives = baseline.getLives();
+			if(baseline.getCollisionIdentity() != current.getCollisionIdentity()){
+				flags |= IDENTITY;
+			}
+		}
+		int deltaX = current.getQuantizedX() - baseX;
+		int deltaY = current.getQuantizedY() - baseY;
+		int deltaRotation = (short) (current.getQuantizedRotation() - baseRotation); // the shortest way around
+		if(deltaX != 0 || deltaY != 0) flags |= POSITION;
+		if(deltaRotation != 0) flags |= ROTATION;
+		if(current.getLives() != baseLives) flags |= LIVES;
+		return new EntityDelta(current.getId(), flags, current.getType(), current.getCollisionIdentity(), deltaX, deltaY, deltaRotation, current.getLives());
+	}
+
+	int getId(){ return id; }
+	boolean isNew(){ return (flags & NEW) != 0; }
+
+	/**
+	 * @param baseline The state in the baseline or null if {@link #isNew()} is true
+	 * @return The current state
+	 */
+	EntityState apply(EntityState baseline){
+		if(isNew()){
+			return new EntityState(id, type, collisionIdentity, deltaX, deltaY, deltaRotation & 0xFFFF, lives);
+		}
+		return new EntityState(
+				id, baseline.getType(),
+				(flags & IDENTITY) != 0 ? collisionIdentity : baseline.getCollisionIdentity(),
+				baseline.getQuantizedX() + deltaX, baseline.getQuantizedY() + deltaY,
+				(baseline.getQuantizedRotation() + deltaRotation) & 0xFFFF,
+				(flags & LIVES) != 0 ? lives : baseline.getLives()
+		);
+	}
+
+	/** @return The number of bytes {@link #write(PacketWriter)} writes not including the id */
+	int getSize(){
+		int size = 1;
+		if((flags & NEW) != 0) size += 2;
+		else if((flags & IDENTITY) != 0) size++;
+		if((flags & POSITION) != 0) size += PacketWriter.getSignedVarIntSize(deltaX) + PacketWriter.getSignedVarIntSize(deltaY);
+		if((flags & ROTATION) != 0) size += PacketWriter.getSignedVarIntSize(deltaRotation);
+		if((flags & LIVES) != 0) size += PacketWriter.getVarIntSize(lives);
+		return size;
+	}
+
+	/** Writes everything but the id */
+	void write(PacketWriter writer){
+		writer.writeByte(flags);
+		if((flags & NEW) != 0){
+			writer.writeByte(type.ordinal());
+			writer.writeByte(collisionIdentity.ordinal());
+		} else if((flags & IDENTITY) != 0){
+			writer.writeByte(collisionIdentity.ordinal());
+		}
+		if((flags & POSITION) != 0){
+			writer.writeSignedVarInt(deltaX);
+			writer.writeSignedVarInt(deltaY);
+		}
+		if((flags & ROTATION) != 0){
+			writer.writeSignedVarInt(deltaRotation);
+		}
+		if((flags & LIVES) != 0){
+			writer.writeVarInt(lives);
+		}
+	}
+	static EntityDelta read(int id, PacketReader reader) throws MalformedPacketException {
+		int flags = reader.readUnsignedByte();
+		EntityType type = null;
+		CollisionIdentity collisionIdentity = null;
+		if((flags & NEW) != 0){
+			type = EntityType.fromOrdinal(reader.readUnsignedByte());
+			collisionIdentity = readIdentity(reader);
+			if(type == null){
+				throw new MalformedPacketException("Unknown entity type!");
+			}
+		} else if((flags & IDENTITY) != 0){
+			collisionIdentity = readIdentity(reader);
+		}
+		int deltaX = 0, deltaY = 0, deltaRotation = 0, lives = 0;
+		if((flags & POSITION) != 0){
+			deltaX = reader.readSignedVarInt();
+			deltaY = reader.readSignedVarInt();
+		}
+		if((flags & ROTATION) != 0){
+			deltaRotation = reader.readSignedVarInt();
+		}
+		if((flags & LIVES) != 0){
+			lives = reader.readVarInt();
+		}
+		return new EntityDelta(id, flags, type, collisionIdentity, deltaX, deltaY, deltaRotation, lives);
+	}
+	private static CollisionIdentity readIdentity(PacketReader reader) throws MalformedPacketException {
+		int ordinal = reader.readUnsignedByte();
+		if(ordinal >= IDENTITIES.length){
+			throw new MalformedPacketException("Unknown collision identity: " + ordinal);
+		}
+		return IDENTITIES[ordinal];
+	}
+}
@@ -0,0 +1,95 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import me.retrodaredevil.game.trackshooter.CollisionIdentity;
+import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.entity.enemies.shark.Shark;
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The state of a single entity in a {@link WorldSnapshot}. This is immutable so snapshots can share states that did
+ * not change.
+ * <p>
+ * The location and rotation are quantized so the host and each client end up with exactly the same values after a
+ * delta is applied.
+ */
+public final class EntityState {
+	/** The resolution of x and y in world units */
+	public static final float POSITION_RESOLUTION = 1 / 128f;
+
+	private final int id;
+	private final EntityType type;
+	private final CollisionIdentity collisionIdentity;
+	private final int x, y;
+	/** From 0 to 65535 */
+	private final int rotation;
+	private final int lives;
+
+	EntityState(int id, EntityType type, CollisionIdentity collisionIdentity, int x, int y, int rotation, int lives){
+		this.id = id;
+		this.type = requireNonNull(type);
+		this.collisionIdentity = requireNonNull(collisionIdentity);
+		this.x = x;
+		this.y = y;
+		this.rotation = rotation;
+		this.lives = lives;
+	}
+
+	/**
+	 * @param id The id of the entity
+	 * @param entity The entity
+	 * @param previous The state of the entity last time or null. Returned if nothing changed
+	 * @return The current state of the entity
+	 */
+	static EntityState capture(int id, Entity entity, EntityState previous){
+		int x = Math.round(entity.getX() / POSITION_RESOLUTION);
+		int y = Math.round(entity.getY() / POSITION_RESOLUTION);
+		int rotation = PacketWriter.quantizeAngle(entity.getRotation());
+		int lives = getLives(entity);
+		CollisionIdentity collisionIdentity = entity.getCollisionIdentity();
+		if(previous != null && previous.x == x && previous.y == y && previous.rotation == rotation
+				&& previous.lives == lives && previous.collisionIdentity == collisionIdentity){
+			return previous;
+		}
+		return new EntityState(id, previous != null ? previous.type : EntityType.of(entity), collisionIdentity, x, y, rotation, lives);
+	}
+	private static int getLives(Entity entity){
+		if(entity instanceof Player){
+			return ((Player) entity).getScoreObject().getLives();
+		}
+		if(entity instanceof Shark){
+			return ((Shark) entity).getLives();
+		}
+		return 0;
+	}
+
+	/** @return The id of the entity. Unique for as long as the entity stays in the world */
+	public int getId(){ return id; }
+	public EntityType getType(){ return type; }
+	public CollisionIdentity getCollisionIdentity(){ return collisionIdentity; }
+	public float getX(){ return x * POSITION_RESOLUTION; }
+	public float getY(){ return y * POSITION_RESOLUTION; }
+	/** @return The rotation in degrees from 0 to 360 */
+	public float getRotation(){ return PacketReader.toDegrees(rotation); }
+	/** @return The number of lives the entity has or 0 if it does not have lives */
+	public int getLives(){ return lives; }
+
+	/** @return true if other is this or has the same values as this */
+	boolean hasSameValues(EntityState other){
+		return this == other || (id == other.id && type == other.type && collisionIdentity == other.collisionIdentity
+				&& x == other.x && y == other.y && rotation == other.rotation && lives == other.lives);
+	}
+
+	int getQuantizedX(){ return x; }
+	int getQuantizedY(){ return y; }
+	int getQuantizedRotation(){ return rotation; }
+
+	@Override
+	public String toString() {
+		return "EntityState(id=" + id + ", type=" + type + ", identity=" + collisionIdentity
+				+ ", x=" + getX() + ", y=" + getY() + ", rotation=" + getRotation() + ", lives=" + lives + ")";
+	}
+}
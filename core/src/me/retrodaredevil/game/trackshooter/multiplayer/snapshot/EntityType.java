@@ -0,0 +1,49 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import me.retrodaredevil.game.trackshooter.entity.Bullet;
+import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.entity.enemies.Sniper;
+import me.retrodaredevil.game.trackshooter.entity.enemies.StarFish;
+import me.retrodaredevil.game.trackshooter.entity.enemies.shark.Shark;
+import me.retrodaredevil.game.trackshooter.entity.enemies.snake.SnakePart;
+import me.retrodaredevil.game.trackshooter.entity.friendly.CargoShip;
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.entity.powerup.PowerupEntity;
+
+/**
+ * The type of an entity in a {@link WorldSnapshot} so a client knows what to show. The ordinal is sent, so new
+ * values must only be added to the end.
+ */
+public enum EntityType {
+	OTHER,
+	PLAYER,
+	BULLET,
+	SNAKE_PART,
+	SHARK,
+	SNIPER,
+	STARFISH,
+	CARGO_SHIP,
+	POWERUP;
+
+	private static final EntityType[] VALUES = values();
+
+	/**
+	 * @param ordinal The ordinal of the type
+	 * @return The type or null if there is no type with that ordinal
+	 */
+	static EntityType fromOrdinal(int ordinal){
+		return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+	}
+
+	public static EntityType of(Entity entity){
+		if(entity instanceof Bullet) return BULLET;
+		if(entity instanceof SnakePart) return SNAKE_PART;
+		if(entity instanceof Player) return PLAYER;
+		if(entity instanceof Shark) return SHARK;
+		if(entity instanceof Sniper) return SNIPER;
+		if(entity instanceof StarFish) return STARFISH;
+		if(entity instanceof CargoShip) return CARGO_SHIP;
+		if(entity instanceof PowerupEntity) return POWERUP;
+		return OTHER;
+	}
+}
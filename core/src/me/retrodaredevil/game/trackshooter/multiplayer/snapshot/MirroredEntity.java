@@ -0,0 +1,135 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+import me.retrodaredevil.game.trackshooter.entity.SimpleEntity;
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+import me.retrodaredevil.game.trackshooter.render.components.ImageRenderComponent;
+import me.retrodaredevil.game.trackshooter.render.components.RenderComponent;
+import me.retrodaredevil.game.trackshooter.render.components.SharkRenderComponent;
+import me.retrodaredevil.game.trackshooter.util.Resources;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+/**
+ * Shows one of the host's entities on a client. This does nothing on its own. Each time {@link WorldMirror} gets a
+ * new snapshot, this is given the entity's new state and moves to it over the steps until the next snapshot so it
+ * moves smoothly even though a snapshot is not sent every step.
+ * <p>
+ * Only the host checks collisions, so this is never hit and never hits anything.
+ */
+public class MirroredEntity extends SimpleEntity {
+	/** If an entity moves farther than this between snapshots, it is moved there instead of moving smoothly */
+	private static final float TELEPORT_DISTANCE = 1.5f;
+
+	private final EntityType type;
+	private float startX, startY, startRotation;
+	private float targetX, targetY, targetRotation;
+	private int stepsSinceTarget = 0;
+	private int lives;
+
+	/** Only initialized for sharks */
+	private RenderComponent fullRender, hitRender, wornRender;
+
+	MirroredEntity(World world, EntityState state){
+		super(world);
+		type = state.getType();
+		canRespawn = false;
+		canSetToRemove = true;
+		setLocation(state.getX(), state.getY(), state.getRotation());
+		setTarget(state);
+	}
+
+	/**
+	 * @param state The state from the newest snapshot
+	 */
+	void setTarget(EntityState state){
+		startX = getX();
+		startY = getY();
+		startRotation = getRotation();
+		targetX = state.getX();
+		targetY = state.getY();
+		targetRotation = state.getRotation();
+		if(Vector2.dst2(startX, startY, targetX, targetY) > TELEPORT_DISTANCE * TELEPORT_DISTANCE){
+			startX = targetX;
+			startY = targetY;
+			startRotation = targetRotation;
+		}
+		stepsSinceTarget = 0;
+		collisionIdentity = state.getCollisionIdentity();
+		lives = state.getLives();
+	}
+
+	@Override
+	public void beforeSpawn() {
+		super.beforeSpawn();
+		RenderObject renderObject = world.getRenderObject();
+		switch(type){
+			case SHARK:
+				fullRender = new SharkRenderComponent(Resources.Shark.FULL_HEALTH.getSprites(renderObject), this, 1.0f, 1.0f);
+				hitRender = new SharkRenderComponent(Resources.Shark.MIDDLE_HEALTH.getSprites(renderObject), this, 1.0f, 1.0f);
+				wornRender = new SharkRenderComponent(Resources.Shark.LOW_HEALTH.getSprites(renderObject), this, 1.0f, 1.0f);
+				updateSharkRenderComponent();
+				break;
+			case PLAYER:
+				setRenderComponent(new ImageRenderComponent(Player.Type.SNIPER.getDrawable(renderObject), this, .8f, .8f));
+				break;
+			case BULLET:
+				setRenderComponent(createImage(Resources.Sprite.BULLET, .5f));
+				break;
+			case SNAKE_PART: // the size of each part depends on the length of the snake, which isn't sent
+				setRenderComponent(createImage(Resources.Sprite.SNAKE_PART, .5f));
+				break;
+			case SNIPER:
+				setRenderComponent(createImage(Resources.Sprite.SNIPER, .6f));
+				break;
+			case STARFISH:
+				setRenderComponent(createImage(Resources.Sprite.STARFISH, .6f));
+				break;
+			case CARGO_SHIP:
+				setRenderComponent(createImage(Resources.Sprite.CARGO_SHIP, 1.0f));
+				break;
+			case POWERUP:
+				setRenderComponent(createImage(Resources.Sprite.POWERUP, .8f));
+				break;
+			default: // we don't know what it looks like
+				break;
+		}
+	}
+	private RenderComponent createImage(Resources.Sprite sprite, float size){
+		return new ImageRenderComponent(world.getDrawables().getDrawable(sprite), this, size, size);
+	}
+	private void updateSharkRenderComponent(){
+		if(lives <= 1){
+			setRenderComponent(wornRender, false);
+		} else if(lives == 2){
+			setRenderComponent(hitRender, false);
+		} else {
+			setRenderComponent(fullRender, false);
+		}
+	}
+
+	@Override
+	public void update(float delta) {
+		super.update(delta);
+		stepsSinceTarget++;
+		float alpha = Math.min(1, stepsSinceTarget / (float) SnapshotSender.STEPS_PER_SNAPSHOT);
+		setLocation(MathUtils.lerp(startX, targetX, alpha), MathUtils.lerp(startY, targetY, alpha),
+				MathUtils.lerpAngleDeg(startRotation, targetRotation, alpha));
+		if(type == EntityType.SHARK){
+			updateSharkRenderComponent();
+		}
+	}
+
+	@Override
+	public void disposeRenderComponent() {
+		if(type == EntityType.SHARK){
+			fullRender.dispose();
+			hitRender.dispose();
+			wornRender.dispose();
+		} else {
+			super.disposeRenderComponent();
+		}
+	}
+}
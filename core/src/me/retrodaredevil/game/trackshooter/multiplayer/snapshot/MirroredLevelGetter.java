@@ -0,0 +1,133 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import me.retrodaredevil.game.trackshooter.GameLevelGetter;
+import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.level.Level;
+import me.retrodaredevil.game.trackshooter.level.LevelGetter;
+import me.retrodaredevil.game.trackshooter.level.LevelMode;
+import me.retrodaredevil.game.trackshooter.world.Track;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The LevelGetter of a client's World. The host decides when each level ends and what mode it is in, so the levels
+ * created by this do nothing on their own. They use the same tracks as {@link GameLevelGetter} and follow the level
+ * number and mode that {@link WorldMirror} gets from the host's snapshots.
+ */
+public class MirroredLevelGetter implements LevelGetter {
+	private final Track[] tracks = GameLevelGetter.createTracks();
+	private int levelNumber = 0; // incremented before each level is created
+	private int hostLevelNumber = 1;
+	private LevelMode hostMode = LevelMode.RESET;
+
+	/**
+	 * @param levelNumber The number of the host's level
+	 * @param mode The mode of the host's level
+	 */
+	void setHostLevel(int levelNumber, LevelMode mode){
+		this.hostLevelNumber = levelNumber;
+		this.hostMode = requireNonNull(mode);
+	}
+
+	@Override
+	public Level nextLevel(World world) {
+		levelNumber++;
+		return new MirroredLevel(world, levelNumber, tracks[(levelNumber - 1) % tracks.length]);
+	}
+
+	private final class MirroredLevel implements Level {
+		private final World world;
+		private final int number;
+		private final Track track;
+		private final List<Entity> entityList = new ArrayList<>();
+		private LevelMode mode = LevelMode.RESET;
+		private float time = 0;
+		private float modeTime = 0;
+
+		private MirroredLevel(World world, int number, Track track){
+			this.world = world;
+			this.number = number;
+			this.track = track;
+		}
+
+		@Override
+		public void update(float delta) {
+			time += delta;
+			modeTime += delta;
+			if(number == hostLevelNumber){
+				setMode(hostMode);
+			}
+			World.updateEntityList(entityList);
+		}
+
+		@Override
+		public int getNumber() {
+			return number;
+		}
+
+		@Override
+		public Track getTrack() {
+			return track;
+		}
+
+		@Override
+		public void addEntity(Entity entity) {
+			world.addEntity(entity);
+			entityList.add(entity);
+		}
+
+		@Override
+		public Collection<Entity> getEntities() {
+			return entityList;
+		}
+
+		@Override
+		public boolean isDone() {
+			return hostLevelNumber > number;
+		}
+
+		@Override
+		public boolean isEndingSoon() {
+			return false;
+		}
+
+		@Override
+		public void setMode(LevelMode mode) {
+			assert mode != null;
+			if(mode != this.mode){
+				this.mode = mode;
+				modeTime = 0;
+			}
+		}
+
+		@Override
+		public LevelMode getMode() {
+			return mode;
+		}
+
+		@Override
+		public long getModeTimeMillis() {
+			return (long) (modeTime * 1000L);
+		}
+
+		@Override
+		public float getModeTime() {
+			return modeTime;
+		}
+
+		@Override
+		public long getLevelTimeMillis() {
+			return (long) (time * 1000L);
+		}
+
+		@Override
+		public float getLevelTime() {
+			return time;
+		}
+	}
+}
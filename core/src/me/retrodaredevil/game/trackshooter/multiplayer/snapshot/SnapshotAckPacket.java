@@ -0,0 +1,43 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.MalformedPacketException;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketSerializer;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+
+/**
+ * Sent from a client to the host with the tick of the newest snapshot the client has. The host uses that snapshot as
+ * the baseline of the next snapshot it sends to the client.
+ */
+public final class SnapshotAckPacket implements Packet {
+	public static final PacketSerializer<SnapshotAckPacket> SERIALIZER = new PacketSerializer<SnapshotAckPacket>() {
+		@Override
+		public void write(SnapshotAckPacket packet, PacketWriter writer) {
+			writer.writeVarLong(packet.tick);
+		}
+
+		@Override
+		public SnapshotAckPacket read(PacketReader reader) throws MalformedPacketException {
+			long tick = reader.readVarLong();
+			if(tick <= 0){
+				throw new MalformedPacketException("Invalid tick: " + tick);
+			}
+			return new SnapshotAckPacket(tick);
+		}
+	};
+
+	private final long tick;
+
+	public SnapshotAckPacket(long tick){
+		this.tick = tick;
+	}
+
+	public long getTick(){ return tick; }
+
+	/** @return false because a newer ack is sent with each snapshot that is received */
+	@Override
+	public boolean isReliable() {
+		return false;
+	}
+}
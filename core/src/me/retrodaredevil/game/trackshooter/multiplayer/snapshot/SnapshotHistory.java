@@ -0,0 +1,27 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+/**
+ * Keeps the last {@link #SIZE} snapshots so they can be used as baselines
+ */
+final class SnapshotHistory {
+	/** One second of snapshots. A client that takes longer than this to acknowledge a snapshot is sent a full snapshot */
+	static final int SIZE = SnapshotSender.SNAPSHOTS_PER_SECOND;
+
+	private final WorldSnapshot[] snapshots = new WorldSnapshot[SIZE];
+
+	void put(WorldSnapshot snapshot){
+		snapshots[(int) (snapshot.getTick() % SIZE)] = snapshot;
+	}
+
+	/**
+	 * @param tick The tick of the snapshot
+	 * @return The snapshot or null if it was never put or is too old
+	 */
+	WorldSnapshot get(long tick){
+		if(tick < 0){
+			return null;
+		}
+		WorldSnapshot snapshot = snapshots[(int) (tick % SIZE)];
+		return snapshot != null && snapshot.getTick() == tick ? snapshot : null;
+	}
+}
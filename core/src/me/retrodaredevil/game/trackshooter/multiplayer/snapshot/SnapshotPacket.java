@@ -0,0 +1,139 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import me.retrodaredevil.game.trackshooter.level.LevelMode;
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.MalformedPacketException;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketSerializer;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+
+/**
+ * Sent from the host to clients. Has the difference between a snapshot of the world and a baseline snapshot that the
+ * client has acknowledged. Created by {@link SnapshotSender} and read by {@link SnapshotReceiver}.
+ * <p>
+ * The tick is written as a varlong followed by how many ticks ago the baseline was, or 0 if there is no baseline. Then
+ * the level number and the ordinal of the level mode are written followed by the number of players and the score and
+ * lives of each one. They are only a few bytes, so they are sent in every packet instead of as a difference. Then the ids of removed entities and the {@link EntityDelta}s are written. Both are sorted by id, so each id is written as
+ * the difference from the id before it.
+ */
+public final class SnapshotPacket implements Packet {
+	private static final LevelMode[] MODES = LevelMode.values();
+
+	public static final PacketSerializer<SnapshotPacket> SERIALIZER = new PacketSerializer<SnapshotPacket>() {
+		@Override
+		public void write(SnapshotPacket packet, PacketWriter writer) {
+			writer.writeVarLong(packet.tick);
+			writer.writeVarInt(packet.baselineTick < 0 ? 0 : (int) (packet.tick - packet.baselineTick));
+			writer.writeVarInt(packet.levelNumber);
+			writer.writeByte(packet.levelMode.ordinal());
+			writer.writeVarInt(packet.playerScores.length);
+			for(int i = 0; i < packet.playerScores.length; i++){
+				writer.writeVarInt(packet.playerScores[i]);
+				writer.writeSignedVarInt(packet.playerLives[i]);
+			}
+			writer.writeVarInt(packet.removedIds.length);
+			int previousId = 0;
+			for(int id : packet.removedIds){
+				writer.writeVarInt(id - previousId);
+				previousId = id;
+			}
+			writer.writeVarInt(packet.deltas.length);
+			previousId = 0;
+			for(EntityDelta delta : packet.deltas){
+				writer.writeVarInt(delta.getId() - previousId);
+				previousId = delta.getId();
+				delta.write(writer);
+			}
+		}
+
+		@Override
+		public SnapshotPacket read(PacketReader reader) throws MalformedPacketException {
+			long tick = reader.readVarLong();
+			int baselineOffset = reader.readVarInt();
+			if(tick <= 0 || baselineOffset < 0 || baselineOffset >= tick){
+				throw new MalformedPacketException("Invalid tick: " + tick + " or baseline offset: " + baselineOffset);
+			}
+			int levelNumber = reader.readVarInt();
+			int modeOrdinal = reader.readUnsignedByte();
+			if(levelNumber <= 0 || modeOrdinal >= MODES.length){
+				throw new MalformedPacketException("Invalid level number: " + levelNumber + " or mode: " + modeOrdinal);
+			}
+			int[] playerScores = new int[readCount(reader)];
+			int[] playerLives = new int[playerScores.length];
+			for(int i = 0; i < playerScores.length; i++){
+				playerScores[i] = reader.readVarInt();
+				playerLives[i] = reader.readSignedVarInt();
+				if(playerScores[i] < 0 || playerLives[i] < -1){
+					throw new MalformedPacketException("Invalid score: " + playerScores[i] + " or lives: " + playerLives[i]);
+				}
+			}
+			int[] removedIds = new int[readCount(reader)];
+			int id = 0;
+			for(int i = 0; i < removedIds.length; i++){
+				id = readNextId(reader, id, i);
+				removedIds[i] = id;
+			}
+			EntityDelta[] deltas = new EntityDelta[readCount(reader)];
+			id = 0;
+			for(int i = 0; i < deltas.length; i++){
+				id = readNextId(reader, id, i);
+				deltas[i] = EntityDelta.read(id, reader);
+			}
+			return new SnapshotPacket(tick, baselineOffset == 0 ? -1 : tick - baselineOffset, levelNumber, MODES[modeOrdinal],
+					playerScores, playerLives, removedIds, deltas);
+		}
+		private int readCount(PacketReader reader) throws MalformedPacketException {
+			int count = reader.readVarInt();
+			if(count < 0 || count > reader.remaining()){ // each element takes at least 1 byte
+				throw new MalformedPacketException("Invalid count: " + count);
+			}
+			return count;
+		}
+		private int readNextId(PacketReader reader, int previousId, int index) throws MalformedPacketException {
+			int difference = reader.readVarInt();
+			if(difference < 0 || (index > 0 && difference == 0)){ // ids must be increasing
+				throw new MalformedPacketException("Invalid id difference: " + difference);
+			}
+			return previousId + difference;
+		}
+	};
+
+	private final long tick;
+	private final long baselineTick;
+	private final int levelNumber;
+	private final LevelMode levelMode;
+	private final int[] playerScores;
+	private final int[] playerLives;
+	private final int[] removedIds;
+	private final EntityDelta[] deltas;
+
+	SnapshotPacket(long tick, long baselineTick, int levelNumber, LevelMode levelMode, int[] playerScores, int[] playerLives, int[] removedIds, EntityDelta[] deltas){
+		this.tick = tick;
+		this.baselineTick = baselineTick;
+		this.levelNumber = levelNumber;
+		this.levelMode = levelMode;
+		this.playerScores = playerScores;
+		this.playerLives = playerLives;
+		this.removedIds = removedIds;
+		this.deltas = deltas;
+	}
+
+	public long getTick(){ return tick; }
+	/** @return The tick of the baseline snapshot or -1 if there is no baseline */
+	public long getBaselineTick(){ return baselineTick; }
+	public int getLevelNumber(){ return levelNumber; }
+	public LevelMode getLevelMode(){ return levelMode; }
+
+	int[] getPlayerScores(){ return playerScores; }
+	int[] getPlayerLives(){ return playerLives; }
+	int[] getRemovedIds(){ return removedIds; }
+	EntityDelta[] getDeltas(){ return deltas; }
+
+	/** @return The number of entities whose state was sent */
+	public int getDeltaCount(){ return deltas.length; }
+
+	@Override
+	public boolean isReliable() {
+		return false;
+	}
+}
@@ -0,0 +1,45 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+/**
+ * Used by a client to turn each {@link SnapshotPacket} from the host back into a {@link WorldSnapshot}
+ */
+public class SnapshotReceiver {
+	private final SnapshotHistory history = new SnapshotHistory();
+	private WorldSnapshot latest = null;
+
+	/**
+	 * @param packet The packet from the host
+	 * @return The new snapshot or null if the packet is older than {@link #getLatest()} or its baseline is unknown
+	 */
+	public WorldSnapshot onSnapshot(SnapshotPacket packet){
+		if(latest != null && packet.getTick() <= latest.getTick()){
+			return null; // arrived out of order
+		}
+		final WorldSnapshot baseline;
+		if(packet.getBaselineTick() < 0){
+			baseline = WorldSnapshot.EMPTY;
+		} else {
+			baseline = history.get(packet.getBaselineTick());
+			if(baseline == null){
+				return null;
+			}
+		}
+		WorldSnapshot snapshot = SnapshotSender.apply(baseline, packet);
+		if(snapshot == null){
+			return null;
+		}
+		history.put(snapshot);
+		latest = snapshot;
+		return snapshot;
+	}
+
+	/** @return The newest snapshot or null if no snapshot has been received */
+	public WorldSnapshot getLatest(){
+		return latest;
+	}
+
+	/** @return The packet that should be sent to the host after a snapshot is received or null if no snapshot has been received */
+	public SnapshotAckPacket createAck(){
+		return latest == null ? null : new SnapshotAckPacket(latest.getTick());
+	}
+}
@@ -0,0 +1,349 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import me.retrodaredevil.game.trackshooter.GameScreen;
+import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.entity.player.Score;
+import me.retrodaredevil.game.trackshooter.level.Level;
+import me.retrodaredevil.game.trackshooter.level.LevelMode;
+import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketCodec;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Used by the host to send a snapshot of the world to each client {@link #SNAPSHOTS_PER_SECOND} times each second.
+ * <p>
+ * Each snapshot is sent as the difference from the newest snapshot that the client has acknowledged. Clients that
+ * have the same baseline are sent the same packet, so when every client is caught up a single packet is
+ * sent to everyone.
+ * <p>
+ * Each packet is limited to {@link #MAX_SNAPSHOT_SIZE} bytes. When not every change fits, the changes that are left
+ * out are sent first in the next snapshot so every entity is eventually sent. Because of this, the snapshot that a client ends
+ * up with is not always the same as the world. The host remembers what each client ends up with so that the next
+ * difference is correct.
+ */
+public class SnapshotSender {
+	/** The number of snapshots sent each second. A snapshot is taken every {@link #STEPS_PER_SNAPSHOT} updates of the world */
+	public static final int SNAPSHOTS_PER_SECOND = 60;
+	/** The maximum size of a snapshot packet. This limits the bandwidth used for each client to {@link #SNAPSHOTS_PER_SECOND} times this (36 KB) each second */
+	public static final int MAX_SNAPSHOT_SIZE = 600;
+	/** The number of fixed steps between each snapshot */
+	static final int STEPS_PER_SNAPSHOT = Math.max(1, Math.round(1 / (GameScreen.STEP_DELTA * SNAPSHOTS_PER_SECOND)));
+	/** The number of bytes reserved for the tick, baseline, level and counts. The scores and lives of the players are not included */
+	private static final int HEADER_SIZE = 24;
+	private static final Comparator<EntityState> ID_COMPARATOR = (a, b) -> Integer.compare(a.getId(), b.getId());
+
+	static {
+		if(MAX_SNAPSHOT_SIZE > PacketCodec.MAX_PACKET_SIZE){
+			throw new AssertionError("MAX_SNAPSHOT_SIZE must fit in a packet!");
+		}
+	}
+
+	private final World world;
+	private final Multiplayer multiplayer;
+	private final Map<Multiplayer.Player, Client> clients = new HashMap<>();
+
+	/** The id of each entity in the world last tick */
+	private ObjectIntMap<Entity> ids = new ObjectIntMap<>();
+	private ObjectIntMap<Entity> nextIds = new ObjectIntMap<>();
+	/** Ids up to the number of players are used by {@link Player}s */
+	private int nextId;
+	/** Each player by its index in {@link Multiplayer#getPlayers()}. Kept after they are removed so their lives are still sent. null until a player is first seen */
+	private final Player[] players;
+	/** The number of the last snapshot. Incremented each time a snapshot is taken, not each time the world is updated */
+	private long tick = 0;
+	private int stepsSinceSnapshot = 0;
+	private WorldSnapshot lastSnapshot = WorldSnapshot.EMPTY;
+	/** The index of the change to try to send first. Moves forward so changes that don't fit are sent next time */
+	private int changeOffset = 0;
+	private int lastPacketSize = 0;
+
+	private final Array<EntityState> states = new Array<>(false, 64, EntityState.class);
+	private final List<Client> group = new ArrayList<>();
+	private final List<Multiplayer.Player> groupPlayers = new ArrayList<>();
+	private final IntArray removedIds = new IntArray();
+	private final Array<EntityDelta> changes = new Array<>(true, 64, EntityDelta.class);
+
+	public SnapshotSender(World world, Multiplayer multiplayer){
+		this.world = requireNonNull(world);
+		this.multiplayer = requireNonNull(multiplayer);
+		players = new Player[multiplayer.getPlayers().size()];
+		nextId = getPlayerId(players.length);
+	}
+
+	/**
+	 * Each {@link Player} always has the same id, even after it respawns, so a client can tell which entity is its own player
+	 * @param playerIndex The index of the player in {@link Multiplayer#getPlayers()}
+	 * @return The id of the player in each snapshot
+	 */
+	public static int getPlayerId(int playerIndex){
+		return playerIndex + 1;
+	}
+
+	/** @return The number of the last snapshot that was taken */
+	public long getTick(){
+		return tick;
+	}
+	/** @return The size in bytes of the last packet that was sent, not including the packet id */
+	public int getLastPacketSize(){
+		return lastPacketSize;
+	}
+
+	/**
+	 * Should be called after each update of the world. Every {@link #STEPS_PER_SNAPSHOT} calls, this takes a snapshot of
+	 * the world and sends it to each client.
+	 */
+	public void update(){
+		stepsSinceSnapshot++;
+		if(stepsSinceSnapshot < STEPS_PER_SNAPSHOT){
+			return;
+		}
+		stepsSinceSnapshot = 0;
+		tick++;
+		WorldSnapshot snapshot = capture();
+		lastSnapshot = snapshot;
+
+		for(Multiplayer.Player player : multiplayer.getNonHandledPlayers()){
+			Client client = clients.get(player);
+			if(client == null){
+				client = new Client();
+				clients.put(player, client);
+			}
+			client.sent = false;
+		}
+		lastPacketSize = 0;
+		for(Multiplayer.Player player : multiplayer.getNonHandledPlayers()){
+			Client client = clients.get(player);
+			if(client.sent){
+				continue;
+			}
+			WorldSnapshot baseline = client.getBaseline();
+			group.clear();
+			groupPlayers.clear();
+			for(Multiplayer.Player other : multiplayer.getNonHandledPlayers()){
+				Client otherClient = clients.get(other);
+				if(!otherClient.sent && otherClient.getBaseline() == baseline){ // the same instance, so they have exactly the same snapshot
+					otherClient.sent = true;
+					group.add(otherClient);
+					groupPlayers.add(other);
+				}
+			}
+			SnapshotPacket packet = createPacket(baseline, snapshot);
+			WorldSnapshot result = apply(baseline, packet);
+			assert result != null;
+			for(Client member : group){
+				member.history.put(result);
+			}
+			if(group.size() == multiplayer.getNonHandledPlayers().size()){
+				multiplayer.sendToEveryone(packet);
+			} else {
+				multiplayer.sendToPlayers(packet, groupPlayers);
+			}
+		}
+	}
+
+	/**
+	 * @param player The player that sent the packet
+	 * @param packet The acknowledgement
+	 */
+	public void onAck(Multiplayer.Player player, SnapshotAckPacket packet){
+		Client client = clients.get(player);
+		if(client != null && packet.getTick() > client.ackedTick && packet.getTick() <= tick){
+			client.ackedTick = packet.getTick();
+		}
+	}
+
+	private WorldSnapshot capture(){
+		ObjectIntMap<Entity> currentIds = nextIds;
+		currentIds.clear();
+		states.clear();
+		for(Entity entity : world.getEntities()){
+			int id = ids.get(entity, 0);
+			if(id == 0){
+				id = entity instanceof Player ? findPlayerId((Player) entity) : 0;
+				if(id == 0){
+					id = nextId++;
+				}
+			}
+			currentIds.put(entity, id);
+			if(id <= players.length){ // only players have these ids
+				players[id - 1] = (Player) entity;
+			}
+			states.add(EntityState.capture(id, entity, lastSnapshot.find(id)));
+		}
+		nextIds = ids;
+		ids = currentIds;
+		states.sort(ID_COMPARATOR);
+		Level level = world.getLevel();
+		LevelMode mode = level.getMode();
+		int[] playerScores = new int[players.length];
+		int[] playerLives = new int[players.length];
+		for(int i = 0; i < players.length; i++){
+			Player player = players[i];
+			if(player == null){
+				playerLives[i] = -1;
+			} else {
+				Score score = player.getScoreObject();
+				playerScores[i] = Math.max(0, score.getScore());
+				playerLives[i] = Math.max(0, score.getLives());
+			}
+		}
+		return new WorldSnapshot(tick, level.getNumber(), mode == null ? LevelMode.RESET : mode, Arrays.copyOf(states.items, states.size),
+				playerScores, playerLives);
+	}
+	/** @return The id reserved for the player or 0 if it is not one of {@link Multiplayer#getPlayers()} */
+	private int findPlayerId(Player player){
+		int index = 0;
+		for(Multiplayer.Player multiplayerPlayer : multiplayer.getPlayers()){
+			if(multiplayerPlayer == player.getMultiplayerPlayer()){
+				return getPlayerId(index);
+			}
+			index++;
+		}
+		return 0;
+	}
+
+	/**
+	 * Finds the differences between the baseline and the current snapshot and puts as many as can fit in a packet
+	 */
+	private SnapshotPacket createPacket(WorldSnapshot baseline, WorldSnapshot current){
+		removedIds.clear();
+		changes.clear();
+		int baselineIndex = 0, currentIndex = 0;
+		while(baselineIndex < baseline.size() || currentIndex < current.size()){
+			EntityState baselineState = baselineIndex < baseline.size() ? baseline.get(baselineIndex) : null;
+			EntityState currentState = currentIndex < current.size() ? current.get(currentIndex) : null;
+			if(currentState == null || (baselineState != null && baselineState.getId() < currentState.getId())){
+				removedIds.add(baselineState.getId());
+				baselineIndex++;
+			} else if(baselineState == null || currentState.getId() < baselineState.getId()){
+				changes.add(EntityDelta.create(null, currentState));
+				currentIndex++;
+			} else {
+				if(!baselineState.hasSameValues(currentState)){
+					changes.add(EntityDelta.create(baselineState, currentState));
+				}
+				baselineIndex++;
+				currentIndex++;
+			}
+		}
+		int size = HEADER_SIZE;
+		for(int i = 0; i < current.getPlayerScoreArray().length; i++){
+			size += PacketWriter.getVarIntSize(current.getPlayerScoreArray()[i]) + PacketWriter.getSignedVarIntSize(current.getPlayerLivesArray()[i]);
+		}
+		int removedCount = 0;
+		for(int i = 0; i < removedIds.size; i++){
+			int idSize = PacketWriter.getVarIntSize(removedIds.get(i));
+			if(size + idSize > MAX_SNAPSHOT_SIZE){
+				break;
+			}
+			size += idSize;
+			removedCount++;
+		}
+		boolean[] chosen = new boolean[changes.size];
+		int chosenCount = 0;
+		int start = changes.size == 0 ? 0 : changeOffset % changes.size;
+		int lastChosen = -1;
+		for(int i = 0; i < changes.size; i++){
+			int index = (start + i) % changes.size;
+			EntityDelta change = changes.get(index);
+			int changeSize = PacketWriter.getVarIntSize(change.getId()) + change.getSize();
+			if(size + changeSize <= MAX_SNAPSHOT_SIZE){
+				size += changeSize;
+				chosen[index] = true;
+				chosenCount++;
+				lastChosen = index;
+			}
+		}
+		if(chosenCount < changes.size){
+			changeOffset = lastChosen + 1;
+		}
+		EntityDelta[] deltas = new EntityDelta[chosenCount];
+		int deltaIndex = 0;
+		for(int i = 0; i < changes.size; i++){
+			if(chosen[i]){
+				deltas[deltaIndex++] = changes.get(i);
+			}
+		}
+		lastPacketSize = Math.max(lastPacketSize, size);
+		return new SnapshotPacket(current.getTick(), baseline.getTick(), current.getLevelNumber(), current.getLevelMode(),
+				current.getPlayerScoreArray(), current.getPlayerLivesArray(), Arrays.copyOf(removedIds.items, removedCount), deltas);
+	}
+
+	/**
+	 * Applies the packet to the baseline the same way a client does
+	 * @param baseline The baseline that the packet was created from
+	 * @param packet The packet
+	 * @return The snapshot that the client will have after receiving the packet or null if the packet is invalid
+	 */
+	static WorldSnapshot apply(WorldSnapshot baseline, SnapshotPacket packet){
+		int[] removed = packet.getRemovedIds();
+		EntityDelta[] deltas = packet.getDeltas();
+		List<EntityState> result = new ArrayList<>(baseline.size() + deltas.length);
+		int removedIndex = 0, deltaIndex = 0;
+		for(int i = 0; i < baseline.size(); i++){
+			EntityState state = baseline.get(i);
+			int id = state.getId();
+			while(deltaIndex < deltas.length && deltas[deltaIndex].getId() < id){ // new entities come before this one
+				EntityDelta delta = deltas[deltaIndex++];
+				if(!delta.isNew()){
+					return null;
+				}
+				result.add(delta.apply(null));
+			}
+			while(removedIndex < removed.length && removed[removedIndex] < id){
+				removedIndex++; // not in the baseline
+			}
+			if(removedIndex < removed.length && removed[removedIndex] == id){
+				removedIndex++;
+				continue;
+			}
+			if(deltaIndex < deltas.length && deltas[deltaIndex].getId() == id){
+				EntityDelta delta = deltas[deltaIndex++];
+				if(delta.isNew()){
+					return null;
+				}
+				result.add(delta.apply(state));
+			} else {
+				result.add(state);
+			}
+		}
+		while(deltaIndex < deltas.length){
+			EntityDelta delta = deltas[deltaIndex++];
+			if(!delta.isNew()){
+				return null;
+			}
+			result.add(delta.apply(null));
+		}
+		return new WorldSnapshot(packet.getTick(), packet.getLevelNumber(), packet.getLevelMode(), result.toArray(new EntityState[0]),
+				packet.getPlayerScores(), packet.getPlayerLives());
+	}
+
+	private static final class Client {
+		private final SnapshotHistory history = new SnapshotHistory();
+		/** The tick of the newest snapshot the client has or -1 */
+		private long ackedTick = -1;
+		/** true if the current snapshot was already sent to this client */
+		private boolean sent;
+
+		/** @return The snapshot the client acknowledged or {@link WorldSnapshot#EMPTY} if it is unknown */
+		private WorldSnapshot getBaseline(){
+			WorldSnapshot baseline = history.get(ackedTick);
+			return baseline == null ? WorldSnapshot.EMPTY : baseline;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import com.badlogic.gdx.utils.IntMap;
+
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Used by a client to make its World look like the host's. Every entity in the host's snapshots is shown with a
+ * {@link MirroredEntity} instead of being simulated, so the client never needs to make the same random choices or
+ * collisions as the host. The level number and mode are passed to the World's {@link MirroredLevelGetter}.
+ * <p>
+ * The players we handle are simulated and predicted on the client, so they are not mirrored. They are only removed
+ * when they disappear from the host's snapshots and are added back when they reappear. Their score and lives are
+ * always set to the host's, so their game is only over once the host says so.
+ */
+public class WorldMirror {
+	private final World world;
+	private final MirroredLevelGetter levelGetter;
+	/** The entities by their id */
+	private final IntMap<MirroredEntity> entities = new IntMap<>();
+	/** Our players by their id */
+	private final IntMap<PredictedState> predictedPlayers = new IntMap<>();
+	private WorldSnapshot lastSnapshot = null;
+
+	/**
+	 * @param world The client's World
+	 * @param levelGetter The LevelGetter that was passed to the World
+	 */
+	public WorldMirror(World world, MirroredLevelGetter levelGetter){
+		this.world = requireNonNull(world);
+		this.levelGetter = requireNonNull(levelGetter);
+	}
+
+	/**
+	 * @param playerIndex The index of the player in {@link me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer#getPlayers()}
+	 * @param player The player that we simulate so it is not mirrored
+	 */
+	public void addPredictedPlayer(int playerIndex, Player player){
+		predictedPlayers.put(SnapshotSender.getPlayerId(playerIndex), new PredictedState(playerIndex, requireNonNull(player)));
+	}
+
+	/**
+	 * @param player One of the players passed to {@link #addPredictedPlayer(int, Player)}
+	 * @return true if the host has said that the player has no lives left. Once true, this stays true
+	 */
+	public boolean isGameOver(Player player){
+		for(IntMap.Entry<PredictedState> entry : predictedPlayers.entries()){
+			if(entry.value.player == player){
+				return entry.value.lastLives == 0;
+			}
+		}
+		throw new IllegalArgumentException("player was not added!");
+	}
+
+	/**
+	 * Should be called before each update of the world. Does nothing if the snapshot was already applied
+	 * @param snapshot The newest snapshot from the host or null
+	 */
+	public void update(WorldSnapshot snapshot){
+		if(snapshot == null || snapshot == lastSnapshot){
+			return;
+		}
+		lastSnapshot = snapshot;
+		levelGetter.setHostLevel(snapshot.getLevelNumber(), snapshot.getLevelMode());
+
+		for(IntMap.Entries<MirroredEntity> it = entities.entries(); it.hasNext(); ){
+			IntMap.Entry<MirroredEntity> entry = it.next();
+			if(snapshot.find(entry.key) == null){
+				MirroredEntity entity = entry.value;
+				if(!entity.isRemoved()){
+					entity.setToRemove();
+				}
+				it.remove();
+			}
+		}
+		for(int i = 0; i < snapshot.size(); i++){
+			EntityState state = snapshot.get(i);
+			int id = state.getId();
+			if(predictedPlayers.containsKey(id)){
+				continue;
+			}
+			MirroredEntity entity = entities.get(id);
+			if(entity == null){
+				entity = new MirroredEntity(world, state);
+				entities.put(id, entity);
+				world.addEntity(entity);
+			} else {
+				entity.setTarget(state);
+			}
+		}
+		for(IntMap.Entry<PredictedState> entry : predictedPlayers.entries()){
+			entry.value.update(snapshot, snapshot.find(entry.key));
+		}
+	}
+
+	private final class PredictedState {
+		private final int playerIndex;
+		private final Player player;
+		/** true if the player was in the last snapshot. Entities may be left out of a snapshot before they are first sent */
+		private boolean inLastSnapshot = false;
+		/** The lives of the player on the host or -1 if they are not known yet */
+		private int lastLives = -1;
+
+		private PredictedState(int playerIndex, Player player){
+			this.playerIndex = playerIndex;
+			this.player = player;
+		}
+
+		/**
+		 * @param snapshot The newest snapshot
+		 * @param state The state of the player in snapshot or null if the host removed it
+		 */
+		private void update(WorldSnapshot snapshot, EntityState state){
+			if(lastLives == 0){ // the game is over for this player
+				return;
+			}
+			int lives = snapshot.getPlayerLives(playerIndex);
+			boolean lostLife = lives >= 0 && lastLives >= 0 && lives < lastLives; // true even if the snapshots where it was removed never made it to us
+			if((lostLife || (state == null && inLastSnapshot)) && !player.isRemoved()){ // the host's player was hit
+				player.onHostHit();
+			} else if(state != null && player.isRemoved() && lives > 0){ // the host's player respawned
+				world.addEntity(player);
+			}
+			inLastSnapshot = state != null;
+			if(lives >= 0){ // this is done last so that the host's lives replace the life we lost in onHostHit()
+				player.getScoreObject().setFromHost(snapshot.getPlayerScore(playerIndex), lives);
+				lastLives = lives;
+			}
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.snapshot;
+
+import me.retrodaredevil.game.trackshooter.level.LevelMode;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The state of every entity in a World, the number and mode of its level and the score and lives of each player
+ * during a single tick
+ */
+public final class WorldSnapshot {
+	static final WorldSnapshot EMPTY = new WorldSnapshot(-1, 0, LevelMode.RESET, new EntityState[0], new int[0], new int[0]);
+
+	private final long tick;
+	private final int levelNumber;
+	private final LevelMode levelMode;
+	/** Sorted by id */
+	private final EntityState[] states;
+	/** The score of each player by its index in {@link me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer#getPlayers()} */
+	private final int[] playerScores;
+	/** The lives of each player by its index or -1 if it is unknown */
+	private final int[] playerLives;
+
+	/**
+	 * @param tick The tick
+	 * @param levelNumber The number of the level
+	 * @param levelMode The mode of the level
+	 * @param states The states sorted by id. This must not be changed after it is passed
+	 * @param playerScores The score of each player. This must not be changed after it is passed
+	 * @param playerLives The lives of each player or -1 if they are unknown. Must be the same length as playerScores and must not be changed after it is passed
+	 */
+	WorldSnapshot(long tick, int levelNumber, LevelMode levelMode, EntityState[] states, int[] playerScores, int[] playerLives){
+		if(playerScores.length != playerLives.length){
+			throw new IllegalArgumentException("playerScores and playerLives must be the same length!");
+		}
+		this.tick = tick;
+		this.levelNumber = levelNumber;
+		this.levelMode = requireNonNull(levelMode);
+		this.states = states;
+		this.playerScores = playerScores;
+		this.playerLives = playerLives;
+	}
+
+	/** @return The number of the tick this is from. The first tick is 1 */
+	public long getTick(){ return tick; }
+	/** @return The number of the world's level. The first level is 1 */
+	public int getLevelNumber(){ return levelNumber; }
+	public LevelMode getLevelMode(){ return levelMode; }
+	/** @return The number of entities */
+	public int size(){ return states.length; }
+	/**
+	 * @param index The index from 0 to {@link #size()}. States are sorted by id
+	 * @return The state at that index
+	 */
+	public EntityState get(int index){ return states[index]; }
+
+	/**
+	 * Unlike the states, the score and lives of a player are still here while it is removed from the world
+	 * @param playerIndex The index of the player in {@link me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer#getPlayers()}
+	 * @return The player's score or 0 if it is unknown
+	 */
+	public int getPlayerScore(int playerIndex){
+		return playerIndex < playerScores.length ? playerScores[playerIndex] : 0;
+	}
+	/**
+	 * @param playerIndex The index of the player in {@link me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer#getPlayers()}
+	 * @return The player's lives, 0 if its game is over or -1 if it is unknown
+	 */
+	public int getPlayerLives(int playerIndex){
+		return playerIndex < playerLives.length ? playerLives[playerIndex] : -1;
+	}
+	int[] getPlayerScoreArray(){ return playerScores; }
+	int[] getPlayerLivesArray(){ return playerLives; }
+
+	/**
+	 * @param id The id of the entity
+	 * @return The state of the entity or null if it is not in this snapshot
+	 */
+	public EntityState find(int id){
+		int low = 0;
+		int high = states.length - 1;
+		while(low <= high){
+			int middle = (low + high) >>> 1;
+			int middleId = states[middle].getId();
+			if(middleId < id){
+				low = middle + 1;
+			} else if(middleId > id){
+				high = middle - 1;
+			} else {
+				return states[middle];
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,43 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.udp;
+
+import com.badlogic.gdx.utils.IntMap;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+
+/**
+ * Another process that a {@link UdpMultiplayer} is connected to along with the state of the reliable channel to it
+ */
+final class Peer {
+	final int id;
+	final SocketAddress address;
+	boolean connected = true;
+	long lastReceiveNanos;
+	long lastSendNanos;
+
+	int nextSendSequence = 0;
+	/** The reliable datagrams that have been sent but not acknowledged by their sequence number */
+	final IntMap<Outgoing> unacknowledged = new IntMap<>();
+	int nextReceiveSequence = 0;
+	/** Reliable packets that arrived before the packets sent before them */
+	final IntMap<Packet> outOfOrder = new IntMap<>();
+
+	Peer(int id, SocketAddress address, long nanos){
+		this.id = id;
+		this.address = address;
+		this.lastReceiveNanos = nanos;
+		this.lastSendNanos = nanos;
+	}
+
+	static final class Outgoing {
+		final ByteBuffer datagram;
+		long lastSentNanos;
+
+		Outgoing(ByteBuffer datagram, long lastSentNanos){
+			this.datagram = datagram;
+			this.lastSentNanos = lastSentNanos;
+		}
+	}
+}
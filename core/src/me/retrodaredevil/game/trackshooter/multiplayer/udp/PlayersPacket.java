@@ -0,0 +1,71 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.udp;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.MalformedPacketException;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketSerializer;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+
+/**
+ * Sent reliably from the host to each client whenever a client connects or disconnects, the host stops accepting
+ * connections or the seed of the world changes. Has the id of whoever handles each player, whether they are connected,
+ * whether more clients can still join and the seed of the world. Handled by {@link UdpMultiplayer} and never passed to
+ * a listener.
+ */
+public final class PlayersPacket implements Packet {
+	/** The most players a game can have */
+	static final int MAX_PLAYERS = 16;
+
+	public static final PacketSerializer<PlayersPacket> SERIALIZER = new PacketSerializer<PlayersPacket>() {
+		@Override
+		public void write(PlayersPacket packet, PacketWriter writer) {
+			writer.writeBoolean(packet.acceptingConnections);
+			writer.writeSignedVarLong(packet.worldSeed);
+			writer.writeVarInt(packet.ownerIds.length);
+			for(int i = 0; i < packet.ownerIds.length; i++){
+				writer.writeVarInt(packet.ownerIds[i]);
+				writer.writeBoolean(packet.connected[i]);
+			}
+		}
+
+		@Override
+		public PlayersPacket read(PacketReader reader) throws MalformedPacketException {
+			boolean acceptingConnections = reader.readBoolean();
+			long worldSeed = reader.readSignedVarLong();
+			int size = reader.readVarInt();
+			if(size < 0 || size > MAX_PLAYERS){
+				throw new MalformedPacketException("Invalid number of players: " + size);
+			}
+			int[] ownerIds = new int[size];
+			boolean[] connected = new boolean[size];
+			for(int i = 0; i < size; i++){
+				ownerIds[i] = reader.readVarInt();
+				connected[i] = reader.readBoolean();
+			}
+			return new PlayersPacket(ownerIds, connected, acceptingConnections, worldSeed);
+		}
+	};
+
+	private final int[] ownerIds;
+	private final boolean[] connected;
+	private final boolean acceptingConnections;
+	private final long worldSeed;
+
+	PlayersPacket(int[] ownerIds, boolean[] connected, boolean acceptingConnections, long worldSeed){
+		this.ownerIds = ownerIds;
+		this.connected = connected;
+		this.acceptingConnections = acceptingConnections;
+		this.worldSeed = worldSeed;
+	}
+
+	int size(){ return ownerIds.length; }
+	int getOwnerId(int index){ return ownerIds[index]; }
+	boolean isConnected(int index){ return connected[index]; }
+	boolean isAcceptingConnections(){ return acceptingConnections; }
+	long getWorldSeed(){ return worldSeed; }
+
+	@Override
+	public boolean isReliable() {
+		return true;
+	}
+}
@@ -0,0 +1,84 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.udp;
+
+import com.badlogic.gdx.Gdx;
+
+import me.retrodaredevil.game.trackshooter.account.Show;
+import me.retrodaredevil.game.trackshooter.account.multiplayer.AccountMultiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.PacketListener;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link AccountMultiplayer} for a {@link UdpMultiplayer} that was created from the command line or a LAN menu.
+ * There is no room config or inbox to show.
+ * <p>
+ * While the game has not started, {@link #getConnectionState()} receives packets so that clients can connect.
+ */
+public class UdpAccountMultiplayer implements AccountMultiplayer {
+	private static final String TAG = "UdpAccountMultiplayer";
+
+	private final UdpMultiplayer multiplayer;
+	private final int requiredClients;
+	/** true once we have logged that we are waiting. Not done in the constructor because {@link Gdx#app} may not exist yet */
+	private boolean loggedWaiting = false;
+	private boolean started = false;
+
+	/**
+	 * @param multiplayer The multiplayer that is hosting or joining a game
+	 * @param requiredClients The number of clients that must connect before the game starts. Only used when hosting
+	 */
+	public UdpAccountMultiplayer(UdpMultiplayer multiplayer, int requiredClients){
+		this.multiplayer = requireNonNull(multiplayer);
+		this.requiredClients = requiredClients;
+	}
+
+	@Override
+	public Show getShowRoomConfig() {
+		return Show.Defaults.NOT_ABLE;
+	}
+
+	@Override
+	public Show getShowInbox() {
+		return Show.Defaults.NOT_ABLE;
+	}
+
+	@Override
+	public ConnectionState getConnectionState() {
+		if(multiplayer.isClosed()){
+			return ConnectionState.DISCONNECTED;
+		}
+		if(!loggedWaiting){
+			loggedWaiting = true;
+			if(multiplayer.isHost()){
+				Gdx.app.log(TAG, "Hosting on port " + multiplayer.getPort() + ". Waiting for " + requiredClients + " client(s)");
+			} else {
+				Gdx.app.log(TAG, "Waiting for the host to start the game");
+			}
+		}
+		if(!started){
+			// once the game has started, GameScreen receives packets
+			multiplayer.receivePackets(PacketListener.Defaults.IGNORE);
+			if(multiplayer.isHost()){
+				if(multiplayer.getConnectedPeerCount() >= requiredClients){
+					multiplayer.setAcceptingConnections(false);
+					started = true;
+				}
+			} else if(multiplayer.isConnected() && !multiplayer.getPlayers().isEmpty() && !multiplayer.isAcceptingConnections()){
+				started = true;
+			}
+		}
+		if(started){
+			return multiplayer.isConnected() ? ConnectionState.CONNECTED : ConnectionState.DISCONNECTED;
+		}
+		return multiplayer.isClosed() ? ConnectionState.DISCONNECTED : ConnectionState.JOINING;
+	}
+
+	@Override
+	public Multiplayer getMultiplayer() {
+		if(getConnectionState() != ConnectionState.CONNECTED){
+			throw new IllegalStateException("Not connected!");
+		}
+		return multiplayer;
+	}
+}
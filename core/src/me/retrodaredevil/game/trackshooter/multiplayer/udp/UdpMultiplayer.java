@@ -0,0 +1,697 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.udp;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.PacketListener;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.ByteBufferPool;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.MalformedPacketException;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketCodec;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketReader;
+import me.retrodaredevil.game.trackshooter.multiplayer.codec.PacketWriter;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.Packets;
+
+import static java.util.Objects.requireNonNull;
+import static me.retrodaredevil.game.trackshooter.multiplayer.udp.UdpProtocol.*;
+
+/**
+ * A {@link Multiplayer} that sends packets over UDP using a non-blocking {@link DatagramChannel}. One process hosts
+ * and every other process joins it. Clients are only connected to the host, so a client can only send packets to the
+ * host's players.
+ * <p>
+ * Packets where {@link Packet#isReliable()} is true are sent on a reliable channel. They are resent until they are
+ * acknowledged and are passed to the listener in the order they were sent. Other packets are sent once and may be
+ * dropped or arrive out of order.
+ * <p>
+ * Nothing happens in the background. {@link #receivePackets(PacketListener)} must be called regularly to receive
+ * packets, resend reliable packets and keep connections alive. This is not thread safe.
+ */
+public class UdpMultiplayer implements Multiplayer, Closeable {
+	private static final int DATAGRAM_SIZE = PacketCodec.MAX_PACKET_SIZE + MAX_HEADER_SIZE;
+	/** The number of times {@link UdpProtocol#DISCONNECT} is sent when leaving since it may be dropped */
+	private static final int DISCONNECT_REPEAT = 3;
+
+	private final DatagramChannel channel;
+	private final boolean host;
+	private final PacketCodec codec;
+	/** The number of clients that can connect. Only used by the host */
+	private final int maxClients;
+	private final ByteBufferPool datagramPool = new ByteBufferPool(DATAGRAM_SIZE);
+	private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(DATAGRAM_SIZE);
+	/** Each packet is encoded here once and then copied into a datagram for each peer */
+	private final ByteBuffer payloadBuffer = ByteBuffer.allocateDirect(PacketCodec.MAX_PACKET_SIZE);
+	private final PacketReader reader = new PacketReader();
+	private final PacketWriter writer = new PacketWriter();
+
+	/** The clients if we are the host or just the host if we are a client */
+	private final List<Peer> peers = new ArrayList<>();
+	private final Map<SocketAddress, Peer> peersByAddress = new HashMap<>();
+	private final List<UdpPlayer> players = new ArrayList<>();
+	private final List<UdpPlayer> handledPlayers = new ArrayList<>();
+	private final List<UdpPlayer> nonHandledPlayers = new ArrayList<>();
+
+	/** Our id. -1 if we are a client that has not been accepted yet */
+	private int localId;
+	private int nextClientId = HOST_ID + 1;
+	private boolean acceptingConnections = true;
+	/** Picked by the host. On a client, this is 0 until the host tells us */
+	private long worldSeed;
+	private boolean closed = false;
+	private long lastConnectNanos;
+	/** The number of players we handle. Only used by a client before it is accepted */
+	private final int localPlayerCount;
+
+	private UdpMultiplayer(DatagramChannel channel, boolean host, PacketCodec codec, int localPlayerCount, int maxClients) {
+		this.channel = channel;
+		this.host = host;
+		this.codec = requireNonNull(codec);
+		this.localPlayerCount = localPlayerCount;
+		this.maxClients = maxClients;
+	}
+
+	/**
+	 * @param port The port to listen on or 0 to use any free port
+	 * @param localPlayers The number of players the host handles. May be 0 for a dedicated host
+	 * @param maxClients The number of clients that can connect
+	 * @return A new UdpMultiplayer that is hosting a game
+	 * @throws IOException If the port could not be bound
+	 */
+	public static UdpMultiplayer host(int port, int localPlayers, int maxClients) throws IOException {
+		return host(port, localPlayers, maxClients, Packets.createCodec());
+	}
+	/**
+	 * @param codec The codec used to encode and decode packets. Must have every packet from {@link Packets#createCodec()} registered
+	 * @see #host(int, int, int)
+	 */
+	public static UdpMultiplayer host(int port, int localPlayers, int maxClients, PacketCodec codec) throws IOException {
+		if(localPlayers < 0 || maxClients < 0 || localPlayers + maxClients > PlayersPacket.MAX_PLAYERS){
+			throw new IllegalArgumentException("Invalid localPlayers: " + localPlayers + " or maxClients: " + maxClients);
+		}
+		DatagramChannel channel = DatagramChannel.open();
+		try {
+			channel.configureBlocking(false);
+			channel.bind(new InetSocketAddress(port));
+		} catch(IOException e){
+			channel.close();
+			throw e;
+		}
+		UdpMultiplayer multiplayer = new UdpMultiplayer(channel, true, codec, localPlayers, maxClients);
+		multiplayer.localId = HOST_ID;
+		multiplayer.worldSeed = MathUtils.random.nextLong();
+		for(int i = 0; i < localPlayers; i++){
+			multiplayer.players.add(new UdpPlayer(multiplayer, HOST_ID));
+		}
+		multiplayer.updatePlayerLists();
+		return multiplayer;
+	}
+
+	/**
+	 * Starts connecting to a host. {@link #isConnected()} is true once the host accepts us.
+	 * @param hostAddress The address of the host
+	 * @param localPlayers The number of players we handle
+	 * @return A new UdpMultiplayer that is connecting to the host
+	 * @throws IOException If a socket could not be opened
+	 */
+	public static UdpMultiplayer join(InetSocketAddress hostAddress, int localPlayers) throws IOException {
+		return join(hostAddress, localPlayers, Packets.createCodec());
+	}
+	/**
+	 * @param codec The codec used to encode and decode packets. Must have every packet from {@link Packets#createCodec()} registered
+	 * @see #join(InetSocketAddress, int)
+	 */
+	public static UdpMultiplayer join(InetSocketAddress hostAddress, int localPlayers, PacketCodec codec) throws IOException {
+		if(localPlayers <= 0 || localPlayers > PlayersPacket.MAX_PLAYERS){
+			throw new IllegalArgumentException("Invalid localPlayers: " + localPlayers);
+		}
+		DatagramChannel channel = DatagramChannel.open();
+		try {
+			channel.configureBlocking(false);
+			channel.bind(null);
+		} catch(IOException e){
+			channel.close();
+			throw e;
+		}
+		UdpMultiplayer multiplayer = new UdpMultiplayer(channel, false, codec, localPlayers, 0);
+		multiplayer.localId = -1;
+		long now = TimeUtils.nanoTime();
+		Peer hostPeer = new Peer(HOST_ID, hostAddress, now);
+		multiplayer.peers.add(hostPeer);
+		multiplayer.peersByAddress.put(hostAddress, hostPeer);
+		multiplayer.sendConnect(now);
+		return multiplayer;
+	}
+
+	/** @return The port we are listening on */
+	public int getPort(){
+		try {
+			return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+		} catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** @return The number of clients that are connected. Always 0 or 1 for a client */
+	public int getConnectedPeerCount(){
+		int count = 0;
+		for(Peer peer : peers){
+			if(peer.connected && (host || localId >= 0)){
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Only used by the host. Should be set to false once a game starts so the players don't change during the game.
+	 * Clients are told when this changes so they know the game has started.
+	 * @param acceptingConnections true to let new clients connect, false to turn them away
+	 */
+	public void setAcceptingConnections(boolean acceptingConnections){
+		if(!host){
+			throw new IllegalStateException("Only the host can accept connections!");
+		}
+		if(this.acceptingConnections != acceptingConnections){
+			this.acceptingConnections = acceptingConnections;
+			sendPlayers();
+		}
+	}
+	/** @return true if the host is letting new clients connect. On a client, this is true until the host says otherwise */
+	public boolean isAcceptingConnections(){
+		return acceptingConnections;
+	}
+	/**
+	 * Only used by the host. Changes the seed that every player's World is created with. Should be called before
+	 * {@link #setAcceptingConnections(boolean)} is set to false so clients have the seed once they start.
+	 * @param worldSeed The new seed. By default, a random seed is used.
+	 */
+	public void setWorldSeed(long worldSeed){
+		if(!host){
+			throw new IllegalStateException("Only the host can set the world seed!");
+		}
+		if(this.worldSeed != worldSeed){
+			this.worldSeed = worldSeed;
+			sendPlayers();
+		}
+	}
+
+	@Override
+	public long getWorldSeed() {
+		return worldSeed;
+	}
+
+	/** @return true if {@link #leave()} or {@link #close()} was called or if we were a client that lost its connection */
+	public boolean isClosed(){
+		return closed;
+	}
+
+	@Override
+	public boolean isConnected() {
+		if(closed){
+			return false;
+		}
+		if(host){
+			return getConnectedPeerCount() > 0;
+		}
+		return localId >= 0;
+	}
+
+	@Override
+	public void leave() {
+		if(closed){
+			return;
+		}
+		for(Peer peer : peers){
+			if(peer.connected){
+				for(int i = 0; i < DISCONNECT_REPEAT; i++){
+					sendControl(peer, DISCONNECT, -1, TimeUtils.nanoTime());
+				}
+				disconnect(peer, false);
+			}
+		}
+		closed = true;
+		try {
+			channel.close();
+		} catch(IOException ignored){
+		}
+	}
+
+	/** The same as {@link #leave()} */
+	@Override
+	public void close() {
+		leave();
+	}
+
+	@Override
+	public boolean isHost() {
+		return host;
+	}
+
+	@Override
+	public void receivePackets(PacketListener listener) {
+		if(closed){
+			return;
+		}
+		while(true){
+			final SocketAddress address;
+			try {
+				address = channel.receive(receiveBuffer);
+			} catch(IOException e){
+				throw new UncheckedIOException("Unable to receive", e);
+			}
+			if(address == null){
+				break;
+			}
+			receiveBuffer.flip();
+			reader.setBuffer(receiveBuffer);
+			try {
+				handleDatagram(address, listener);
+			} catch(MalformedPacketException ignored){
+				// someone sent us garbage, so it is dropped
+			}
+			receiveBuffer.clear();
+			if(closed){ // the listener left or the host disconnected us
+				return;
+			}
+		}
+		updateConnections(TimeUtils.nanoTime());
+	}
+
+	@Override
+	public void sendToHost(Packet packet) {
+		if(host){
+			throw new IllegalStateException("We are the host!");
+		}
+		sendToEveryone(packet);
+	}
+
+	@Override
+	public void sendToEveryone(Packet packet) {
+		encodePayload(packet);
+		for(Peer peer : peers){
+			sendPayload(peer, packet.isReliable());
+		}
+	}
+
+	@Override
+	public void sendToPlayer(Packet packet, Multiplayer.Player player) {
+		Peer peer = getPeer(player);
+		encodePayload(packet);
+		sendPayload(peer, packet.isReliable());
+	}
+
+	@Override
+	public void sendToPlayers(Packet packet, List<Multiplayer.Player> players) {
+		for(Multiplayer.Player player : players){
+			getPeer(player); // make sure we can send to each player
+		}
+		encodePayload(packet);
+		for(Peer peer : peers){
+			for(Multiplayer.Player player : players){
+				if(((UdpPlayer) player).ownerId == peer.id){
+					sendPayload(peer, packet.isReliable());
+					break;
+				}
+			}
+		}
+	}
+
+	@Override
+	public Collection<? extends Multiplayer.Player> getPlayers() {
+		return Collections.unmodifiableList(players);
+	}
+
+	@Override
+	public Collection<? extends Multiplayer.Player> getHandledPlayers() {
+		return Collections.unmodifiableList(handledPlayers);
+	}
+
+	@Override
+	public Collection<? extends Multiplayer.Player> getNonHandledPlayers() {
+		return Collections.unmodifiableList(nonHandledPlayers);
+	}
+
+	private Peer getPeer(Multiplayer.Player player){
+		if(!(player instanceof UdpPlayer) || ((UdpPlayer) player).multiplayer != this){
+			throw new IllegalArgumentException(player + " is not from this multiplayer!");
+		}
+		int ownerId = ((UdpPlayer) player).ownerId;
+		if(ownerId == localId){
+			throw new IllegalArgumentException(player + " is handled by us!");
+		}
+		if(!host && ownerId != HOST_ID){
+			throw new IllegalArgumentException("A client can only send to the host's players!");
+		}
+		for(Peer peer : peers){
+			if(peer.id == ownerId){
+				return peer;
+			}
+		}
+		throw new AssertionError("No peer with id: " + ownerId);
+	}
+
+	private void handleDatagram(SocketAddress address, PacketListener listener) throws MalformedPacketException {
+		if(reader.readUnsignedByte() != (MAGIC & 0xFF)){
+			return;
+		}
+		int type = reader.readUnsignedByte();
+		long now = TimeUtils.nanoTime();
+		Peer peer = peersByAddress.get(address);
+		if(type == CONNECT){
+			if(host){
+				handleConnect(address, peer, now);
+			}
+			return;
+		}
+		if(peer == null || !peer.connected){
+			return;
+		}
+		peer.lastReceiveNanos = now;
+		switch(type){
+			case ACCEPT:
+				if(!host && localId < 0){
+					localId = reader.readVarInt();
+					updatePlayerLists();
+				}
+				break;
+			case RELIABLE:
+				handleReliable(peer, listener, now);
+				break;
+			case UNRELIABLE:
+				deliver(peer, codec.decode(receiveBuffer), listener);
+				break;
+			case ACK:
+				Peer.Outgoing outgoing = peer.unacknowledged.remove(reader.readVarInt());
+				if(outgoing != null){
+					datagramPool.free(outgoing.datagram);
+				}
+				break;
+			case KEEP_ALIVE:
+				break;
+			case DISCONNECT:
+				disconnect(peer, true);
+				break;
+			default:
+				throw new MalformedPacketException("Unknown datagram type: " + type);
+		}
+	}
+	private void handleConnect(SocketAddress address, Peer peer, long now) throws MalformedPacketException {
+		int version = reader.readVarInt();
+		int playerCount = reader.readVarInt();
+		if(peer != null){
+			if(peer.connected){ // our ACCEPT was dropped
+				sendControl(peer, ACCEPT, peer.id, now);
+			}
+			return;
+		}
+		if(version != VERSION || !acceptingConnections || playerCount <= 0 || getConnectedPeerCount() >= maxClients
+				|| players.size() + playerCount > PlayersPacket.MAX_PLAYERS){
+			Peer rejected = new Peer(-1, address, now);
+			sendControl(rejected, DISCONNECT, -1, now);
+			return;
+		}
+		peer = new Peer(nextClientId++, address, now);
+		peers.add(peer);
+		peersByAddress.put(address, peer);
+		for(int i = 0; i < playerCount; i++){
+			players.add(new UdpPlayer(this, peer.id));
+		}
+		updatePlayerLists();
+		sendControl(peer, ACCEPT, peer.id, now);
+		sendPlayers();
+	}
+	private void handleReliable(Peer peer, PacketListener listener, long now) throws MalformedPacketException {
+		int sequence = reader.readVarInt();
+		if(sequence < peer.nextReceiveSequence){ // we already have it but our ACK may have been dropped
+			sendControl(peer, ACK, sequence, now);
+			return;
+		}
+		if(sequence >= peer.nextReceiveSequence + RECEIVE_WINDOW){
+			return; // too far ahead, it will be resent
+		}
+		Packet packet = codec.decode(receiveBuffer);
+		sendControl(peer, ACK, sequence, now);
+		if(sequence != peer.nextReceiveSequence){
+			peer.outOfOrder.put(sequence, packet);
+			return;
+		}
+		peer.nextReceiveSequence++;
+		deliver(peer, packet, listener);
+		while(!closed){
+			Packet next = peer.outOfOrder.remove(peer.nextReceiveSequence);
+			if(next == null){
+				break;
+			}
+			peer.nextReceiveSequence++;
+			deliver(peer, next, listener);
+		}
+	}
+	private void deliver(Peer peer, Packet packet, PacketListener listener){
+		if(packet instanceof PlayersPacket){
+			if(!host){
+				updatePlayers((PlayersPacket) packet);
+			}
+			return;
+		}
+		UdpPlayer sender = null;
+		for(UdpPlayer player : players){
+			if(player.ownerId == peer.id){
+				sender = player;
+				break;
+			}
+		}
+		listener.onPacket(sender, packet);
+	}
+
+	/** Updates the players on a client to match the host */
+	private void updatePlayers(PlayersPacket packet){
+		for(int i = 0; i < packet.size(); i++){
+			int ownerId = packet.getOwnerId(i);
+			if(i >= players.size()){
+				players.add(new UdpPlayer(this, ownerId));
+			} else if(players.get(i).ownerId != ownerId){ // players are only ever added to the end, so this shouldn't happen
+				players.set(i, new UdpPlayer(this, ownerId));
+			}
+			players.get(i).connected = packet.isConnected(i);
+		}
+		while(players.size() > packet.size()){
+			players.remove(players.size() - 1);
+		}
+		acceptingConnections = packet.isAcceptingConnections();
+		worldSeed = packet.getWorldSeed();
+		updatePlayerLists();
+	}
+	private void updatePlayerLists(){
+		handledPlayers.clear();
+		nonHandledPlayers.clear();
+		for(UdpPlayer player : players){
+			(player.ownerId == localId ? handledPlayers : nonHandledPlayers).add(player);
+		}
+	}
+	/** Sends who handles each player to every client. Only used by the host */
+	private void sendPlayers(){
+		int[] ownerIds = new int[players.size()];
+		boolean[] connected = new boolean[players.size()];
+		for(int i = 0; i < ownerIds.length; i++){
+			ownerIds[i] = players.get(i).ownerId;
+			connected[i] = players.get(i).connected;
+		}
+		sendToEveryone(new PlayersPacket(ownerIds, connected, acceptingConnections, worldSeed));
+	}
+
+	/** Resends reliable datagrams, sends keep alives and disconnects peers that have timed out */
+	private void updateConnections(long now){
+		if(!host && localId < 0 && now - lastConnectNanos >= CONNECT_RESEND_NANOS){
+			sendConnect(now);
+		}
+		for(int i = 0; i < peers.size(); i++){
+			Peer peer = peers.get(i);
+			if(!peer.connected){
+				continue;
+			}
+			if(now - peer.lastReceiveNanos > TIMEOUT_NANOS){
+				disconnect(peer, true);
+				if(closed){
+					return;
+				}
+				continue;
+			}
+			for(IntMap.Entry<Peer.Outgoing> entry : peer.unacknowledged.entries()){
+				Peer.Outgoing outgoing = entry.value;
+				if(now - outgoing.lastSentNanos >= RESEND_NANOS){
+					sendDatagram(peer, outgoing.datagram, now);
+					outgoing.lastSentNanos = now;
+				}
+			}
+			if(now - peer.lastSendNanos >= KEEP_ALIVE_NANOS && (host || localId >= 0)){
+				sendControl(peer, KEEP_ALIVE, -1, now);
+			}
+		}
+	}
+	/**
+	 * @param peer The peer that is no longer connected
+	 * @param notify true to tell the other clients if we are the host
+	 */
+	private void disconnect(Peer peer, boolean notify){
+		peer.connected = false;
+		for(Peer.Outgoing outgoing : peer.unacknowledged.values()){
+			datagramPool.free(outgoing.datagram);
+		}
+		peer.unacknowledged.clear();
+		peer.outOfOrder.clear();
+		peersByAddress.remove(peer.address);
+		if(host){
+			for(UdpPlayer player : players){
+				if(player.ownerId == peer.id){
+					player.connected = false;
+				}
+			}
+			if(notify){
+				sendPlayers();
+			}
+		} else { // the host is gone so the game is over
+			closed = true;
+			try {
+				channel.close();
+			} catch(IOException ignored){
+			}
+		}
+	}
+
+	private void encodePayload(Packet packet){
+		if(closed){
+			throw new IllegalStateException("Cannot send after leaving!");
+		}
+		payloadBuffer.clear();
+		codec.encode(packet, payloadBuffer);
+		payloadBuffer.flip();
+	}
+	/**
+	 * Sends what {@link #encodePayload(Packet)} encoded
+	 */
+	private void sendPayload(Peer peer, boolean reliable){
+		if(!peer.connected || (!host && localId < 0)){
+			return;
+		}
+		long now = TimeUtils.nanoTime();
+		ByteBuffer datagram = datagramPool.obtain();
+		writer.setBuffer(datagram);
+		writer.writeByte(MAGIC);
+		final int sequence;
+		if(reliable){
+			writer.writeByte(RELIABLE);
+			sequence = peer.nextSendSequence++;
+			writer.writeVarInt(sequence);
+		} else {
+			writer.writeByte(UNRELIABLE);
+			sequence = -1;
+		}
+		writer.setBuffer(null);
+		datagram.put(payloadBuffer);
+		payloadBuffer.rewind();
+		datagram.flip();
+		sendDatagram(peer, datagram, now);
+		if(reliable){
+			peer.unacknowledged.put(sequence, new Peer.Outgoing(datagram, now));
+		} else {
+			datagramPool.free(datagram);
+		}
+	}
+	/**
+	 * @param value The varint that comes after the type or -1 if there is none
+	 */
+	private void sendControl(Peer peer, byte type, int value, long now){
+		ByteBuffer datagram = datagramPool.obtain();
+		writer.setBuffer(datagram);
+		writer.writeByte(MAGIC);
+		writer.writeByte(type);
+		if(value >= 0){
+			writer.writeVarInt(value);
+		}
+		writer.setBuffer(null);
+		datagram.flip();
+		sendDatagram(peer, datagram, now);
+		datagramPool.free(datagram);
+	}
+	private void sendConnect(long now){
+		lastConnectNanos = now;
+		ByteBuffer datagram = datagramPool.obtain();
+		writer.setBuffer(datagram);
+		writer.writeByte(MAGIC);
+		writer.writeByte(CONNECT);
+		writer.writeVarInt(VERSION);
+		writer.writeVarInt(localPlayerCount);
+		writer.setBuffer(null);
+		datagram.flip();
+		sendDatagram(peers.get(0), datagram, now);
+		datagramPool.free(datagram);
+	}
+	/**
+	 * Sends the datagram and rewinds it so it can be sent again
+	 */
+	private void sendDatagram(Peer peer, ByteBuffer datagram, long now){
+		try {
+			channel.send(datagram, peer.address);
+		} catch(IOException ignored){
+			// treated like the datagram was dropped. A reliable datagram will be resent and the connection will time out if this keeps happening
+		}
+		datagram.rewind();
+		peer.lastSendNanos = now;
+	}
+
+	private static final class UdpPlayer implements Multiplayer.Player {
+		private final UdpMultiplayer multiplayer;
+		private final int ownerId;
+		private boolean connected = true;
+
+		private UdpPlayer(UdpMultiplayer multiplayer, int ownerId) {
+			this.multiplayer = multiplayer;
+			this.ownerId = ownerId;
+		}
+
+		@Override
+		public boolean isConnected() {
+			return connected;
+		}
+
+		@Override
+		public boolean isHandledByUs() {
+			return ownerId == multiplayer.localId;
+		}
+
+		@Override
+		public boolean isPlayerHost() {
+			return ownerId == HOST_ID;
+		}
+
+		@Override
+		public boolean isHandledBySameAs(Multiplayer.Player other) {
+			if(!(other instanceof UdpPlayer)){
+				return false;
+			}
+			UdpPlayer otherPlayer = (UdpPlayer) other;
+			return otherPlayer.multiplayer == multiplayer && otherPlayer.ownerId == ownerId;
+		}
+
+		@Override
+		public String toString() {
+			return "UdpPlayer(ownerId=" + ownerId + ", connected=" + connected + ")";
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package me.retrodaredevil.game.trackshooter.multiplayer.udp;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Constants used by {@link UdpMultiplayer}.
+ * <p>
+ * Each datagram starts with {@link #MAGIC} and the type of the datagram:
+ * <ul>
+ *     <li>{@link #CONNECT} is sent by a client until it is accepted. Followed by {@link #VERSION} and the number of players the client handles as varints</li>
+ *     <li>{@link #ACCEPT} is the host's reply to {@link #CONNECT}. Followed by the id the host gave the client as a varint</li>
+ *     <li>{@link #RELIABLE} is followed by the sequence number as a varint and an encoded packet</li>
+ *     <li>{@link #UNRELIABLE} is followed by an encoded packet</li>
+ *     <li>{@link #ACK} is followed by the sequence number of a reliable datagram that was received as a varint</li>
+ *     <li>{@link #KEEP_ALIVE} is sent when nothing else has been sent for a while so the connection does not time out</li>
+ *     <li>{@link #DISCONNECT} is sent when leaving or when the host is full</li>
+ * </ul>
+ */
+final class UdpProtocol {
+	static final byte MAGIC = 0x54; // 'T'
+	static final int VERSION = 2;
+
+	static final byte CONNECT = 1;
+	static final byte ACCEPT = 2;
+	static final byte RELIABLE = 3;
+	static final byte UNRELIABLE = 4;
+	static final byte ACK = 5;
+	static final byte KEEP_ALIVE = 6;
+	static final byte DISCONNECT = 7;
+
+	/** The most bytes that come before an encoded packet */
+	static final int MAX_HEADER_SIZE = 7;
+
+	/** The id of the host. Clients are given ids starting at 1 */
+	static final int HOST_ID = 0;
+
+	static final long RESEND_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+	static final long CONNECT_RESEND_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+	static final long KEEP_ALIVE_NANOS = TimeUnit.SECONDS.toNanos(1);
+	static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+	/** How far ahead of the next expected sequence number a reliable packet can be before it is dropped */
+	static final int RECEIVE_WINDOW = 256;
+
+	private UdpProtocol(){ throw new UnsupportedOperationException(); }
+}
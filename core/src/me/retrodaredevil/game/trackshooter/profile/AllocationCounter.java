@@ -0,0 +1,41 @@
+package me.retrodaredevil.game.trackshooter.profile;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Gets the number of bytes allocated by the current thread if the JVM supports it. Android does not support it.
+ */
+final class AllocationCounter {
+	/** The com.sun.management.ThreadMXBean or null if allocations cannot be counted */
+	private static final Object BEAN = createBean();
+
+	private AllocationCounter(){ throw new UnsupportedOperationException(); }
+
+	private static Object createBean(){
+		try {
+			return AllocationBean.create();
+		} catch(LinkageError | SecurityException e){ // java.lang.management or com.sun.management does not exist
+			return null;
+		}
+	}
+
+	/** @return The number of bytes the current thread has allocated or -1 if this is not supported */
+	static long getAllocatedBytes(){
+		return BEAN == null ? -1 : AllocationBean.getAllocatedBytes(BEAN);
+	}
+
+	/** Separate from {@link AllocationCounter} so the classes it uses are only loaded when this is used */
+	private static final class AllocationBean {
+		static Object create(){
+			java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+			if(threadBean instanceof com.sun.management.ThreadMXBean
+					&& ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()){
+				return threadBean;
+			}
+			return null;
+		}
+		static long getAllocatedBytes(Object bean){
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+	}
+}
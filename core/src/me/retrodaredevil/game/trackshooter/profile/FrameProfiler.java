@@ -0,0 +1,172 @@
+package me.retrodaredevil.game.trackshooter.profile;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import me.retrodaredevil.game.trackshooter.CollisionIdentity;
+import me.retrodaredevil.game.trackshooter.entity.Entity;
+
+/**
+ * A {@link Profiler} that keeps the time each phase took during each of the last {@link #SAMPLES} frames so rolling
+ * averages and p99 values can be calculated. It also keeps how many bytes were allocated each frame and how many
+ * entities there are of each {@link CollisionIdentity}.
+ * <p>
+ * Nothing is recorded unless this is enabled. {@link #beginFrame()} and {@link #endFrame()} should be called at the
+ * start and end of each frame.
+ */
+public class FrameProfiler implements Profiler {
+	/** The number of frames that averages and p99 values are calculated from */
+	public static final int SAMPLES = 240;
+
+	private static final ProfilerPhase[] PHASES = ProfilerPhase.values();
+	private static final CollisionIdentity[] IDENTITIES = CollisionIdentity.values();
+
+	/** The nanoTime each phase was last started at */
+	private final long[] startNanos = new long[PHASES.length];
+	/** The nanoseconds spent in each phase during the current frame */
+	private final long[] currentNanos = new long[PHASES.length];
+	/** The nanoseconds of each phase for each of the last SAMPLES frames */
+	private final long[][] phaseSamples = new long[PHASES.length][SAMPLES];
+	private final long[] frameSamples = new long[SAMPLES];
+	private final long[] allocationSamples = new long[SAMPLES];
+	/** Used to sort samples when calculating percentiles */
+	private final long[] sortedSamples = new long[SAMPLES];
+	private final int[] entityCounts = new int[IDENTITIES.length];
+
+	private boolean enabled = false;
+	private boolean inFrame = false;
+	private long frameStartNanos;
+	private long frameStartAllocatedBytes;
+	/** The index of the next sample */
+	private int sampleIndex = 0;
+	/** The number of samples recorded up to {@link #SAMPLES} */
+	private int sampleCount = 0;
+
+	public boolean isEnabled(){
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables this. Recorded samples are cleared when this is enabled.
+	 * @param enabled true to start recording, false to stop
+	 */
+	public void setEnabled(boolean enabled){
+		if(enabled && !this.enabled){
+			sampleIndex = 0;
+			sampleCount = 0;
+			Arrays.fill(entityCounts, 0);
+		}
+		this.enabled = enabled;
+		inFrame = false;
+	}
+
+	@Override
+	public void start(ProfilerPhase phase) {
+		if(inFrame){
+			startNanos[phase.ordinal()] = System.nanoTime();
+		}
+	}
+
+	@Override
+	public void end(ProfilerPhase phase) {
+		if(inFrame){
+			int index = phase.ordinal();
+			currentNanos[index] += System.nanoTime() - startNanos[index];
+		}
+	}
+
+	public void beginFrame(){
+		if(!enabled){
+			return;
+		}
+		inFrame = true;
+		Arrays.fill(currentNanos, 0);
+		frameStartAllocatedBytes = AllocationCounter.getAllocatedBytes();
+		frameStartNanos = System.nanoTime();
+	}
+
+	public void endFrame(){
+		if(!inFrame){
+			return;
+		}
+		inFrame = false;
+		frameSamples[sampleIndex] = System.nanoTime() - frameStartNanos;
+		long allocatedBytes = AllocationCounter.getAllocatedBytes();
+		allocationSamples[sampleIndex] = allocatedBytes < 0 ? -1 : allocatedBytes - frameStartAllocatedBytes;
+		for(int i = 0; i < PHASES.length; i++){
+			phaseSamples[i][sampleIndex] = currentNanos[i];
+		}
+		sampleIndex = (sampleIndex + 1) % SAMPLES;
+		if(sampleCount < SAMPLES){
+			sampleCount++;
+		}
+	}
+
+	/**
+	 * Counts the entities of each {@link CollisionIdentity}. Does nothing if this is not enabled
+	 * @param entities The entities in the world
+	 */
+	public void countEntities(Collection<? extends Entity> entities){
+		if(!enabled){
+			return;
+		}
+		Arrays.fill(entityCounts, 0);
+		for(Entity entity : entities){
+			entityCounts[entity.getCollisionIdentity().ordinal()]++;
+		}
+	}
+	public int getEntityCount(CollisionIdentity identity){
+		return entityCounts[identity.ordinal()];
+	}
+
+	/** @return The number of frames that the returned averages and p99 values are calculated from */
+	public int getSampleCount(){
+		return sampleCount;
+	}
+
+	public double getAverageMillis(ProfilerPhase phase){
+		return average(phaseSamples[phase.ordinal()]) / 1_000_000.0;
+	}
+	public double getP99Millis(ProfilerPhase phase){
+		return p99(phaseSamples[phase.ordinal()]) / 1_000_000.0;
+	}
+	public double getAverageFrameMillis(){
+		return average(frameSamples) / 1_000_000.0;
+	}
+	public double getP99FrameMillis(){
+		return p99(frameSamples) / 1_000_000.0;
+	}
+
+	/** @return true if the allocated bytes of each frame can be recorded on this platform */
+	public boolean isAllocationSupported(){
+		return AllocationCounter.getAllocatedBytes() >= 0;
+	}
+	/** @return The average number of bytes allocated each frame or a negative number if this is not supported */
+	public double getAverageAllocatedBytes(){
+		return average(allocationSamples);
+	}
+	/** @return The p99 of the number of bytes allocated each frame or a negative number if this is not supported */
+	public long getP99AllocatedBytes(){
+		return p99(allocationSamples);
+	}
+
+	private double average(long[] samples){
+		if(sampleCount == 0){
+			return 0;
+		}
+		long total = 0;
+		for(int i = 0; i < sampleCount; i++){
+			total += samples[i];
+		}
+		return total / (double) sampleCount;
+	}
+	private long p99(long[] samples){
+		if(sampleCount == 0){
+			return 0;
+		}
+		System.arraycopy(samples, 0, sortedSamples, 0, sampleCount);
+		Arrays.sort(sortedSamples, 0, sampleCount);
+		int index = (int) Math.ceil(sampleCount * .99) - 1;
+		return sortedSamples[index];
+	}
+}
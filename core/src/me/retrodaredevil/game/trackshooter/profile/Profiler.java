@@ -0,0 +1,18 @@
+package me.retrodaredevil.game.trackshooter.profile;
+
+/**
+ * Times each {@link ProfilerPhase} of a frame. A phase may be started and ended more than once in a single frame.
+ */
+public interface Profiler {
+	/** @param phase The phase that is about to start */
+	void start(ProfilerPhase phase);
+	/** @param phase The phase that was started with {@link #start(ProfilerPhase)} and has now ended */
+	void end(ProfilerPhase phase);
+
+	class Defaults {
+		public static final Profiler DISABLED = new Profiler() {
+			@Override public void start(ProfilerPhase phase) { }
+			@Override public void end(ProfilerPhase phase) { }
+		};
+	}
+}
@@ -0,0 +1,31 @@
+package me.retrodaredevil.game.trackshooter.profile;
+
+/**
+ * A part of a frame that is timed by a {@link Profiler}
+ */
+public enum ProfilerPhase {
+	/** Updating the overlay and menus */
+	OVERLAY("overlay"),
+	/** Changing and updating the level */
+	LEVEL_UPDATE("level"),
+	/** Spawning and updating entities */
+	ENTITY_UPDATE("entities"),
+	/** Updating the CollisionHandler */
+	COLLISION("collision"),
+	/** Rendering each Renderable's RenderComponent. This includes drawing the world */
+	RENDER("render"),
+	/** Calling act() on each stage */
+	STAGE_ACT("stage act"),
+	/** Drawing each stage */
+	STAGE_DRAW("stage draw");
+
+	private final String displayName;
+
+	ProfilerPhase(String displayName){
+		this.displayName = displayName;
+	}
+
+	public String getDisplayName(){
+		return displayName;
+	}
+}
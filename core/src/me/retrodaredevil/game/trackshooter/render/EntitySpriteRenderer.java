@@ -0,0 +1,109 @@
+package me.retrodaredevil.game.trackshooter.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.SpriteDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TransformDrawable;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Comparator;
+
+/**
+ * Draws the sprites of entities straight into a {@link Batch} without using scene2d actors. scene2d should only be
+ * used for UI.
+ * <p>
+ * Sprites are added each frame using {@link #add(Drawable, float, float, float, float, float)} and are then drawn
+ * by {@link #draw(Batch)} sorted by texture so the batch has to flush as few times as possible. Sprites that use the
+ * same texture are drawn in the order they were added.
+ */
+public class EntitySpriteRenderer {
+	private static final Comparator<QueuedSprite> TEXTURE_COMPARATOR = (a, b) -> Integer.compare(a.textureHandle, b.textureHandle);
+
+	/** The sprites that have been added since the last draw */
+	private final Array<QueuedSprite> sprites = new Array<>(false, 64, QueuedSprite.class);
+	/** Every QueuedSprite that has been created. Reused each frame */
+	private final Array<QueuedSprite> created = new Array<>(false, 64, QueuedSprite.class);
+
+	/**
+	 * @param drawable The drawable to draw
+	 * @param x The x coordinate of the center of the sprite
+	 * @param y The y coordinate of the center of the sprite
+	 * @param width The width of the sprite
+	 * @param height The height of the sprite
+	 * @param rotation The rotation in degrees around the center of the sprite
+	 */
+	public void add(Drawable drawable, float x, float y, float width, float height, float rotation){
+		int index = sprites.size;
+		final QueuedSprite sprite;
+		if(index < created.size){
+			sprite = created.get(index);
+		} else {
+			sprite = new QueuedSprite();
+			created.add(sprite);
+		}
+		sprite.set(drawable, x, y, width, height, rotation);
+		sprites.add(sprite);
+	}
+
+	/**
+	 * Draws and then clears each added sprite. This expects that {@link Batch#begin()} has already been called and that the
+	 * projection matrix of the batch is already set.
+	 * @param batch The batch to draw to
+	 */
+	public void draw(Batch batch){
+		sprites.sort(TEXTURE_COMPARATOR);
+		batch.setColor(Color.WHITE);
+		for(QueuedSprite sprite : sprites){
+			sprite.draw(batch);
+		}
+		clear();
+	}
+
+	/** Removes each sprite that has been added without drawing them */
+	public void clear(){
+		for(QueuedSprite sprite : sprites){
+			sprite.drawable = null;
+		}
+		sprites.clear();
+	}
+
+	private static int getTextureHandle(Drawable drawable){
+		final Texture texture;
+		if(drawable instanceof TextureRegionDrawable){
+			texture = ((TextureRegionDrawable) drawable).getRegion().getTexture();
+		} else if(drawable instanceof SpriteDrawable){
+			texture = ((SpriteDrawable) drawable).getSprite().getTexture();
+		} else {
+			return 0;
+		}
+		return texture == null ? 0 : texture.getTextureObjectHandle();
+	}
+
+	private static final class QueuedSprite {
+		private Drawable drawable;
+		private int textureHandle;
+		private float x, y, width, height, rotation;
+
+		void set(Drawable drawable, float x, float y, float width, float height, float rotation){
+			this.drawable = drawable;
+			this.textureHandle = getTextureHandle(drawable);
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.rotation = rotation;
+		}
+		void draw(Batch batch){
+			float originX = width / 2;
+			float originY = height / 2;
+			if(rotation != 0 && drawable instanceof TransformDrawable){
+				((TransformDrawable) drawable).draw(batch, x - originX, y - originY, originX, originY, width, height, 1, 1, rotation);
+			} else {
+				drawable.draw(batch, x - originX, y - originY, width, height);
+			}
+		}
+	}
+}
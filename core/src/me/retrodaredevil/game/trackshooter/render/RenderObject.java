@@ -2,35 +2,34 @@ package me.retrodaredevil.game.trackshooter.render;
 
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.badlogic.gdx.utils.Disposable;
+
+import me.retrodaredevil.game.trackshooter.util.DrawableRegistry;
 
 /**
  * An object that contains other necessary objects to help render things
+ * <p>
+ * This does not own the batch or the skins, so whatever created them is responsible for disposing them
  */
-public final class RenderObject implements Disposable {
+public final class RenderObject {
 
 	private final Batch batch;
 	private final Skin mainSkin;
 	private final Skin uiSkin;
 	private final Skin arcadeSkin;
+	private final DrawableRegistry drawables;
 
 	public RenderObject(Batch batch, Skin mainSkin, Skin uiSkin, Skin arcadeSkin){
 		this.batch = batch;
 		this.mainSkin = mainSkin;
 		this.uiSkin = uiSkin;
 		this.arcadeSkin = arcadeSkin;
+		this.drawables = new DrawableRegistry(mainSkin);
 	}
 
 	public Batch getBatch(){ return batch; }
 	public Skin getMainSkin(){ return mainSkin; }
 	public Skin getUISkin(){ return uiSkin; }
 	public Skin getArcadeSkin(){ return arcadeSkin; }
-
-	@Override
-	public void dispose() {
-		batch.dispose();
-		mainSkin.dispose();
-		uiSkin.dispose();
-		arcadeSkin.dispose();
-	}
+	/** @return The drawables and animation frames from the main skin */
+	public DrawableRegistry getDrawables(){ return drawables; }
 }
@@ -9,13 +9,15 @@ public final class RenderParts implements Disposable{
 	private final Background background;
 	private final OptionMenu optionsMenu;
 	private final Overlay overlay;
+	private final ProfilerOverlay profilerOverlay;
 	private final TouchpadRenderer touchpadRenderer;
 	private final ArrowRenderer arrowRenderer;
 	private final InputMultiplexer inputMultiplexer;
 
-	public RenderParts(Background background, OptionMenu optionsMenu, Overlay overlay, TouchpadRenderer touchpadRenderer, ArrowRenderer arrowRenderer, InputMultiplexer inputMultiplexer){
+	public RenderParts(Background background, OptionMenu optionsMenu, Overlay overlay, ProfilerOverlay profilerOverlay, TouchpadRenderer touchpadRenderer, ArrowRenderer arrowRenderer, InputMultiplexer inputMultiplexer){
 		this.background = background;
 		this.overlay = overlay;
+		this.profilerOverlay = profilerOverlay;
 		this.optionsMenu = optionsMenu;
 		this.touchpadRenderer = touchpadRenderer;
 		this.arrowRenderer = arrowRenderer;
@@ -26,6 +28,7 @@ public final class RenderParts implements Disposable{
 		background.resize(width, height);
 		optionsMenu.resize(width, height);
 		overlay.resize(width, height);
+		profilerOverlay.resize(width, height);
 		touchpadRenderer.resize(width, height);
 	}
 
@@ -33,6 +36,7 @@ public final class RenderParts implements Disposable{
 	public void dispose() {
 		background.disposeRenderComponent();
 		overlay.dispose();
+		profilerOverlay.dispose();
 	}
 
 	public Background getBackground(){
@@ -42,6 +46,9 @@ public final class RenderParts implements Disposable{
 	public Overlay getOverlay(){
 		return overlay;
 	}
+	public ProfilerOverlay getProfilerOverlay(){
+		return profilerOverlay;
+	}
 	public OptionMenu getOptionsMenu(){
 		return optionsMenu;
 	}
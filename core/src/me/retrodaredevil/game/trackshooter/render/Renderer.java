@@ -8,6 +8,8 @@ import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import me.retrodaredevil.game.trackshooter.profile.Profiler;
+import me.retrodaredevil.game.trackshooter.profile.ProfilerPhase;
 import me.retrodaredevil.game.trackshooter.util.RenderUtil;
 
 /**
@@ -23,6 +25,7 @@ public class Renderer {
 	private final Stage mainStage;
 	private final Collection<Renderable> renderables = new LinkedHashSet<>();
 	private final Set<Stage> stages = new LinkedHashSet<>();
+	private Profiler profiler = Profiler.Defaults.DISABLED;
 
 	public Renderer(Batch batch, Stage mainStage){
 		this.batch = batch;
@@ -63,19 +66,33 @@ public class Renderer {
 		return this;
 	}
 
+	/**
+	 * @param profiler The profiler that times the render, stage act and stage draw phases of {@link #render(float)}
+	 */
+	public Renderer setProfiler(Profiler profiler){
+		this.profiler = Objects.requireNonNull(profiler);
+		return this;
+	}
+
 	@SuppressWarnings("LibGDXFlushInsideLoop") // drawStage doesn't flush
 	public void render(float delta){
+		profiler.start(ProfilerPhase.RENDER);
 		for(Renderable r : renderables){
 			r.autoRender(delta, mainStage, true);
 		}
+		profiler.end(ProfilerPhase.RENDER);
+		profiler.start(ProfilerPhase.STAGE_ACT);
 		for(Stage stage : stages){
 			stage.act();
 		}
+		profiler.end(ProfilerPhase.STAGE_ACT);
+		profiler.start(ProfilerPhase.STAGE_DRAW);
 		batch.begin();
 		for(Stage stage : stages){
 			RenderUtil.drawStage(batch, stage);
 		}
 		batch.end();
+		profiler.end(ProfilerPhase.STAGE_DRAW);
 	}
 
 	/**
@@ -1,31 +1,29 @@
 package me.retrodaredevil.game.trackshooter.render.components;
 
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
-import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.render.EntitySpriteRenderer;
 
-public class ImageRenderComponent implements RenderComponent{
+public class ImageRenderComponent implements SpriteRenderComponent {
 
-	protected final Image image;
 	protected final Entity entity;
 
+	private Drawable drawable;
 	private float width;
 	private float height;
 
 	private int facingDirection = 90;
 
 	/**
-	 * Note this assumes that the image is facing up and it rotates it accordingly.
+	 * Note this assumes that the drawable is facing up and it rotates it accordingly.
 	 *
-	 * @param image The image to use
+	 * @param drawable The drawable to use
 	 * @param entity The entity to follow
 	 * @param width The width of the image
 	 * @param height The height of the image
 	 */
-	public ImageRenderComponent(Image image, Entity entity, float width, float height){
-		this.image = image;
+	public ImageRenderComponent(Drawable drawable, Entity entity, float width, float height){
+		this.drawable = drawable;
 		this.entity = entity;
 		setSize(width, height);
 	}
@@ -42,32 +40,30 @@ public class ImageRenderComponent implements RenderComponent{
 		return this;
 	}
 	@Override
-	public void render(float delta, Stage stage) {
-		if(image.getStage() != stage){
-			stage.addActor(image);
-		}
-		Vector2 location = entity.getLocation();
-		image.setPosition(location.x - image.getOriginX(), location.y - image.getOriginY());
-		int rotation = (int) entity.getRotation() - facingDirection;
-		image.setRotation(rotation);
+	public void addSprites(float delta, EntitySpriteRenderer renderer) {
+		addSprite(renderer, entity.getRenderX(), entity.getRenderY());
 	}
 
 	/**
-	 * Should be called as few times as possible.
+	 * Adds the drawable at the given location with the entity's rotation
+	 * @param renderer The renderer to add the sprite to
+	 * @param x The x coordinate of the center of the image
+	 * @param y The y coordinate of the center of the image
 	 */
-	private void updateBounds(){
-		image.setSize(width, height);
-//		image.setOrigin(width / 2f, height / 2f);
-		image.setOrigin(Align.center);
+	protected void addSprite(EntitySpriteRenderer renderer, float x, float y){
+		int rotation = (int) entity.getRenderRotation() - facingDirection;
+		renderer.add(drawable, x, y, width, height, rotation);
+	}
+
+	protected void setDrawable(Drawable drawable){
+		this.drawable = drawable;
 	}
 	public void setSize(float width, float height){
 		this.width = width;
 		this.height = height;
-		updateBounds();
 	}
 
 	@Override
 	public void dispose() {
-		image.remove();
 	}
 }
@@ -1,9 +1,9 @@
 package me.retrodaredevil.game.trackshooter.render.components;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.render.EntitySpriteRenderer;
 
 public class ShakeImageRenderComponent extends ImageRenderComponent{
 	private long shakeTime;
@@ -14,17 +14,16 @@ public class ShakeImageRenderComponent extends ImageRenderComponent{
 	 * @param shakeTime The amount of time for the image to go up and down
 	 * @param add The amount to add when the image is up, will use opposite when image is down
 	 */
-	public ShakeImageRenderComponent(Image image, Entity entity, float width, float height, long shakeTime, Vector2 add) {
-		super(image, entity, width, height);
+	public ShakeImageRenderComponent(Drawable drawable, Entity entity, float width, float height, long shakeTime, Vector2 add) {
+		super(drawable, entity, width, height);
 		this.shakeTime = shakeTime;
 		this.add = add;
 	}
 
 	@Override
-	public void render(float delta, Stage stage) {
-		super.render(delta, stage);
-		float x = image.getX();
-		float y = image.getY();
+	public void addSprites(float delta, EntitySpriteRenderer renderer) {
+		float x = entity.getRenderX();
+		float y = entity.getRenderY();
 
 		boolean up = System.currentTimeMillis() % shakeTime < shakeTime / 2;
 		if(up){
@@ -35,6 +34,6 @@ public class ShakeImageRenderComponent extends ImageRenderComponent{
 			y -= add.y;
 		}
 
-		image.setPosition(x, y);
+		addSprite(renderer, x, y);
 	}
 }
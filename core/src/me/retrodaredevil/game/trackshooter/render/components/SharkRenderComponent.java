@@ -1,12 +1,11 @@
 package me.retrodaredevil.game.trackshooter.render.components;
 
-import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
 import me.retrodaredevil.game.trackshooter.entity.movement.MoveComponent;
 import me.retrodaredevil.game.trackshooter.entity.movement.VelocityTargetPositionMoveComponent;
+import me.retrodaredevil.game.trackshooter.render.EntitySpriteRenderer;
 
 public class SharkRenderComponent extends ImageRenderComponent {
 	private static final int LEFT_FRAME = 2, RIGHT_FRAME = 0, STRAIGHT_FRAME = 1;
@@ -23,7 +22,7 @@ public class SharkRenderComponent extends ImageRenderComponent {
 	 * @param height The height of the image
 	 */
 	public SharkRenderComponent(Drawable[] frames, Entity entity, float width, float height){
-		super(new Image(), entity, width, height);
+		super(frames[STRAIGHT_FRAME], entity, width, height);
 //		this.frames = new TextureRegionDrawable[frames.length];
 //		for(int i = 0; i < frames.length; i++){
 //			this.frames[i] = new TextureRegionDrawable(frames[i]);
@@ -32,7 +31,7 @@ public class SharkRenderComponent extends ImageRenderComponent {
 
 	}
 	@Override
-	public void render(float delta, Stage stage) {
+	public void addSprites(float delta, EntitySpriteRenderer renderer) {
 		MoveComponent moveComponent = entity.getMoveComponent();
 		boolean animate = false;
 		if(moveComponent instanceof VelocityTargetPositionMoveComponent){
@@ -42,13 +41,13 @@ public class SharkRenderComponent extends ImageRenderComponent {
 			if(Math.abs(change) < 40){
 				animate = true;
 			} else if(change > 0){
-				image.setDrawable(frames[LEFT_FRAME]);
+				setDrawable(frames[LEFT_FRAME]);
 			} else {
-				image.setDrawable(frames[RIGHT_FRAME]);
+				setDrawable(frames[RIGHT_FRAME]);
 			}
 		} else {
 			animate = true;
-//			image.setDrawable(frames[STRAIGHT_FRAME]);
+//			setDrawable(frames[STRAIGHT_FRAME]);
 		}
 		if(animate){
 			final long FULL_CYCLE = 800;
@@ -56,9 +55,9 @@ public class SharkRenderComponent extends ImageRenderComponent {
 			if(frame == 3){
 				frame = 1;
 			}
-			image.setDrawable(frames[frame]);
+			setDrawable(frames[frame]);
 		}
-		super.render(delta, stage);
+		super.addSprites(delta, renderer);
 
 	}
 
@@ -0,0 +1,36 @@
+package me.retrodaredevil.game.trackshooter.render.components;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+
+import me.retrodaredevil.game.trackshooter.render.EntitySpriteRenderer;
+
+/**
+ * A RenderComponent that is drawn by adding sprites to an {@link EntitySpriteRenderer} instead of adding actors to a
+ * {@link Stage}. {@link WorldRenderComponent} uses {@link #addSprites(float, EntitySpriteRenderer)} so each entity
+ * in the world is drawn together.
+ */
+public interface SpriteRenderComponent extends RenderComponent {
+	/**
+	 * @param delta The delta time
+	 * @param renderer The renderer to add sprites to
+	 */
+	void addSprites(float delta, EntitySpriteRenderer renderer);
+
+	/**
+	 * Draws the sprites right away using the stage's batch. This is not used for entities in a World.
+	 */
+	@Override
+	default void render(float delta, Stage stage){
+		EntitySpriteRenderer renderer = new EntitySpriteRenderer();
+		addSprites(delta, renderer);
+		Camera camera = stage.getCamera();
+		camera.update();
+		Batch batch = stage.getBatch();
+		batch.setProjectionMatrix(camera.combined);
+		batch.begin();
+		renderer.draw(batch);
+		batch.end();
+	}
+}
@@ -1,26 +1,69 @@
 package me.retrodaredevil.game.trackshooter.render.components;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.FloatArray;
 import me.retrodaredevil.game.trackshooter.world.Track;
 import me.retrodaredevil.game.trackshooter.world.TrackPart;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * Used to render a Track object. Uses a Track object's TrackParts to call their RenderComponents
+ * Used to render a Track object. The line segments of every TrackPart are calculated once and are drawn
+ * with a single begin() and end() so the whole track is flushed at once no matter how many parts it has.
  */
 public class TrackRenderComponent implements RenderComponent {
-	private Track track;
+	private static final float LINE_WIDTH = 3;
+	/** Shared by every track. Initialized on the first render so a Track can be created without a GL context */
+	private static ShapeRenderer renderer = null;
+
+	private final Track track;
+	/** Each line segment is 4 floats: x1, y1, x2, y2. Initialized on the first render */
+	private float[] lines = null;
+	/** The color of each line segment */
+	private Color[] colors = null;
+
 	public TrackRenderComponent(Track track){
 		this.track = track;
 	}
+	private void initLines(){
+		FloatArray lineArray = new FloatArray();
+		List<Color> colorList = new ArrayList<>();
+		for(TrackPart part : track.getParts()){
+			int sizeBefore = lineArray.size;
+			part.addLineSegments(lineArray);
+			for(int i = sizeBefore; i < lineArray.size; i += 4){
+				colorList.add(part.getColor());
+			}
+		}
+		lines = lineArray.toArray();
+		colors = colorList.toArray(new Color[0]);
+	}
 	@Override
 	public void render(float delta, Stage stage) {
-		for(TrackPart part : track.getParts()){
-//			RenderComponent render = part.getRenderComponent();
-//			if(render != null){
-//				render.render(delta, stage);
-//			}
-			part.autoRender(delta, stage, false);
+		if(lines == null){
+			initLines();
+		}
+		if(renderer == null){
+			renderer = new ShapeRenderer();
+		}
+		Camera camera = stage.getCamera();
+		camera.update();
+		renderer.setProjectionMatrix(camera.combined);
+
+		Gdx.gl.glLineWidth(LINE_WIDTH);
+		renderer.begin(ShapeRenderer.ShapeType.Line);
+		for(int i = 0; i < colors.length; i++){
+			int index = i * 4;
+			Color color = colors[i];
+			renderer.line(lines[index], lines[index + 1], lines[index + 2], lines[index + 3], color, color);
 		}
+		renderer.end();
+		Gdx.gl.glLineWidth(1);
 	}
 
 	@Override
@@ -3,15 +3,22 @@ package me.retrodaredevil.game.trackshooter.render.components;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.render.EntitySpriteRenderer;
 import me.retrodaredevil.game.trackshooter.world.World;
 
+/**
+ * Renders the track and every entity in a World. Entities with a {@link SpriteRenderComponent} are drawn straight into
+ * the stage's batch with a single begin() and end() instead of being added to the stage as actors.
+ */
 public class WorldRenderComponent implements RenderComponent {
 
 	private final World world;
+	private final EntitySpriteRenderer spriteRenderer = new EntitySpriteRenderer();
 	private boolean renderHitboxes = false;
 	private ShapeRenderer renderer = null; // initialized when hitbox debugging turns on
 
@@ -21,7 +28,25 @@ public class WorldRenderComponent implements RenderComponent {
 
 	@Override
 	public void render(float delta, Stage stage) {
+		stage.getViewport().apply();
+		Camera camera = stage.getCamera();
+		camera.update();
+
 		world.getTrack().autoRender(delta, stage, false);
+		for(Entity entity : world.getEntities()){
+			RenderComponent renderComponent = entity.getRenderComponent();
+			if(renderComponent instanceof SpriteRenderComponent){
+				((SpriteRenderComponent) renderComponent).addSprites(delta, spriteRenderer);
+			} else {
+				entity.autoRender(delta, stage, false);
+			}
+		}
+		Batch batch = stage.getBatch();
+		batch.setProjectionMatrix(camera.combined);
+		batch.begin();
+		spriteRenderer.draw(batch);
+		batch.end();
+
 		if(Gdx.input.isKeyJustPressed(Input.Keys.H) && Gdx.input.isKeyPressed(Input.Keys.CONTROL_LEFT)){ // hell yeah hard coding
 			renderHitboxes = !renderHitboxes;
 		}
@@ -29,19 +54,12 @@ public class WorldRenderComponent implements RenderComponent {
 			if(renderer == null){
 				renderer = new ShapeRenderer();
 			}
-			Camera camera = stage.getCamera();
-			camera.update();
 			renderer.setProjectionMatrix(camera.combined);
 			renderer.begin(ShapeRenderer.ShapeType.Line);
-		}
-		for(Entity entity : world.getEntities()){
-			entity.autoRender(delta, stage, false);
-			if(renderHitboxes){
+			for(Entity entity : world.getEntities()){
 				Rectangle hitbox = entity.getHitbox();
 				renderer.rect(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
 			}
-		}
-		if(renderHitboxes){
 			renderer.end();
 		}
 	}
@@ -9,6 +9,7 @@ import me.retrodaredevil.game.trackshooter.render.RenderObject;
 import me.retrodaredevil.game.trackshooter.render.Renderable;
 import me.retrodaredevil.game.trackshooter.render.components.RenderComponent;
 import me.retrodaredevil.game.trackshooter.render.components.RenderComponentMultiplexer;
+import me.retrodaredevil.game.trackshooter.util.Resources;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -50,7 +51,7 @@ public class ArrowRenderer implements Renderable {
 
 		ArrowRenderComponent(ShouldShowArrow shouldShowArrow, RenderObject renderObject) {
 			this.shouldShowArrow = shouldShowArrow;
-			image = new Image(renderObject.getMainSkin().getDrawable("arrow"));
+			image = new Image(renderObject.getDrawables().getDrawable(Resources.Sprite.ARROW));
 		}
 
 		@Override
@@ -80,7 +80,7 @@ public class OverlayRenderer implements RenderComponent {
 			cornerTable.add(livesTable);
 			livesTable.setHeight(24);
 			for(int j = 0; j < MAX_LIVES_DISPLAYED; j++) {
-				livesTable.add(new Image(Player.Type.NORMAL.getDrawable(renderObject.getMainSkin()))).width(24).height(24);
+				livesTable.add(new Image(Player.Type.NORMAL.getDrawable(renderObject))).width(24).height(24);
 			}
 
 			cornerTable.row();
@@ -138,7 +138,7 @@ public class OverlayRenderer implements RenderComponent {
 			Table livesTable = livesTables[i];
 			final int numberToDraw = overlay.getShipsToDraw(i);
 			int numberDrawn = 0;
-			Drawable drawable = overlay.getPlayerType(i).getDrawable(renderObject.getMainSkin());
+			Drawable drawable = overlay.getPlayerType(i).getDrawable(renderObject);
 			for(Actor a : livesTable.getChildren()){
 				a.setVisible(numberDrawn < numberToDraw);
 
@@ -0,0 +1,152 @@
+package me.retrodaredevil.game.trackshooter.render.parts;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Locale;
+
+import me.retrodaredevil.controller.options.OptionValue;
+import me.retrodaredevil.game.trackshooter.CollisionIdentity;
+import me.retrodaredevil.game.trackshooter.Updateable;
+import me.retrodaredevil.game.trackshooter.profile.FrameProfiler;
+import me.retrodaredevil.game.trackshooter.profile.ProfilerPhase;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+import me.retrodaredevil.game.trackshooter.render.Renderable;
+import me.retrodaredevil.game.trackshooter.render.components.RenderComponent;
+import me.retrodaredevil.game.trackshooter.render.viewports.UIViewport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Shows the timings recorded by a {@link FrameProfiler} along with the number of draw calls and texture binds
+ * from libGDX's {@link GLProfiler}. This is only shown and the profiler is only enabled while the option passed to
+ * the constructor is true.
+ * <p>
+ * {@link #update(float)} should be called at the start of each frame before {@link FrameProfiler#beginFrame()}.
+ */
+public class ProfilerOverlay implements Renderable, Updateable, Disposable {
+	/** The number of seconds between each update of the displayed text so it is readable */
+	private static final float REFRESH_PERIOD = .5f;
+
+	private final FrameProfiler profiler = new FrameProfiler();
+	private final OptionValue showOption;
+	private final Stage stage;
+	private final Table table = new Table();
+	private final Label label;
+	private final RenderComponent component = new ProfilerRenderComponent();
+	private final StringBuilder builder = new StringBuilder();
+
+	private GLProfiler glProfiler = null; // initialized when first shown
+	private int drawCalls = 0;
+	private int textureBindings = 0;
+	private float timeSinceRefresh = 0;
+
+	/**
+	 * @param renderObject The RenderObject
+	 * @param showOption The boolean option that determines if this is shown
+	 */
+	public ProfilerOverlay(RenderObject renderObject, OptionValue showOption){
+		this.showOption = requireNonNull(showOption);
+		stage = new Stage(new UIViewport(640), renderObject.getBatch());
+		label = new Label("", renderObject.getUISkin());
+		table.setFillParent(true);
+		table.top().left();
+		table.add(label).pad(5);
+	}
+
+	/** @return The profiler that should time each frame. It is only enabled while this is shown */
+	public FrameProfiler getProfiler(){
+		return profiler;
+	}
+
+	@Override
+	public void update(float delta) {
+		boolean show = showOption.getBooleanOptionValue();
+		if(show != profiler.isEnabled()){
+			profiler.setEnabled(show);
+			if(show){
+				if(glProfiler == null){
+					glProfiler = new GLProfiler(Gdx.graphics);
+				}
+				glProfiler.enable();
+				glProfiler.reset();
+				timeSinceRefresh = REFRESH_PERIOD; // refresh as soon as possible
+			} else if(glProfiler != null){
+				glProfiler.disable();
+			}
+		}
+		if(show){
+			timeSinceRefresh += delta;
+		}
+	}
+
+	@Override
+	public RenderComponent getRenderComponent() {
+		return profiler.isEnabled() ? component : null;
+	}
+
+	@Override
+	public Stage getPreferredStage() {
+		return stage;
+	}
+
+	@Override
+	public void dispose() {
+		if(glProfiler != null){
+			glProfiler.disable();
+		}
+		stage.dispose();
+	}
+
+	private void updateText(){
+		builder.setLength(0);
+		builder.append(String.format(Locale.ROOT, "%-11s avg %6.2f ms  p99 %6.2f ms\n", "frame",
+				profiler.getAverageFrameMillis(), profiler.getP99FrameMillis()));
+		for(ProfilerPhase phase : ProfilerPhase.values()){
+			builder.append(String.format(Locale.ROOT, "%-11s avg %6.2f ms  p99 %6.2f ms\n", phase.getDisplayName(),
+					profiler.getAverageMillis(phase), profiler.getP99Millis(phase)));
+		}
+		if(profiler.isAllocationSupported()){
+			builder.append(String.format(Locale.ROOT, "%-11s avg %8.0f B  p99 %8d B\n", "allocated",
+					profiler.getAverageAllocatedBytes(), profiler.getP99AllocatedBytes()));
+		} else {
+			builder.append("allocated   unsupported\n");
+		}
+		builder.append("draw calls ").append(drawCalls).append("  texture binds ").append(textureBindings).append('\n');
+		builder.append("entities");
+		for(CollisionIdentity identity : CollisionIdentity.values()){
+			int count = profiler.getEntityCount(identity);
+			if(count > 0){
+				builder.append(' ').append(identity.name().toLowerCase(Locale.ROOT)).append(' ').append(count);
+			}
+		}
+		builder.append("\n(last ").append(profiler.getSampleCount()).append(" frames)");
+		label.setText(builder);
+	}
+
+	private class ProfilerRenderComponent implements RenderComponent {
+		@Override
+		public void render(float delta, Stage stage) {
+			if(table.getStage() != stage){
+				stage.addActor(table);
+			}
+			// the counts are from everything drawn since the last time this was rendered
+			drawCalls = glProfiler.getDrawCalls();
+			textureBindings = glProfiler.getTextureBindings();
+			glProfiler.reset();
+			if(timeSinceRefresh >= REFRESH_PERIOD){
+				timeSinceRefresh = 0;
+				updateText();
+			}
+		}
+
+		@Override
+		public void dispose() {
+			table.remove();
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package me.retrodaredevil.game.trackshooter.replay;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import me.retrodaredevil.controller.SimpleControllerInput;
+import me.retrodaredevil.controller.input.AxisType;
+import me.retrodaredevil.controller.input.InputPart;
+import me.retrodaredevil.controller.input.JoystickPart;
+import me.retrodaredevil.controller.input.JoystickType;
+import me.retrodaredevil.controller.input.implementations.JoystickAxisFollowerPart;
+import me.retrodaredevil.controller.input.implementations.SimpleInputPart;
+import me.retrodaredevil.controller.input.implementations.SimpleJoystickPart;
+import me.retrodaredevil.controller.options.ControlOption;
+import me.retrodaredevil.controller.output.ControllerRumble;
+import me.retrodaredevil.controller.output.DisconnectedRumble;
+import me.retrodaredevil.game.trackshooter.input.GameInput;
+
+/**
+ * A GameInput that feeds a recorded {@link PlayerInputState} to a {@link me.retrodaredevil.game.trackshooter.entity.player.PlayerController}.
+ * <p>
+ * Set the values of {@link #getState()} before each update of the world. This does not need to be updated like a
+ * normal ControllerInput because every InputPart returns a value straight from the state. Each tick, the fire and
+ * powerup buttons are "just pressed" if the recorded player shot or activated a powerup during that tick.
+ * <p>
+ * The menu buttons are never pressed and rumble is disconnected.
+ */
+public class PlaybackGameInput extends SimpleControllerInput implements GameInput {
+	/** An axis type that should use delta like a joystick's axis */
+	private static final AxisType ROTATE_AXIS_TYPE = new AxisType(true, true, false, true);
+	/** The same as GdxMouseAxis */
+	private static final AxisType MOUSE_AXIS_TYPE = new AxisType(true, true, true, false);
+
+	private final PlayerInputState state = new PlayerInputState();
+
+	private final JoystickPart mainJoystick = new StateJoystick(false) {
+		@Override public double getX() { return state.moveX; }
+		@Override public double getY() { return state.moveY; }
+		@Override public boolean isConnected() { return true; }
+	};
+	private final InputPart rotateAxis = new StateInputPart(ROTATE_AXIS_TYPE) {
+		@Override public double getPosition() { return state.rotate; }
+	};
+	private final InputPart mouseAxis = new StateInputPart(MOUSE_AXIS_TYPE) {
+		@Override public double getPosition() { return state.rotate; }
+	};
+	private final JoystickPart rotationPointInput = new StateJoystick(true) {
+		@Override public double getX() { return state.rotationPointActive ? state.rotationPointX : 0; }
+		@Override public double getY() { return state.rotationPointActive ? state.rotationPointY : 0; }
+		@Override public boolean isXDeadzone() { return !state.rotationPointActive; }
+		@Override public boolean isYDeadzone() { return !state.rotationPointActive; }
+		@Override public boolean isConnected() { return state.rotationPointConnected; }
+	};
+	private final InputPart fireButton = new StateInputPart(AxisType.DIGITAL) {
+		@Override public double getPosition() { return state.shoot ? 1 : 0; }
+	};
+	private final InputPart slowButton = new StateInputPart(AxisType.DIGITAL) {
+		@Override public double getPosition() { return state.slow ? 1 : 0; }
+	};
+	private final InputPart activatePowerup = new StateInputPart(AxisType.DIGITAL) {
+		@Override public double getPosition() { return state.activatePowerup ? 1 : 0; }
+	};
+	private final InputPart neverPressed = new StateInputPart(AxisType.DIGITAL) {
+		@Override public double getPosition() { return 0; }
+	};
+	private final JoystickPart neverMoved = new StateJoystick(false) {
+		@Override public double getX() { return 0; }
+		@Override public double getY() { return 0; }
+		@Override public boolean isConnected() { return true; }
+	};
+
+	/** @return The state that every InputPart of this uses. Should be changed before each update of the world */
+	public PlayerInputState getState(){
+		return state;
+	}
+
+	@Override
+	public Collection<? extends ControlOption> getControlOptions() {
+		return Collections.emptyList();
+	}
+
+	@Override public JoystickPart getMainJoystick() { return mainJoystick; }
+	@Override public InputPart getRotateAxis() { return state.rotateIsAxis ? rotateAxis : mouseAxis; }
+	@Override public JoystickPart getRotationPointInput() { return rotationPointInput; }
+	@Override public boolean isRotationPointInWorldCoordinates() { return true; }
+	@Override public InputPart getFireButton() { return fireButton; }
+	@Override public InputPart getSlowButton() { return slowButton; }
+	@Override public InputPart getActivatePowerup() { return activatePowerup; }
+
+	@Override public InputPart getStartButton() { return neverPressed; }
+	@Override public InputPart getPauseButton() { return neverPressed; }
+	@Override public InputPart getBackButton() { return neverPressed; }
+	@Override public JoystickPart getSelectorJoystick() { return neverMoved; }
+	@Override public InputPart getEnterButton() { return neverPressed; }
+	@Override public InputPart getRumbleOnSingleShot() { return neverPressed; }
+
+	@Override
+	public ControllerRumble getRumble() {
+		return DisconnectedRumble.getInstance();
+	}
+
+	@Override
+	public boolean isConnected() {
+		return true;
+	}
+
+	/**
+	 * An InputPart whose value comes straight from {@link #getPosition()}. A digital part is just pressed whenever it
+	 * is down because each recorded press only lasts a single tick.
+	 */
+	private static abstract class StateInputPart extends SimpleInputPart {
+		StateInputPart(AxisType axisType) {
+			super(axisType);
+		}
+		@Override public boolean isDown() { return getPosition() != 0; }
+		@Override public boolean isJustPressed() { return isDown(); }
+		@Override public boolean isJustReleased() { return false; }
+		@Override public boolean isConnected() { return true; }
+	}
+
+	/**
+	 * A JoystickPart that calculates its angle and magnitude straight from {@link #getX()} and {@link #getY()} so the
+	 * recorded values are used as they are
+	 */
+	private static abstract class StateJoystick extends SimpleJoystickPart {
+		private final InputPart xAxis = new JoystickAxisFollowerPart(this, partUpdater, false);
+		private final InputPart yAxis = new JoystickAxisFollowerPart(this, partUpdater, true);
+
+		/**
+		 * @param screenPosition true to be created like ScreenPositionJoystick, false to be created like GdxTouchpadJoystick
+		 */
+		StateJoystick(boolean screenPosition) {
+			super(screenPosition ? new JoystickType(false, true, false, false) : new JoystickType(true, false, false, true),
+					false, false, screenPosition);
+		}
+		@Override public InputPart getXAxis() { return xAxis; }
+		@Override public InputPart getYAxis() { return yAxis; }
+		@Override public boolean isXDeadzone() { return getX() == 0; }
+		@Override public boolean isYDeadzone() { return getY() == 0; }
+
+		@Override
+		public double getAngle() {
+			return Math.toDegrees(Math.atan2(getY(), getX()));
+		}
+		@Override
+		public double getCorrectMagnitude() {
+			return Math.min(1, Math.hypot(getX(), getY()));
+		}
+	}
+}
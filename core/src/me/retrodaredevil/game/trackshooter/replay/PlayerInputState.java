@@ -0,0 +1,41 @@
+package me.retrodaredevil.game.trackshooter.replay;
+
+/**
+ * The input that a {@link me.retrodaredevil.game.trackshooter.entity.player.PlayerController} used during a single
+ * update of the world. This is what gets recorded by {@link ReplayWriter} and read by {@link ReplayReader}.
+ */
+public final class PlayerInputState {
+	/** The x and y of the movement joystick where the magnitude is not greater than 1. Both are 0 when the joystick is in its deadzone */
+	public float moveX, moveY;
+	public boolean slow;
+
+	/** true if {@link #rotate} is the position of an axis like a joystick, false if it is how far a mouse has moved */
+	public boolean rotateIsAxis;
+	/** The position of the rotate axis. 0 when the axis is in its deadzone */
+	public float rotate;
+
+	public boolean rotationPointConnected;
+	/** true if the rotation point is being pressed. When false, {@link #rotationPointX} and {@link #rotationPointY} should be ignored */
+	public boolean rotationPointActive;
+	/** The world coordinates of the rotation point */
+	public float rotationPointX, rotationPointY;
+
+	/** true if the player tried to shoot during this update */
+	public boolean shoot;
+	/** true if the player tried to activate a powerup during this update */
+	public boolean activatePowerup;
+
+	public void set(PlayerInputState state){
+		moveX = state.moveX;
+		moveY = state.moveY;
+		slow = state.slow;
+		rotateIsAxis = state.rotateIsAxis;
+		rotate = state.rotate;
+		rotationPointConnected = state.rotationPointConnected;
+		rotationPointActive = state.rotationPointActive;
+		rotationPointX = state.rotationPointX;
+		rotationPointY = state.rotationPointY;
+		shoot = state.shoot;
+		activatePowerup = state.activatePowerup;
+	}
+}
@@ -0,0 +1,38 @@
+package me.retrodaredevil.game.trackshooter.replay;
+
+/**
+ * Constants shared by {@link ReplayWriter} and {@link ReplayReader}.
+ * <p>
+ * A replay starts with {@link #MAGIC}, {@link #VERSION}, the world's seed as a long and the number of players as a byte.
+ * After that, each record starts with a tag:
+ * <ul>
+ *     <li>{@link #TAG_LEVEL} is followed by an int with the number of the level that the world is on</li>
+ *     <li>
+ *         {@link #TAG_TICK} is followed by a byte of flags for each player. The flags say which buttons are down and
+ *         which values changed since the last tick. Only the values that changed come after the flags.
+ *     </li>
+ *     <li>{@link #TAG_END} marks the end of the replay</li>
+ * </ul>
+ */
+final class ReplayFormat {
+	static final int MAGIC = 0x54535250; // "TSRP"
+	static final byte VERSION = 2;
+
+	static final byte TAG_END = 0;
+	static final byte TAG_LEVEL = 1;
+	static final byte TAG_TICK = 2;
+
+	static final int SHOOT = 1;
+	static final int SLOW = 1 << 1;
+	static final int ACTIVATE_POWERUP = 1 << 2;
+	static final int ROTATE_IS_AXIS = 1 << 3;
+	static final int ROTATION_POINT_CONNECTED = 1 << 4;
+	/** Followed by moveX and moveY as floats */
+	static final int MOVE_CHANGED = 1 << 5;
+	/** Followed by rotate as a float */
+	static final int ROTATE_CHANGED = 1 << 6;
+	/** Followed by rotationPointActive as a boolean and rotationPointX and rotationPointY as floats in world coordinates */
+	static final int ROTATION_POINT_CHANGED = 1 << 7;
+
+	private ReplayFormat(){ throw new UnsupportedOperationException(); }
+}
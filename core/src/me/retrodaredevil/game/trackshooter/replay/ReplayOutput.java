@@ -0,0 +1,16 @@
+package me.retrodaredevil.game.trackshooter.replay;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ReplayOutput {
+	/**
+	 * Called when a game starts
+	 * @return A new OutputStream to record the game to or null if the game should not be recorded
+	 */
+	OutputStream createOutputStream() throws IOException;
+
+	class Defaults {
+		public static final ReplayOutput DISABLED = () -> null;
+	}
+}
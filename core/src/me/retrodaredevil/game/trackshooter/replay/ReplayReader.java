@@ -0,0 +1,127 @@
+package me.retrodaredevil.game.trackshooter.replay;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static me.retrodaredevil.game.trackshooter.replay.ReplayFormat.*;
+
+/**
+ * Reads a replay written by {@link ReplayWriter} one tick at a time
+ */
+public class ReplayReader implements Closeable {
+	private final DataInputStream input;
+	private final long seed;
+	private final PlayerInputState[] states;
+
+	private int levelNumber = 0;
+	private long ticks = 0;
+	private boolean done = false;
+
+	/**
+	 * Reads the header of the replay
+	 * @param inputStream The InputStream to read from. This is closed when this is closed
+	 * @throws IOException If the replay could not be read or is not a replay
+	 */
+	public ReplayReader(InputStream inputStream) throws IOException {
+		input = new DataInputStream(new BufferedInputStream(inputStream));
+		if(input.readInt() != MAGIC){
+			throw new IOException("Not a replay!");
+		}
+		byte version = input.readByte();
+		if(version != VERSION){
+			throw new IOException("Unsupported replay version: " + version);
+		}
+		seed = input.readLong();
+		int numberOfPlayers = input.readByte();
+		if(numberOfPlayers <= 0){
+			throw new IOException("Invalid number of players: " + numberOfPlayers);
+		}
+		states = new PlayerInputState[numberOfPlayers];
+		for(int i = 0; i < numberOfPlayers; i++){
+			states[i] = new PlayerInputState();
+		}
+	}
+
+	/** @return The seed the recorded World was created with */
+	public long getSeed(){ return seed; }
+	public int getNumberOfPlayers(){ return states.length; }
+	/** @return The number of ticks that have been read */
+	public long getTicks(){ return ticks; }
+	/** @return The number of the level the recorded World was on before the tick that was just read or 0 if no level has been read */
+	public int getLevelNumber(){ return levelNumber; }
+
+	/**
+	 * Reads the next tick
+	 * @param result Each element is set to the input of that player. The size must be {@link #getNumberOfPlayers()}
+	 * @return true if a tick was read, false if the replay has ended. A replay that was cut off (the game crashed) ends at the last full tick.
+	 */
+	public boolean nextTick(List<PlayerInputState> result) throws IOException {
+		if(result.size() != states.length){
+			throw new IllegalArgumentException("Expected " + states.length + " states! Got: " + result.size());
+		}
+		while(!done){
+			final byte tag;
+			try {
+				tag = input.readByte();
+			} catch(EOFException e){
+				done = true;
+				break;
+			}
+			switch(tag){
+				case TAG_END:
+					done = true;
+					break;
+				case TAG_LEVEL:
+					levelNumber = input.readInt();
+					break;
+				case TAG_TICK:
+					try {
+						for(PlayerInputState state : states){
+							readState(state);
+						}
+					} catch(EOFException e){
+						done = true;
+						break;
+					}
+					for(int i = 0; i < states.length; i++){
+						result.get(i).set(states[i]);
+					}
+					ticks++;
+					return true;
+				default:
+					throw new IOException("Unknown tag: " + tag + " after tick: " + ticks);
+			}
+		}
+		return false;
+	}
+	private void readState(PlayerInputState state) throws IOException {
+		int flags = input.readUnsignedByte();
+		state.shoot = (flags & SHOOT) != 0;
+		state.slow = (flags & SLOW) != 0;
+		state.activatePowerup = (flags & ACTIVATE_POWERUP) != 0;
+		state.rotateIsAxis = (flags & ROTATE_IS_AXIS) != 0;
+		state.rotationPointConnected = (flags & ROTATION_POINT_CONNECTED) != 0;
+		if((flags & MOVE_CHANGED) != 0){
+			state.moveX = input.readFloat();
+			state.moveY = input.readFloat();
+		}
+		if((flags & ROTATE_CHANGED) != 0){
+			state.rotate = input.readFloat();
+		}
+		if((flags & ROTATION_POINT_CHANGED) != 0){
+			state.rotationPointActive = input.readBoolean();
+			state.rotationPointX = input.readFloat();
+			state.rotationPointY = input.readFloat();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+}
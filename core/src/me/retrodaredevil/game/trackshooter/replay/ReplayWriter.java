@@ -0,0 +1,109 @@
+package me.retrodaredevil.game.trackshooter.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import static me.retrodaredevil.game.trackshooter.replay.ReplayFormat.*;
+
+/**
+ * Writes a replay that can be read with {@link ReplayReader}. Each tick only writes the values that changed since the
+ * last tick, so a tick where nobody touches anything is one byte per player.
+ */
+public class ReplayWriter implements Closeable {
+	private final DataOutputStream output;
+	private final PlayerInputState[] lastStates;
+
+	private boolean closed = false;
+
+	/**
+	 * Writes the header of the replay
+	 * @param outputStream The OutputStream to write to. This is closed when this is closed
+	 * @param seed The seed of the world. {@link me.retrodaredevil.game.trackshooter.world.World#getSeed()}
+	 * @param numberOfPlayers The number of players that will be recorded each tick
+	 */
+	public ReplayWriter(OutputStream outputStream, long seed, int numberOfPlayers) throws IOException {
+		if(numberOfPlayers <= 0 || numberOfPlayers > Byte.MAX_VALUE){
+			throw new IllegalArgumentException("numberOfPlayers must be in range [1.." + Byte.MAX_VALUE + "]! numberOfPlayers: " + numberOfPlayers);
+		}
+		output = new DataOutputStream(new BufferedOutputStream(outputStream));
+		lastStates = new PlayerInputState[numberOfPlayers];
+		for(int i = 0; i < numberOfPlayers; i++){
+			lastStates[i] = new PlayerInputState();
+		}
+		output.writeInt(MAGIC);
+		output.writeByte(VERSION);
+		output.writeLong(seed);
+		output.writeByte(numberOfPlayers);
+	}
+
+	/**
+	 * Should be called with the level number before the first tick and each time the world's level changes
+	 * @param levelNumber The number of the level the world is on
+	 */
+	public void writeLevel(int levelNumber) throws IOException {
+		output.writeByte(TAG_LEVEL);
+		output.writeInt(levelNumber);
+	}
+
+	/**
+	 * @param states The input of each player during the last update. The size must be the number of players.
+	 */
+	public void writeTick(List<PlayerInputState> states) throws IOException {
+		if(states.size() != lastStates.length){
+			throw new IllegalArgumentException("Expected " + lastStates.length + " states! Got: " + states.size());
+		}
+		output.writeByte(TAG_TICK);
+		for(int i = 0; i < lastStates.length; i++){
+			writeState(states.get(i), lastStates[i]);
+		}
+	}
+	private void writeState(PlayerInputState state, PlayerInputState last) throws IOException {
+		final boolean moveChanged = state.moveX != last.moveX || state.moveY != last.moveY;
+		final boolean rotateChanged = state.rotate != last.rotate;
+		final boolean rotationPointChanged = state.rotationPointActive != last.rotationPointActive
+				|| (state.rotationPointActive && (state.rotationPointX != last.rotationPointX || state.rotationPointY != last.rotationPointY));
+		int flags = 0;
+		if(state.shoot) flags |= SHOOT;
+		if(state.slow) flags |= SLOW;
+		if(state.activatePowerup) flags |= ACTIVATE_POWERUP;
+		if(state.rotateIsAxis) flags |= ROTATE_IS_AXIS;
+		if(state.rotationPointConnected) flags |= ROTATION_POINT_CONNECTED;
+		if(moveChanged) flags |= MOVE_CHANGED;
+		if(rotateChanged) flags |= ROTATE_CHANGED;
+		if(rotationPointChanged) flags |= ROTATION_POINT_CHANGED;
+		output.writeByte(flags);
+		if(moveChanged){
+			output.writeFloat(state.moveX);
+			output.writeFloat(state.moveY);
+		}
+		if(rotateChanged){
+			output.writeFloat(state.rotate);
+		}
+		if(rotationPointChanged){
+			output.writeBoolean(state.rotationPointActive);
+			output.writeFloat(state.rotationPointX);
+			output.writeFloat(state.rotationPointY);
+		}
+		last.set(state);
+	}
+
+	/**
+	 * Marks the end of the replay and closes the OutputStream. Calling this more than once does nothing.
+	 */
+	@Override
+	public void close() throws IOException {
+		if(closed){
+			return;
+		}
+		closed = true;
+		try {
+			output.writeByte(TAG_END);
+		} finally {
+			output.close();
+		}
+	}
+}
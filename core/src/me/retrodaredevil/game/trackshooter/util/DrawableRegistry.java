@@ -0,0 +1,45 @@
+package me.retrodaredevil.game.trackshooter.util;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds every drawable and animation frame from {@link Resources} by its enum key. Everything is looked up and
+ * sliced once when this is created so spawning entities never has to look up drawables by name or split regions.
+ * <p>
+ * This should be created after the main skin is loaded. The returned drawables are shared so they should not be modified.
+ */
+public final class DrawableRegistry {
+	private final Map<Resources.Sprite, Drawable> sprites = new EnumMap<>(Resources.Sprite.class);
+	private final Map<Resources.Points, Drawable> points = new EnumMap<>(Resources.Points.class);
+	private final Map<Resources.Shark, Drawable[]> sharkFrames = new EnumMap<>(Resources.Shark.class);
+
+	/**
+	 * @param mainSkin The main skin that has each drawable in {@link Resources}
+	 */
+	public DrawableRegistry(Skin mainSkin){
+		for(Resources.Sprite sprite : Resources.Sprite.values()){
+			sprites.put(sprite, sprite.createDrawable(mainSkin));
+		}
+		for(Resources.Points point : Resources.Points.values()){
+			points.put(point, point.createDrawable(mainSkin));
+		}
+		for(Resources.Shark shark : Resources.Shark.values()){
+			sharkFrames.put(shark, shark.createSprites(mainSkin));
+		}
+	}
+
+	public Drawable getDrawable(Resources.Sprite sprite){
+		return sprites.get(sprite);
+	}
+	public Drawable getDrawable(Resources.Points point){
+		return points.get(point);
+	}
+	/** @return The frames of the shark. See {@link Resources.Shark#getSprites(me.retrodaredevil.game.trackshooter.render.RenderObject)} */
+	public Drawable[] getFrames(Resources.Shark shark){
+		return sharkFrames.get(shark);
+	}
+}
@@ -1,7 +1,6 @@
 package me.retrodaredevil.game.trackshooter.util;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 
 import me.retrodaredevil.game.trackshooter.entity.DisplayEntity;
@@ -17,8 +16,7 @@ public final class EntityUtil {
 
 	public static void displayScore(World world, Vector2 location, Drawable drawable, float width, float time){
 		DisplayEntity entity = new DisplayEntity(world, time, location);
-		Image image = new Image(drawable);
-		RenderComponent renderComponent = new ImageRenderComponent(image, entity, width, width * image.getHeight() / image.getWidth()).setFacingDirection(0);
+		RenderComponent renderComponent = new ImageRenderComponent(drawable, entity, width, width * drawable.getMinHeight() / drawable.getMinWidth()).setFacingDirection(0);
 		entity.setRenderComponent(renderComponent);
 
 		world.addEntity(entity);
@@ -1,7 +1,6 @@
 package me.retrodaredevil.game.trackshooter.util;
 
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
 
 /**
  * This is a util class for changing Rectangles to correct positions and sizes.
@@ -9,8 +8,6 @@ import com.badlogic.gdx.math.Vector2;
  * You can use Rectangle#setCenter to set the position, but for the size, you should use hitboxSetSize
  */
 public final class HitboxUtil {
-	private static Vector2 temp = new Vector2();
-
 	public static Rectangle createHitbox(float x, float y, float width, float height){
 		return hitboxSet(new Rectangle(), x, y, width, height);
 	}
@@ -45,8 +42,7 @@ public final class HitboxUtil {
 	 * @return The passed hitbox for chaining
 	 */
 	public static Rectangle hitboxSetSize(Rectangle hitbox, float width, float height){
-		hitbox.getCenter(temp);
-		return hitboxSet(hitbox, temp.x, temp.y, width, height);
+		return hitboxSet(hitbox, hitbox.x + hitbox.width / 2f, hitbox.y + hitbox.height / 2f, width, height);
 	}
 //	public static Rectangle hitboxSetPosition(Rectangle hitbox, float x, float y){
 //		return hitboxSet(hitbox, x, y, hitbox.getWidth(), hitbox.getHeight());
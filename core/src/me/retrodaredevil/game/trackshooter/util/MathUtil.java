@@ -1,12 +1,23 @@
 package me.retrodaredevil.game.trackshooter.util;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Random;
 
 public final class MathUtil {
-	private static final Vector2 temp = new Vector2();
+	/** Like {@link com.badlogic.gdx.math.MathUtils#random(float)} but uses the passed random
+	 * @return A random number between 0 (inclusive) and range (exclusive) */
+	public static float random(Random random, float range){
+		return random.nextFloat() * range;
+	}
+	/** Like {@link com.badlogic.gdx.math.MathUtils#randomSign()} but uses the passed random
+	 * @return -1 or 1 */
+	public static int randomSign(Random random){
+		return random.nextBoolean() ? 1 : -1;
+	}
 
 	/**
 	 *
@@ -66,7 +77,11 @@ public final class MathUtil {
 	}
 
 	public static float angle(Vector2 start, Vector2 end){
-		return temp.set(end).sub(start).angle();
+		float angle = (float) Math.atan2(end.y - start.y, end.x - start.x) * MathUtils.radiansToDegrees; // the same as Vector2#angle()
+		if(angle < 0){
+			angle += 360;
+		}
+		return angle;
 	}
 
 	/**
@@ -1,6 +1,6 @@
 package me.retrodaredevil.game.trackshooter.util;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
@@ -16,11 +16,57 @@ import me.retrodaredevil.game.trackshooter.render.RenderObject;
 import me.retrodaredevil.game.trackshooter.render.RenderParts;
 
 public final class Resources {
+	public static final String MAIN_SKIN = "skins/main/skin.json";
+	public static final String UI_SKIN = "skins/sgx/sgx-ui.json";
+	public static final String ARCADE_SKIN = "skins/arcade/arcade-ui.json";
+	// thanks http://www.freesfx.co.uk/soundeffects/lasers_weapons/
+	private static final String BULLET_SOUND = "skins/main/sounds/bullet_sound.mp3";
 
+	/**
+	 * Queues every asset. The skins that are needed before the StartScreen can be shown are queued first and the
+	 * assets that are only needed during a game are queued after them so they can load in the background.
+	 * @param assetManager The AssetManager to queue the assets in
+	 */
+	public static void queueAssets(AssetManager assetManager){
+		assetManager.load(MAIN_SKIN, Skin.class);
+		assetManager.load(UI_SKIN, Skin.class);
+		assetManager.load(ARCADE_SKIN, Skin.class);
 
-	public static void loadToSkin(Skin skin){
-		// thanks http://www.freesfx.co.uk/soundeffects/lasers_weapons/
-		skin.add("bullet", Gdx.audio.newSound(Gdx.files.internal("skins/main/sounds/bullet_sound.mp3")), Sound.class);
+		assetManager.load(BULLET_SOUND, Sound.class);
+	}
+	/**
+	 * @param assetManager The AssetManager passed to {@link #queueAssets(AssetManager)}
+	 * @return true if every skin has been loaded
+	 */
+	public static boolean isStartupLoaded(AssetManager assetManager){
+		return assetManager.isLoaded(MAIN_SKIN, Skin.class) && assetManager.isLoaded(UI_SKIN, Skin.class)
+				&& assetManager.isLoaded(ARCADE_SKIN, Skin.class);
+	}
+
+	/**
+	 * Adds each sound that has finished loading to the main skin. Until then, {@link Skin#optional(String, Class)}
+	 * should be used to get a sound.
+	 * @param assetManager The AssetManager passed to {@link #queueAssets(AssetManager)}
+	 * @param mainSkin The main skin
+	 * @return true if every sound has been added
+	 */
+	public static boolean addLoadedToSkin(AssetManager assetManager, Skin mainSkin){
+		if(!assetManager.isLoaded(BULLET_SOUND, Sound.class)){
+			return false;
+		}
+		if(!mainSkin.has("bullet", Sound.class)){
+			mainSkin.add("bullet", assetManager.get(BULLET_SOUND, Sound.class), Sound.class);
+		}
+		return true;
+	}
+	/**
+	 * Removes what {@link #addLoadedToSkin(AssetManager, Skin)} added so the AssetManager is the only thing that disposes it
+	 * @param mainSkin The main skin
+	 */
+	public static void removeLoadedFromSkin(Skin mainSkin){
+		if(mainSkin.has("bullet", Sound.class)){
+			mainSkin.remove("bullet", Sound.class);
+		}
 	}
 	private static Drawable[] createRegions(boolean vertical, int amount, TextureRegion region){
 		int width;
@@ -41,6 +87,34 @@ public final class Resources {
 		}
 		return regions;
 	}
+	/**
+	 * Each drawable in the main skin that is a single image. Use {@link DrawableRegistry#getDrawable(Sprite)} to get one.
+	 */
+	public enum Sprite {
+		BULLET("bullet"),
+		SNAKE_PART("snake_part"),
+		CARGO_SHIP("cargo_ship"),
+		SNIPER("sniper"),
+		STARFISH("starfish"),
+		PLAYER("player"),
+		POWERUP("powerup"),
+		HELP("help"),
+		ARROW("arrow"),
+
+		CHERRY("cherry"),
+		APPLE("apple"),
+		STRAWBERRY("strawberry"),
+		GRAPES("grapes"),
+		PIZZA("pizza"),
+		;
+		private final String name;
+		Sprite(String name){
+			this.name = name;
+		}
+		Drawable createDrawable(Skin skin){
+			return skin.getDrawable(name);
+		}
+	}
 	public enum Points implements me.retrodaredevil.game.trackshooter.util.Points{
 		P100(100, 0, "odd_bonus", 5),
 		P300(300, 1, "odd_bonus", 5),
@@ -80,7 +154,10 @@ public final class Resources {
 		}
 		@Override
 		public Drawable getDrawable(RenderObject renderObject){
-			final TextureRegion region = renderObject.getMainSkin().getRegion(imageName);
+			return renderObject.getDrawables().getDrawable(this);
+		}
+		Drawable createDrawable(Skin skin){
+			final TextureRegion region = skin.getRegion(imageName);
 			if(imagesSize == 1){
 				return new TextureRegionDrawable(region);
 			}
@@ -99,9 +176,12 @@ public final class Resources {
 		Shark(String name){
 			this.name = name;
 		}
-		/**The frames for a shark [0] is right [1] is straight [2] is left */
+		/**The frames for a shark [0] is right [1] is straight [2] is left. The returned array should not be modified */
 		public Drawable[] getSprites(RenderObject renderObject){
-			final TextureRegion region = renderObject.getMainSkin().getRegion(name);
+			return renderObject.getDrawables().getFrames(this);
+		}
+		Drawable[] createSprites(Skin skin){
+			final TextureRegion region = skin.getRegion(name);
 
 			return createRegions(region.getRegionWidth() <= region.getRegionHeight(), 3, region);
 		}
@@ -3,15 +3,19 @@ package me.retrodaredevil.game.trackshooter.world;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import me.retrodaredevil.game.trackshooter.render.components.CircleRenderComponent;
-import me.retrodaredevil.game.trackshooter.render.components.RenderComponent;
+import com.badlogic.gdx.utils.FloatArray;
 import me.retrodaredevil.game.trackshooter.util.MathUtil;
 
 public class CircleTrackPart extends TrackPart {
+	/** The number of line segments used to draw the circle */
+	private static final int SEGMENTS = 100;
 	private final float radius;
 	private final Vector2 center = new Vector2();
 	private final float zeroAngle;
-	private final RenderComponent renderComponent;
+	private final float distance;
+	/** The number of degrees each unit of distance covers */
+	private final float degreesPerDistance;
+	private final float zeroAngleRadians;
 
 	/**
 	 *
@@ -21,11 +25,13 @@ public class CircleTrackPart extends TrackPart {
 	 * @param color The color of the circle
 	 */
 	public CircleTrackPart(float radius, Vector2 center, float zeroAngle, Color color) {
-		super(new Vector2(radius, 0), new Vector2(radius, 0));
+		super(new Vector2(radius, 0), new Vector2(radius, 0), color);
 		this.radius = radius;
 		this.center.set(center);
 		this.zeroAngle = zeroAngle;
-		this.renderComponent = new CircleRenderComponent(radius, 3, center, color, 100);
+		this.distance = radius * MathUtils.PI2;
+		this.degreesPerDistance = 360.0f / distance;
+		this.zeroAngleRadians = zeroAngle * MathUtils.degreesToRadians;
 	}
 
 	@Override
@@ -35,24 +41,31 @@ public class CircleTrackPart extends TrackPart {
 
 	@Override
 	public float getForwardDirection(float distance) {
-		return distance * 360.0f / getDistance() + 90 + zeroAngle;
+		return distance * degreesPerDistance + 90 + zeroAngle;
 	}
 
 	@Override
 	public float getDistance() {
-		return radius * MathUtils.PI2;
+		return distance;
 	}
 
 	@Override
-	public Vector2 getDesiredPosition(float distanceGone) {
-		final float radians = distanceGone * MathUtils.PI2 / getDistance() + zeroAngle * MathUtils.degreesToRadians;
+	public Vector2 getDesiredPosition(float distanceGone, Vector2 result) {
+		final float radians = distanceGone / radius + zeroAngleRadians; // distanceGone * PI2 / distance
 
-		return new Vector2(MathUtils.cos(radians), MathUtils.sin(radians)).scl(radius).add(center);
+		return result.set(center.x + MathUtils.cos(radians) * radius, center.y + MathUtils.sin(radians) * radius);
 	}
 
 	@Override
-	public RenderComponent getRenderComponent() {
-		return renderComponent;
+	public void addLineSegments(FloatArray lines) {
+		float lastX = center.x + radius, lastY = center.y;
+		for(int i = 1; i <= SEGMENTS; i++){
+			float radians = i * MathUtils.PI2 / SEGMENTS;
+			float x = center.x + MathUtils.cos(radians) * radius, y = center.y + MathUtils.sin(radians) * radius;
+			lines.add(lastX, lastY, x, y);
+			lastX = x;
+			lastY = y;
+		}
 	}
 
 }
@@ -1,26 +1,25 @@
 package me.retrodaredevil.game.trackshooter.world;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
-import me.retrodaredevil.game.trackshooter.render.components.LineRenderComponent;
-import me.retrodaredevil.game.trackshooter.render.components.RenderComponent;
+import com.badlogic.gdx.utils.FloatArray;
 import me.retrodaredevil.game.trackshooter.util.MathUtil;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class LineTrackPart extends TrackPart {
-	private static final ShapeRenderer renderer = new ShapeRenderer();
 	private final float distance;
 	private final float angle;
-	protected RenderComponent renderComponent;
+	/** The amount x and y change per unit of distance */
+	private final float stepX, stepY;
 
 	public LineTrackPart(Vector2 start, Vector2 end, Color color){
-		super(start, end);
+		super(start, end, color);
 		distance = start.dst(end);
 		angle = MathUtil.angle(start, end);
-		renderComponent = new LineRenderComponent(start, end, color, 3, renderer);
+		stepX = (end.x - start.x) / distance;
+		stepY = (end.y - start.y) / distance;
 	}
 
 	@Override
@@ -39,13 +38,13 @@ public class LineTrackPart extends TrackPart {
 	}
 
 	@Override
-	public Vector2 getDesiredPosition(float distanceGone) {
-		return start.cpy().lerp(end, distanceGone / distance);
+	public Vector2 getDesiredPosition(float distanceGone, Vector2 result) {
+		return result.set(start.x + stepX * distanceGone, start.y + stepY * distanceGone);
 	}
 
 	@Override
-	public RenderComponent getRenderComponent() {
-		return renderComponent;
+	public void addLineSegments(FloatArray lines) {
+		lines.add(start.x, start.y, end.x, end.y);
 	}
 
 
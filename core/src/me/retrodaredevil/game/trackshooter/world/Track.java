@@ -12,12 +12,27 @@ public class Track implements Renderable {
 
 	private final List<? extends TrackPart> parts;
 	private final float totalDistance;
+	/** The same as {@link #parts} but in an array for fast lookups */
+	private final TrackPart[] partArray;
+	/** Has a length of parts.size() + 1. Each element is the distance the part at that index starts at. The last element is where the last part ends */
+	private final float[] partStarts;
 
 	protected RenderComponent renderComponent;
 
 	public Track(List<? extends TrackPart> parts){
 		this.parts = parts;
 		this.totalDistance = calculateTotalDistance(parts);
+		if(parts.isEmpty()){
+			throw new IllegalArgumentException("A Track must have at least one part!");
+		}
+		partArray = parts.toArray(new TrackPart[0]);
+		partStarts = new float[partArray.length + 1];
+		float current = 0;
+		for(int i = 0; i < partArray.length; i++){
+			partStarts[i] = current;
+			current += partArray[i].getDistance();
+		}
+		partStarts[partArray.length] = current;
 
 		this.renderComponent = new TrackRenderComponent(this);
 	}
@@ -47,63 +62,35 @@ public class Track implements Renderable {
 	public float getTotalDistance(){
 		return totalDistance;
 	}
+	/**
+	 * @param distanceGone The distance along the track. This can be any number and will wrap around
+	 * @return A new Vector2 with the position on the track
+	 */
 	public Vector2 getDesiredLocation(float distanceGone){
-		distanceGone = MathUtil.mod(distanceGone, totalDistance);
-
-		float current = 0;
+		return getDesiredLocation(distanceGone, new Vector2());
+	}
 
-		TrackPart currentPart = null;
-		for(TrackPart part : parts){
-			float partDistance = part.getDistance();
-			float newCurrent = current + partDistance;
-			if(distanceGone < newCurrent){
-				currentPart = part;
-				break;
-			}
-			current = newCurrent;
-		}
-		assert currentPart != null : "currentPart is null. Something must be wrong with the distances. " +
-				"current: " + current + " distanceGone: " + distanceGone + " totalDistance: " + totalDistance + " recalculated total distance: " + calculateTotalDistance(parts);
-		return currentPart.getDesiredPosition(distanceGone - current);
+	/**
+	 * @param distanceGone The distance along the track. This can be any number and will wrap around
+	 * @param result The Vector2 to put the position on the track in
+	 * @return result for chaining
+	 */
+	public Vector2 getDesiredLocation(float distanceGone, Vector2 result){
+		distanceGone = MathUtil.mod(distanceGone, totalDistance);
+		int index = getPartIndex(distanceGone);
+		return partArray[index].getDesiredPosition(distanceGone - partStarts[index], result);
 	}
 	public float getMovePercent(float angleDegrees, float distanceGone){
 		distanceGone = MathUtil.mod(distanceGone, totalDistance);
 
-		float current = 0;
-		TrackPart first = null; // the first part in the last
-		TrackPart before = null; // the part before current part
-		TrackPart after = null; // the part after current part
-		TrackPart currentPart = null; // the part distanceGone corresponds to
-		for (TrackPart part : parts) {
-			if(currentPart != null){
-				after = part;
-				break;
-			}
-			if(current == 0){
-				first = part;
-			}
-			float partDistance = part.getDistance();
-			float newCurrent = current + partDistance;
-			if (distanceGone < newCurrent) {
-				currentPart = part;
-				continue; // go to first if
-			}
-			current = newCurrent;
-			before = part;
-		}
-		assert currentPart != null : "currentPart is null. Something must be wrong with the distances";
-		if(after == null){
-			after = first;
-		}
-		if(before == null){
-//			assert currentPart == first;
-			for(TrackPart part : parts){
-				before = part;
-			}
-			assert before != null;
-		}
-		float currentPartDistance = distanceGone - current;
-		float percent = currentPartDistance / currentPart.getDistance(); // if NPE, asserts not turned on
+		final int index = getPartIndex(distanceGone);
+		final int length = partArray.length;
+		TrackPart currentPart = partArray[index]; // the part distanceGone corresponds to
+		TrackPart before = partArray[index == 0 ? length - 1 : index - 1]; // the part before current part
+		TrackPart after = partArray[index == length - 1 ? 0 : index + 1]; // the part after current part
+
+		float currentPartDistance = distanceGone - partStarts[index];
+		float percent = currentPartDistance / currentPart.getDistance();
 		float r = currentPart.getMovePercent(angleDegrees, currentPartDistance);
 		if(percent < .5f){
 			// before
@@ -127,16 +114,25 @@ public class Track implements Renderable {
 
 	public float getForwardDirection(float distanceGone){
 		distanceGone = MathUtil.mod(distanceGone, totalDistance);
-		float current = 0;
-		for(TrackPart part : parts){
-			float partDistance = part.getDistance();
-			float newCurrent = current + partDistance;
-			if (distanceGone < newCurrent) {
-				float currentPartDistance = distanceGone - current;
-				return part.getForwardDirection(currentPartDistance);
+		int index = getPartIndex(distanceGone);
+		return partArray[index].getForwardDirection(distanceGone - partStarts[index]);
+	}
+
+	/**
+	 * Uses a binary search to find the first part that ends after distanceGone
+	 * @param distanceGone The distance along the track in range [0, getTotalDistance())
+	 * @return The index of the part distanceGone is on
+	 */
+	private int getPartIndex(float distanceGone){
+		int low = 0, high = partArray.length - 1;
+		while(low < high){
+			int middle = (low + high) >>> 1;
+			if(distanceGone < partStarts[middle + 1]){ // where middle ends
+				high = middle;
+			} else {
+				low = middle + 1;
 			}
-			current = newCurrent;
 		}
-		throw new AssertionError("You had the correct arguments. But the code didn't return!. distanceGone: " + distanceGone + " total: " + totalDistance);
+		return low;
 	}
 }
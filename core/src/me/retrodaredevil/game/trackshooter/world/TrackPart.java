@@ -1,16 +1,22 @@
 package me.retrodaredevil.game.trackshooter.world;
 
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
 import me.retrodaredevil.game.trackshooter.render.Renderable;
+import me.retrodaredevil.game.trackshooter.render.components.RenderComponent;
+import me.retrodaredevil.game.trackshooter.render.components.TrackRenderComponent;
 
 public abstract class TrackPart implements Renderable {
 
 	protected final Vector2 start;
 	protected final Vector2 end;
+	protected final Color color;
 
-	protected TrackPart(Vector2 start, Vector2 end){
+	protected TrackPart(Vector2 start, Vector2 end, Color color){
 		this.start = start;
 		this.end = end;
+		this.color = color;
 	}
 
 	/**
@@ -34,5 +40,34 @@ public abstract class TrackPart implements Renderable {
 	 * @param distanceGone must be in range [0, getDistance())
 	 * @return The desired coordinate position. This variable is allowed to be modified.
 	 */
-	public abstract Vector2 getDesiredPosition(float distanceGone);
+	public Vector2 getDesiredPosition(float distanceGone){
+		return getDesiredPosition(distanceGone, new Vector2());
+	}
+
+	/**
+	 * @param distanceGone must be in range [0, getDistance())
+	 * @param result The Vector2 to put the desired coordinate position in
+	 * @return result for chaining
+	 */
+	public abstract Vector2 getDesiredPosition(float distanceGone, Vector2 result);
+
+	/**
+	 * Adds the line segments used to draw this part. This is only called once by {@link TrackRenderComponent}
+	 * @param lines The array to add to. Each segment is added as 4 floats: x1, y1, x2, y2
+	 */
+	public abstract void addLineSegments(FloatArray lines);
+
+	/** @return The color this part should be drawn with */
+	public Color getColor(){
+		return color;
+	}
+
+	/**
+	 * Track parts are drawn all at once by the Track's {@link TrackRenderComponent}
+	 * @return null
+	 */
+	@Override
+	public RenderComponent getRenderComponent() {
+		return null;
+	}
 }
@@ -1,5 +1,7 @@
 package me.retrodaredevil.game.trackshooter.world;
 
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -8,14 +10,22 @@ import java.util.*;
 
 import me.retrodaredevil.game.trackshooter.CollisionHandler;
 import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.profile.Profiler;
+import me.retrodaredevil.game.trackshooter.profile.ProfilerPhase;
 import me.retrodaredevil.game.trackshooter.render.RenderObject;
 import me.retrodaredevil.game.trackshooter.render.Renderable;
 import me.retrodaredevil.game.trackshooter.Updateable;
 import me.retrodaredevil.game.trackshooter.entity.Entity;
+import me.retrodaredevil.game.trackshooter.entity.EntityPool;
 import me.retrodaredevil.game.trackshooter.level.Level;
+import me.retrodaredevil.game.trackshooter.level.LevelEndState;
+import me.retrodaredevil.game.trackshooter.level.LevelEndStateCounts;
 import me.retrodaredevil.game.trackshooter.level.LevelGetter;
 import me.retrodaredevil.game.trackshooter.render.components.RenderComponent;
 import me.retrodaredevil.game.trackshooter.render.components.WorldRenderComponent;
+import me.retrodaredevil.game.trackshooter.util.DrawableRegistry;
+
+import static java.util.Objects.requireNonNull;
 
 
 public class World implements Updateable, Renderable {
@@ -25,27 +35,50 @@ public class World implements Updateable, Renderable {
 	private final RenderObject renderObject;
 	private final WorldCoordinatesGetter worldCoordinatesGetter;
 	private final Rectangle bounds;
+	private final long seed;
+	/** Everything that changes the game randomly should use this so a game can be run again the same way using {@link #seed} */
+	private final RandomXS128 random;
 
 	private final RenderComponent renderComponent;
-	private final Updateable collisionHandler;
-	private final Queue<Entity> entitiesToAdd = new LinkedList<>();
+	/** The CollisionHandler or null if we are not the host */
+	private final CollisionHandler collisionHandler;
+	private final Queue<Entity> entitiesToAdd = new ArrayDeque<>();
 	private final List<Entity> entities = new ArrayList<>();
+	/** The LevelEndStates of everything in {@link #entities} and {@link #entitiesToAdd} */
+	private final LevelEndStateCounts levelEndStateCounts = new LevelEndStateCounts();
+	private final Map<Class<? extends Entity>, EntityPool<?>> entityPools = new HashMap<>();
+	/** The values of {@link #entityPools} so we can flush them without creating an iterator */
+	private final List<EntityPool<?>> entityPoolList = new ArrayList<>();
 
 	/** The non-null level*/
 	private Level level;
 	private float timeInSeconds = 0;
+	/** How far between the last update and the next update rendering should be. In range [0..1] */
+	private float renderAlpha = 1;
+	private Profiler profiler = Profiler.Defaults.DISABLED;
 
+	/**
+	 * Creates a World with a random seed
+	 */
 	public World(Multiplayer multiplayer, LevelGetter levelGetter, float width, float height, RenderObject renderObject, WorldCoordinatesGetter worldCoordinatesGetter){
+		this(multiplayer, levelGetter, width, height, renderObject, worldCoordinatesGetter, MathUtils.random.nextLong());
+	}
+	/**
+	 * @param seed The seed used for {@link #getRandom()}. Two worlds with the same seed that are updated the same way will play out the same way.
+	 */
+	public World(Multiplayer multiplayer, LevelGetter levelGetter, float width, float height, RenderObject renderObject, WorldCoordinatesGetter worldCoordinatesGetter, long seed){
 		this.multiplayer = multiplayer;
 		this.levelGetter = levelGetter;
 		this.renderObject = renderObject;
 		this.worldCoordinatesGetter = worldCoordinatesGetter;
 		this.bounds = new Rectangle(width / -2f, height / -2f, width, height);
+		this.seed = seed;
+		this.random = new RandomXS128(seed);
 		this.renderComponent = new WorldRenderComponent(this);
 		if(multiplayer.isHost()) {
 			this.collisionHandler = new CollisionHandler(this);
 		} else {
-			this.collisionHandler = (delta) -> {};
+			this.collisionHandler = null;
 		}
 
 		this.level = levelGetter.nextLevel(this);
@@ -60,9 +93,14 @@ public class World implements Updateable, Renderable {
 	@Override
 	public void update(float delta) {
 		timeInSeconds += delta;
+		for(int i = 0; i < entityPoolList.size(); i++){ // entities removed last update can now be reused
+			entityPoolList.get(i).flush();
+		}
+		profiler.start(ProfilerPhase.LEVEL_UPDATE);
 		if(level.isDone()){
 			level = levelGetter.nextLevel(this);
 		}
+		profiler.end(ProfilerPhase.LEVEL_UPDATE);
 		/*
 		The ordering of how each thing is updated it on purpose:
 		* Add entities that were added before this method was called,
@@ -71,6 +109,7 @@ public class World implements Updateable, Renderable {
 		* Update the collision handler after everything has been placed correctly
 		 */
 
+		profiler.start(ProfilerPhase.ENTITY_UPDATE);
 		while(true){ // add all entities necessary
 			Entity entity = entitiesToAdd.poll();
 			if(entity == null){
@@ -79,24 +118,59 @@ public class World implements Updateable, Renderable {
 			entity.beforeSpawn();
 			entities.add(entity);
 		}
+		profiler.end(ProfilerPhase.ENTITY_UPDATE);
+		profiler.start(ProfilerPhase.LEVEL_UPDATE);
 		this.level.update(delta); // update level
+		profiler.end(ProfilerPhase.LEVEL_UPDATE);
 
-		for(Iterator<Entity> it = entities.listIterator(); it.hasNext(); ){ // update entities
-			Entity entity = it.next();
+		profiler.start(ProfilerPhase.ENTITY_UPDATE);
+		// update entities. Entities that aren't removed are shifted down as we go so the list only has to be shrunk once
+		final int size = entities.size();
+		int kept = 0;
+		for(int i = 0; i < size; i++){
+			Entity entity = entities.get(i);
 			assert !entity.isRemoved();
 			entity.update(delta);
 			if(entity.shouldRemove()){
-				it.remove();
+				levelEndStateCounts.remove(entity.canLevelEnd());
 				entity.afterRemove();
+			} else {
+				if(kept != i){
+					entities.set(kept, entity);
+				}
+				kept++;
 			}
 		}
-		this.collisionHandler.update(delta); // do collisions
+		if(kept != size){
+			entities.subList(kept, size).clear();
+		}
+		profiler.end(ProfilerPhase.ENTITY_UPDATE);
+		if(collisionHandler != null) {
+			profiler.start(ProfilerPhase.COLLISION);
+			this.collisionHandler.update(delta); // do collisions
+			profiler.end(ProfilerPhase.COLLISION);
+		}
+	}
+
+	/**
+	 * @return The CollisionHandler or null if this world is not the host and does not handle collisions
+	 */
+	public CollisionHandler getCollisionHandler(){
+		return collisionHandler;
+	}
+	/**
+	 * @return true if this world is the host's. When false, most entities are copies of the host's entities and this
+	 *         world should not decide when things are hit or created.
+	 */
+	public boolean isHost(){
+		return multiplayer.isHost();
 	}
 
 	public Skin getMainSkin(){
 		return renderObject.getMainSkin();
 	}
 	public RenderObject getRenderObject(){ return renderObject; }
+	public DrawableRegistry getDrawables(){ return renderObject.getDrawables(); }
 
 	/**
 	 * This is the recommended way to get the track of the current level
@@ -112,9 +186,9 @@ public class World implements Updateable, Renderable {
 	/**
 	 * Normally, it is not recommended to call this because you shouldn't need it that much.
 	 * Use #addEntity() to add entities instead of this.
-	 * @return A Collection of Entities
+	 * @return A List of Entities
 	 */
-	public Collection<Entity> getEntities(){
+	public List<Entity> getEntities(){
 		return entities;
 	}
 
@@ -136,6 +210,37 @@ public class World implements Updateable, Renderable {
 	 */
 	public void addEntity(Entity entity){
 		entitiesToAdd.add(entity);
+		levelEndStateCounts.add(entity.canLevelEnd());
+	}
+
+	/**
+	 * NOTE: {@link Entity#canLevelEnd()} should not change while an entity is in the world
+	 * @return The highest LevelEndState of all the entities in {@link #getAllEntities()} or null if there are no entities
+	 */
+	public LevelEndState getHighestLevelEndState(){
+		return levelEndStateCounts.getHighest();
+	}
+	/**
+	 * @param clazz The type of entity the pool is for
+	 * @return The pool that was added with {@link #addEntityPool(Class, EntityPool)} or null
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Entity> EntityPool<T> getEntityPool(Class<T> clazz){
+		return (EntityPool<T>) entityPools.get(clazz);
+	}
+
+	/**
+	 * Adds a pool that will be flushed at the start of each update. Pools are usually added the first time an
+	 * entity of that type is obtained.
+	 * @param clazz The type of entity the pool is for
+	 * @param pool The pool
+	 */
+	public <T extends Entity> void addEntityPool(Class<T> clazz, EntityPool<T> pool){
+		if(entityPools.containsKey(clazz)){
+			throw new IllegalStateException("There is already a pool for " + clazz.getSimpleName());
+		}
+		entityPools.put(clazz, pool);
+		entityPoolList.add(pool);
 	}
 	public Rectangle getBounds(){
 		return bounds;
@@ -158,6 +263,45 @@ public class World implements Updateable, Renderable {
 		return (long) (timeInSeconds * 1000L);
 	}
 
+	/** @return The seed that {@link #getRandom()} was created with */
+	public long getSeed(){
+		return seed;
+	}
+	/**
+	 * Anything that affects the game should use this instead of {@link MathUtils#random} so the game can be reproduced
+	 * with {@link #getSeed()}. Things that only affect rendering should not use this.
+	 * @return The random number generator for this world
+	 */
+	public RandomXS128 getRandom(){
+		return random;
+	}
+
+	/**
+	 * When the world is updated with a fixed delta, rendering usually happens between two updates. Entities use this to
+	 * render themselves between their previous and current locations.
+	 * @return A number in range [0..1] where 0 is the state before the last update and 1 is the state after the last update
+	 */
+	public float getRenderAlpha(){
+		return renderAlpha;
+	}
+	/**
+	 * @param renderAlpha A number in range [0..1]. Should be set before rendering. 1 by default.
+	 * @see #getRenderAlpha()
+	 */
+	public void setRenderAlpha(float renderAlpha){
+		if(renderAlpha < 0 || renderAlpha > 1){
+			throw new IllegalArgumentException("renderAlpha must be in range [0..1]! renderAlpha: " + renderAlpha);
+		}
+		this.renderAlpha = renderAlpha;
+	}
+
+	/**
+	 * @param profiler The profiler that times the level update, entity update and collision phases of {@link #update(float)}
+	 */
+	public void setProfiler(Profiler profiler){
+		this.profiler = requireNonNull(profiler);
+	}
+
 	/**
 	 * A simple util method that takes a list and removes elements from the passed instance if they are removed
 	 *
@@ -3,12 +3,45 @@ package me.retrodaredevil.game.trackshooter.desktop;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import me.retrodaredevil.game.trackshooter.AccountObject;
 import me.retrodaredevil.game.trackshooter.GameMain;
+import me.retrodaredevil.game.trackshooter.account.AccountManager;
+import me.retrodaredevil.game.trackshooter.account.achievement.AchievementHandler;
+import me.retrodaredevil.game.trackshooter.input.RumbleAnalogControl;
+import me.retrodaredevil.game.trackshooter.multiplayer.udp.UdpAccountMultiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.udp.UdpMultiplayer;
 
+/**
+ * Starts the game. To play a LAN game, one player starts with {@code --host <port> [clients]} and each other player
+ * starts with {@code --join <host>:<port>}.
+ */
 public class DesktopLauncher {
-	public static void main (String[] arg) {
+	public static void main (String[] arg) throws IOException {
 		Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
 		config.useVsync(false);
-		new Lwjgl3Application(new GameMain(GameMain.SCORE_PREFERENCSE_GETTER), config);
+		final GameMain game;
+		if(arg.length >= 2 && arg[0].equals("--host")){
+			int clients = arg.length >= 3 ? Integer.parseInt(arg[2]) : 1;
+			game = createGame(new UdpAccountMultiplayer(UdpMultiplayer.host(Integer.parseInt(arg[1]), 1, clients), clients));
+		} else if(arg.length >= 2 && arg[0].equals("--join")){
+			int colon = arg[1].lastIndexOf(':');
+			if(colon < 0){
+				throw new IllegalArgumentException("Expected <host>:<port> but got " + arg[1]);
+			}
+			InetSocketAddress address = new InetSocketAddress(arg[1].substring(0, colon), Integer.parseInt(arg[1].substring(colon + 1)));
+			game = createGame(new UdpAccountMultiplayer(UdpMultiplayer.join(address, 1), 0));
+		} else {
+			game = new GameMain(GameMain.SCORE_PREFERENCSE_GETTER);
+		}
+		new Lwjgl3Application(game, config);
+	}
+	private static GameMain createGame(UdpAccountMultiplayer accountMultiplayer){
+		return new GameMain(
+				GameMain.SCORE_PREFERENCSE_GETTER, RumbleAnalogControl.Defaults.UNSUPPORTED_ANALOG,
+				new AccountObject(AccountManager.Defaults.NO_MANAGER, AchievementHandler.Defaults.UNSUPPORTED_HANDLER, accountMultiplayer)
+		);
 	}
 }
@@ -0,0 +1,80 @@
+package me.retrodaredevil.game.trackshooter.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+import me.retrodaredevil.game.trackshooter.GameScreen;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+
+/**
+ * Simulates games as fast as possible and reports how many ticks per second were simulated and how much memory was
+ * allocated per tick.
+ * <p>
+ * Usage: {@code [ticks] [delta] [players] [warmupTicks] [seed]}
+ */
+public class HeadlessLauncher {
+	private static final String TAG = "HeadlessLauncher";
+
+	private static final long DEFAULT_TICKS = 100_000;
+	private static final float DEFAULT_DELTA = GameScreen.STEP_DELTA;
+	private static final int DEFAULT_PLAYERS = 1;
+	private static final long DEFAULT_WARMUP_TICKS = 20_000;
+	private static final long DEFAULT_SEED = 1;
+
+	public static void main(String[] arg) {
+		final long ticks = arg.length > 0 ? Long.parseLong(arg[0]) : DEFAULT_TICKS;
+		final float delta = arg.length > 1 ? Float.parseFloat(arg[1]) : DEFAULT_DELTA;
+		final int players = arg.length > 2 ? Integer.parseInt(arg[2]) : DEFAULT_PLAYERS;
+		final long warmupTicks = arg.length > 3 ? Long.parseLong(arg[3]) : DEFAULT_WARMUP_TICKS;
+		final long seed = arg.length > 4 ? Long.parseLong(arg[4]) : DEFAULT_SEED;
+		if(ticks <= 0 || delta <= 0 || warmupTicks < 0){
+			throw new IllegalArgumentException("ticks and delta must be > 0 and warmupTicks must be >= 0!");
+		}
+
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create() {
+				RenderObject renderObject = HeadlessRenderObjects.createRenderObject();
+				HeadlessSimulation simulation = new HeadlessSimulation(renderObject, players, seed);
+				for(long i = 0; i < warmupTicks; i++){
+					simulation.update(delta);
+				}
+				int gamesBefore = simulation.getGamesStarted();
+
+				ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+				com.sun.management.ThreadMXBean allocationBean = threadBean instanceof com.sun.management.ThreadMXBean
+						&& ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()
+						? (com.sun.management.ThreadMXBean) threadBean : null;
+				long threadId = Thread.currentThread().getId();
+
+				long allocatedBefore = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+				long startNanos = System.nanoTime();
+				for(long i = 0; i < ticks; i++){
+					simulation.update(delta);
+				}
+				long nanos = System.nanoTime() - startNanos;
+				long allocated = allocationBean == null ? -1 : allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+				Gdx.app.log(TAG, String.format(Locale.ROOT, "Simulated %d ticks (delta: %f, players: %d, warmup ticks: %d, seed: %d) in %.1f ms",
+						ticks, delta, players, warmupTicks, seed, nanos / 1_000_000.0));
+				Gdx.app.log(TAG, String.format(Locale.ROOT, "ticks per second: %.1f", ticks / (nanos / 1_000_000_000.0)));
+				if(allocated >= 0){
+					Gdx.app.log(TAG, String.format(Locale.ROOT, "allocated bytes per tick: %.1f", allocated / (double) ticks));
+				} else {
+					Gdx.app.log(TAG, "allocated bytes per tick: unsupported by this JVM");
+				}
+				Gdx.app.log(TAG, "new games started: " + (simulation.getGamesStarted() - gamesBefore));
+
+				renderObject.getMainSkin().dispose();
+				renderObject.getUISkin().dispose();
+				renderObject.getArcadeSkin().dispose();
+				Gdx.app.exit();
+			}
+		});
+	}
+}
@@ -0,0 +1,116 @@
+package me.retrodaredevil.game.trackshooter.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+
+import java.lang.reflect.Proxy;
+
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+
+/**
+ * Creates a {@link RenderObject} that can be used without a display. Every drawable that the game asks for is backed
+ * by a region of a single texture that is never uploaded anywhere.
+ */
+public final class HeadlessRenderObjects {
+	private static final int TEXTURE_SIZE = 256;
+	private static final int SPRITE_SIZE = 16;
+
+	/** Names of drawables that are a single image */
+	private static final String[] SINGLE_NAMES = {
+			"bullet", "snake_part", "cargo_ship", "sniper", "starfish", "player", "powerup", "help",
+			"cherry", "pizza", "grapes", "strawberry", "apple", "arrow", "joystick"
+	};
+	/** Names of drawables that are split horizontally by {@link me.retrodaredevil.game.trackshooter.util.Resources} */
+	private static final String[] STRIP_NAMES = {
+			"shark", "shark_hit", "shark_worn", "odd_bonus", "even_bonus", "large_bonus"
+	};
+	/** The number of frames in each element of {@link #STRIP_NAMES} */
+	private static final int[] STRIP_FRAMES = {
+			3, 3, 3, 5, 4, 3
+	};
+
+	private HeadlessRenderObjects(){ throw new UnsupportedOperationException(); }
+
+	/**
+	 * NOTE: {@link Gdx#app} must already be initialized. If {@link Gdx#gl} is null, it is set to a {@link GL20} that does nothing.
+	 * <p>
+	 * The returned RenderObject has a null batch. Its skins should be disposed when they are no longer needed.
+	 * @return A RenderObject with stubbed skins
+	 */
+	public static RenderObject createRenderObject(){
+		if(Gdx.gl == null){
+			Gdx.gl = Gdx.gl20 = createNoOpGL();
+		}
+		Skin mainSkin = new Skin();
+		Texture texture = new Texture(new EmptyTextureData(TEXTURE_SIZE, TEXTURE_SIZE));
+		mainSkin.add("texture", texture, Texture.class); // so it's disposed with the skin
+
+		int x = 0, y = 0;
+		for(String name : SINGLE_NAMES){
+			mainSkin.add(name, new TextureRegion(texture, x, y, SPRITE_SIZE, SPRITE_SIZE), TextureRegion.class);
+			x += SPRITE_SIZE;
+			if(x + SPRITE_SIZE > TEXTURE_SIZE){
+				x = 0;
+				y += SPRITE_SIZE;
+			}
+		}
+		x = 0;
+		y += SPRITE_SIZE;
+		for(int i = 0; i < STRIP_NAMES.length; i++){
+			mainSkin.add(STRIP_NAMES[i], new TextureRegion(texture, x, y, SPRITE_SIZE * STRIP_FRAMES[i], SPRITE_SIZE), TextureRegion.class);
+			y += SPRITE_SIZE;
+		}
+		mainSkin.add("bullet", Gdx.audio.newSound(null), Sound.class);
+
+		return new RenderObject(null, mainSkin, new Skin(), new Skin());
+	}
+
+	/**
+	 * @return A {@link GL20} where every method does nothing and returns 0, false or null
+	 */
+	private static GL20 createNoOpGL(){
+		return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class }, (proxy, method, args) -> {
+			Class<?> returnType = method.getReturnType();
+			if(returnType == boolean.class){
+				return false;
+			}
+			if(returnType == int.class){
+				return 0;
+			}
+			if(returnType == float.class){
+				return 0f;
+			}
+			if(returnType == long.class){
+				return 0L;
+			}
+			return null;
+		});
+	}
+
+	private static class EmptyTextureData implements TextureData {
+		private final int width, height;
+
+		EmptyTextureData(int width, int height){
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override public TextureDataType getType() { return TextureDataType.Custom; }
+		@Override public boolean isPrepared() { return true; }
+		@Override public void prepare() { }
+		@Override public Pixmap consumePixmap() { throw new UnsupportedOperationException(); }
+		@Override public boolean disposePixmap() { return false; }
+		@Override public void consumeCustomData(int target) { }
+		@Override public int getWidth() { return width; }
+		@Override public int getHeight() { return height; }
+		@Override public Pixmap.Format getFormat() { return Pixmap.Format.RGBA8888; }
+		@Override public boolean useMipMaps() { return false; }
+		@Override public boolean isManaged() { return false; }
+	}
+}
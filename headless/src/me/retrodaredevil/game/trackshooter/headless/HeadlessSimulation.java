@@ -0,0 +1,202 @@
+package me.retrodaredevil.game.trackshooter.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.RandomXS128;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import me.retrodaredevil.game.trackshooter.GameLevelGetter;
+import me.retrodaredevil.game.trackshooter.account.achievement.AchievementHandler;
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.entity.player.PlayerAIController;
+import me.retrodaredevil.game.trackshooter.entity.player.PlayerController;
+import me.retrodaredevil.game.trackshooter.entity.player.Score;
+import me.retrodaredevil.game.trackshooter.level.Level;
+import me.retrodaredevil.game.trackshooter.level.LevelMode;
+import me.retrodaredevil.game.trackshooter.multiplayer.DisconnectedMultiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+import me.retrodaredevil.game.trackshooter.replay.PlaybackGameInput;
+import me.retrodaredevil.game.trackshooter.replay.PlayerInputState;
+import me.retrodaredevil.game.trackshooter.replay.ReplayReader;
+import me.retrodaredevil.game.trackshooter.sound.VolumeControl;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs a game with AI controlled players without rendering anything. This does the same level and respawn logic as
+ * {@link me.retrodaredevil.game.trackshooter.GameScreen} so the World is updated the same way it would be in a demo game.
+ * Each call to {@link #update(float)} is one of GameScreen's fixed steps.
+ * <p>
+ * When every player has run out of lives, a new game is started automatically. Two simulations created with the same
+ * seed and updated with the same deltas play out exactly the same way.
+ * <p>
+ * When created with a {@link ReplayReader}, the players are controlled by the replay instead of AI and only the recorded
+ * game is played. Each update should use the delta the replay was recorded with. ({@link me.retrodaredevil.game.trackshooter.GameScreen#STEP_DELTA})
+ */
+public class HeadlessSimulation {
+	private final RenderObject renderObject;
+	private final int numberOfPlayers;
+	/** Creates the seed for each new World or null if {@link #replay} is used */
+	private final Random seeds;
+	/** The replay controlling the players or null if they are controlled by AI */
+	private final ReplayReader replay;
+	/** Only used when {@link #replay} is not null */
+	private final List<PlayerController> playbackControllers = new ArrayList<>();
+	/** The state of each element of {@link #playbackControllers}' PlaybackGameInput. Only used when {@link #replay} is not null */
+	private final List<PlayerInputState> playbackStates = new ArrayList<>();
+	private boolean replayDone = false;
+	private boolean desynced = false;
+
+	private final List<Player> players = new ArrayList<>(); // elements may be removed
+	private World world;
+	private int gamesStarted = 0;
+	private long ticks = 0;
+
+	/**
+	 * @param renderObject The RenderObject. Usually from {@link HeadlessRenderObjects#createRenderObject()}
+	 * @param numberOfPlayers The number of AI players in each game
+	 * @param seed The seed used to create the seed of each game's World
+	 */
+	public HeadlessSimulation(RenderObject renderObject, int numberOfPlayers, long seed){
+		this.renderObject = requireNonNull(renderObject);
+		if(numberOfPlayers <= 0){
+			throw new IllegalArgumentException("numberOfPlayers must be > 0! numberOfPlayers: " + numberOfPlayers);
+		}
+		this.numberOfPlayers = numberOfPlayers;
+		this.seeds = new RandomXS128(seed);
+		this.replay = null;
+		startGame(seeds.nextLong());
+	}
+
+	/**
+	 * @param renderObject The RenderObject. Usually from {@link HeadlessRenderObjects#createRenderObject()}
+	 * @param replay The replay to play. The caller is responsible for closing it.
+	 */
+	public HeadlessSimulation(RenderObject renderObject, ReplayReader replay){
+		this.renderObject = requireNonNull(renderObject);
+		this.replay = requireNonNull(replay);
+		this.numberOfPlayers = replay.getNumberOfPlayers();
+		this.seeds = null;
+		startGame(replay.getSeed());
+	}
+	private void startGame(long worldSeed){
+		players.clear();
+		Multiplayer multiplayer = new DisconnectedMultiplayer(numberOfPlayers);
+		AchievementHandler handler = AchievementHandler.Defaults.UNSUPPORTED_HANDLER;
+		world = new World(multiplayer, new GameLevelGetter(players, handler), 18, 18, renderObject, (screenX, screenY, result) -> result.set(screenX, screenY), worldSeed);
+		int i = 0;
+		for(Multiplayer.Player multiplayerPlayer : multiplayer.getPlayers()){
+			Player player = new Player(world, () -> null, handler, i % 2 == 0 ? Player.Type.NORMAL : Player.Type.SNIPER, VolumeControl.Defaults.MUTED, multiplayerPlayer);
+			players.add(player);
+			if(replay == null){
+				player.setEntityController(new PlayerAIController(world, player));
+			} else {
+				PlaybackGameInput playbackInput = new PlaybackGameInput();
+				PlayerController controller = new PlayerController(world, player, playbackInput);
+				playbackControllers.add(controller);
+				playbackStates.add(playbackInput.getState());
+				player.setEntityController(controller);
+			}
+			world.addEntity(player);
+			i++;
+		}
+		gamesStarted++;
+	}
+
+	/**
+	 * Updates the world once
+	 * @param delta The amount of time in seconds to simulate
+	 */
+	public void update(float delta){
+		if(replay != null && !updateReplay()){
+			return;
+		}
+		world.update(delta);
+		ticks++;
+
+		Level level = world.getLevel();
+		LevelMode mode = level.getMode();
+
+		for(Iterator<Player> it = players.iterator(); it.hasNext(); ){
+			Player player = it.next();
+			Score score = player.getScoreObject();
+			if(score.getLives() > 0){
+				if(player.isRemoved() && mode == LevelMode.NORMAL){
+					level.setMode(LevelMode.RESET);
+				}
+			} else {
+				it.remove();
+				score.onGameEnd();
+			}
+		}
+
+		if(!players.isEmpty()){
+			if(mode == LevelMode.STANDBY){
+				long time = level.getModeTimeMillis();
+				if(time > 600){
+					for(Player player : players){
+						if(player.isRemoved()){
+							world.addEntity(player);
+						}
+					}
+				}
+				if(time > 1500){
+					level.setMode(LevelMode.NORMAL);
+				}
+			}
+		} else {
+			if(mode == LevelMode.NORMAL){
+				level.setMode(LevelMode.RESET);
+			} else if(mode == LevelMode.STANDBY){ // all enemies have returned to start
+				if(replay == null){
+					startGame(seeds.nextLong());
+				} else {
+					replayDone = true;
+				}
+			}
+		}
+	}
+	/**
+	 * Reads the next tick of the replay and gives it to the players
+	 * @return true if the world should be updated, false if the replay is done
+	 */
+	private boolean updateReplay(){
+		if(replayDone){
+			return false;
+		}
+		try {
+			if(!replay.nextTick(playbackStates)){
+				replayDone = true;
+				return false;
+			}
+		} catch(IOException e){
+			throw new UncheckedIOException("Unable to read replay", e);
+		}
+		if(!desynced && replay.getLevelNumber() != world.getLevel().getNumber()){
+			desynced = true;
+			Gdx.app.error("replay", "Replay desynced at tick " + replay.getTicks() + ". Recorded level: " + replay.getLevelNumber() + " simulated level: " + world.getLevel().getNumber());
+		}
+		for(PlayerController controller : playbackControllers){
+			controller.updateInput();
+		}
+		return true;
+	}
+
+	/** @return The world that is currently being simulated. This changes each time a new game is started. */
+	public World getWorld(){ return world; }
+	/** @return The number of games that have been started including the current one */
+	public int getGamesStarted(){ return gamesStarted; }
+	/** @return The number of times the world has been updated */
+	public long getTicks(){ return ticks; }
+	/** @return true if this is playing a replay and the replay has ended. When true, {@link #update(float)} does nothing */
+	public boolean isReplayDone(){ return replayDone; }
+	/** @return true if this is playing a replay and the simulated game has gone a different way than the recorded game */
+	public boolean isDesynced(){ return desynced; }
+}
@@ -0,0 +1,59 @@
+package me.retrodaredevil.game.trackshooter.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+import me.retrodaredevil.game.trackshooter.GameScreen;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+import me.retrodaredevil.game.trackshooter.replay.ReplayReader;
+
+/**
+ * Plays a replay recorded by {@link GameScreen} as fast as possible and reports how long it took and whether the
+ * simulated game went the same way as the recorded game.
+ * <p>
+ * Usage: {@code <replayFile>}
+ */
+public class ReplayLauncher {
+	private static final String TAG = "ReplayLauncher";
+
+	public static void main(String[] arg) {
+		if(arg.length != 1){
+			throw new IllegalArgumentException("Usage: <replayFile>");
+		}
+		final String replayFile = arg[0];
+
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create() {
+				RenderObject renderObject = HeadlessRenderObjects.createRenderObject();
+				try(ReplayReader replay = new ReplayReader(new FileInputStream(replayFile))) {
+					HeadlessSimulation simulation = new HeadlessSimulation(renderObject, replay);
+					long startNanos = System.nanoTime();
+					while(!simulation.isReplayDone()){
+						simulation.update(GameScreen.STEP_DELTA);
+					}
+					long nanos = System.nanoTime() - startNanos;
+					long ticks = simulation.getTicks();
+
+					Gdx.app.log(TAG, String.format(Locale.ROOT, "Played %d ticks (seed: %d, players: %d) in %.1f ms",
+							ticks, replay.getSeed(), replay.getNumberOfPlayers(), nanos / 1_000_000.0));
+					Gdx.app.log(TAG, String.format(Locale.ROOT, "ticks per second: %.1f", ticks / (nanos / 1_000_000_000.0)));
+					Gdx.app.log(TAG, simulation.isDesynced() ? "The replay desynced" : "The replay played the same way it was recorded");
+				} catch(IOException e){
+					throw new UncheckedIOException("Unable to read replay: " + replayFile, e);
+				} finally {
+					renderObject.getMainSkin().dispose();
+					renderObject.getUISkin().dispose();
+					renderObject.getArcadeSkin().dispose();
+					Gdx.app.exit();
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,235 @@
+package me.retrodaredevil.game.trackshooter.server;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import me.retrodaredevil.game.trackshooter.GameLevelGetter;
+import me.retrodaredevil.game.trackshooter.GameScreen;
+import me.retrodaredevil.game.trackshooter.account.achievement.AchievementHandler;
+import me.retrodaredevil.game.trackshooter.entity.player.Player;
+import me.retrodaredevil.game.trackshooter.entity.player.Score;
+import me.retrodaredevil.game.trackshooter.level.Level;
+import me.retrodaredevil.game.trackshooter.level.LevelMode;
+import me.retrodaredevil.game.trackshooter.multiplayer.Multiplayer;
+import me.retrodaredevil.game.trackshooter.multiplayer.Packet;
+import me.retrodaredevil.game.trackshooter.multiplayer.PacketListener;
+import me.retrodaredevil.game.trackshooter.multiplayer.packets.PlayerInputPacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.prediction.PlayerStatePacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.prediction.RemotePlayerInput;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.SnapshotAckPacket;
+import me.retrodaredevil.game.trackshooter.multiplayer.snapshot.SnapshotSender;
+import me.retrodaredevil.game.trackshooter.multiplayer.udp.UdpMultiplayer;
+import me.retrodaredevil.game.trackshooter.profile.FrameProfiler;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+import me.retrodaredevil.game.trackshooter.sound.VolumeControl;
+import me.retrodaredevil.game.trackshooter.world.World;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A single game that is hosted on its own port. Every player is handled by a client, so nothing is rendered and no
+ * input is read here. Once enough clients have connected, the game starts and new clients are turned away.
+ * <p>
+ * Each call to {@link #tick()} is one of {@link GameScreen}'s fixed steps. A room does not share any mutable state with
+ * other rooms, so different rooms can be ticked on different threads, but a single room must only be ticked by one
+ * thread at a time. {@link #getMetrics()} and {@link #getState()} can be called from any thread.
+ */
+public class GameRoom implements Closeable {
+	/** The number of ticks between each update of {@link #getMetrics()} */
+	private static final int METRICS_PERIOD = 120;
+
+	public enum State {
+		/** Waiting for enough clients to connect */
+		WAITING,
+		RUNNING,
+		/** The game has ended or every client has left. The room should be closed. */
+		FINISHED
+	}
+
+	private final int roomId;
+	private final int port;
+	private final int requiredClients;
+	private final RenderObject renderObject;
+	private final UdpMultiplayer multiplayer;
+	private final FrameProfiler profiler = new FrameProfiler();
+	private final PacketListener packetListener = this::onPacket;
+
+	private final List<Player> players = new ArrayList<>(); // elements may be removed
+	/** The players by their index in {@link Multiplayer#getPlayers()} */
+	private final IntMap<RemotePlayerInput> remoteInputs = new IntMap<>();
+	/** Initialized when the game starts */
+	private World world = null;
+	/** Initialized when the game starts */
+	private SnapshotSender snapshotSender = null;
+	private long ticks = 0;
+	private int ticksSinceMetrics = 0;
+
+	private volatile State state = State.WAITING;
+	private volatile RoomMetrics metrics;
+
+	/**
+	 * @param roomId The id of this room. Only used for logging and metrics
+	 * @param port The port to host the game on
+	 * @param requiredClients The number of clients that must connect before the game starts
+	 * @param renderObject The RenderObject. Usually from {@link me.retrodaredevil.game.trackshooter.headless.HeadlessRenderObjects#createRenderObject()}
+	 * @param seed The seed of the World
+	 * @throws IOException If the port could not be bound
+	 */
+	public GameRoom(int roomId, int port, int requiredClients, RenderObject renderObject, long seed) throws IOException {
+		if(requiredClients <= 0){
+			throw new IllegalArgumentException("requiredClients must be > 0! requiredClients: " + requiredClients);
+		}
+		this.roomId = roomId;
+		this.requiredClients = requiredClients;
+		this.renderObject = requireNonNull(renderObject);
+		this.multiplayer = UdpMultiplayer.host(port, 0, requiredClients);
+		multiplayer.setWorldSeed(seed); // sent to each client when it connects so its World is the same as ours
+		this.port = multiplayer.getPort();
+		profiler.setEnabled(true);
+		metrics = createMetrics();
+	}
+
+	public int getRoomId(){ return roomId; }
+	/** @return The port this room is hosted on */
+	public int getPort(){ return port; }
+	public State getState(){ return state; }
+	/** @return The metrics of this room. Updated every {@link #METRICS_PERIOD} ticks */
+	public RoomMetrics getMetrics(){ return metrics; }
+
+	/**
+	 * Receives packets and updates the world once if the game has started. Does nothing once this room is {@link State#FINISHED}
+	 */
+	public void tick(){
+		if(state == State.FINISHED){
+			return;
+		}
+		profiler.beginFrame();
+		try {
+			multiplayer.receivePackets(packetListener);
+			if(state == State.WAITING){
+				if(multiplayer.getConnectedPeerCount() >= requiredClients){
+					startGame();
+				}
+			} else {
+				doStep();
+			}
+		} catch(RuntimeException e){
+			// if this were thrown, the executor would stop ticking this room without telling anyone
+			Gdx.app.error("room " + roomId, "Error while ticking. Finishing the room.", e);
+			state = State.FINISHED;
+		}
+		profiler.endFrame();
+		ticksSinceMetrics++;
+		if(state == State.FINISHED || ticksSinceMetrics >= METRICS_PERIOD){
+			ticksSinceMetrics = 0;
+			metrics = createMetrics();
+		}
+	}
+	private void startGame(){
+		multiplayer.setAcceptingConnections(false);
+		world = new World(multiplayer, new GameLevelGetter(players, AchievementHandler.Defaults.UNSUPPORTED_HANDLER), 18, 18,
+				renderObject, (screenX, screenY, result) -> result.set(screenX, screenY), multiplayer.getWorldSeed());
+		world.setProfiler(profiler);
+		snapshotSender = new SnapshotSender(world, multiplayer);
+		int index = 0;
+		for(Multiplayer.Player multiplayerPlayer : multiplayer.getPlayers()){
+			Player player = new Player(world, () -> null, AchievementHandler.Defaults.UNSUPPORTED_HANDLER, Player.Type.SNIPER, VolumeControl.Defaults.MUTED, multiplayerPlayer);
+			players.add(player);
+			remoteInputs.put(index, new RemotePlayerInput(world, player, multiplayerPlayer, index));
+			world.addEntity(player);
+			index++;
+		}
+		state = State.RUNNING;
+		Gdx.app.log("room " + roomId, "Started a game with " + players.size() + " players");
+	}
+	private void onPacket(Multiplayer.Player sender, Packet packet){
+		if(packet instanceof SnapshotAckPacket){
+			if(snapshotSender != null && sender != null){
+				snapshotSender.onAck(sender, (SnapshotAckPacket) packet);
+			}
+		} else if(packet instanceof PlayerInputPacket){
+			PlayerInputPacket inputPacket = (PlayerInputPacket) packet;
+			RemotePlayerInput remoteInput = remoteInputs.get(inputPacket.getPlayerIndex());
+			// a client can only control the players it handles
+			if(remoteInput != null && sender != null && sender.isHandledBySameAs(remoteInput.getMultiplayerPlayer())){
+				remoteInput.onInput(inputPacket);
+			}
+		}
+	}
+	/** Does the same level and respawn logic as {@link GameScreen} */
+	private void doStep(){
+		if(!multiplayer.isConnected()){
+			Gdx.app.log("room " + roomId, "Every client has left after " + ticks + " ticks");
+			state = State.FINISHED;
+			return;
+		}
+		for(RemotePlayerInput remoteInput : remoteInputs.values()){
+			remoteInput.beforeStep();
+		}
+		world.update(GameScreen.STEP_DELTA);
+		snapshotSender.update();
+		for(RemotePlayerInput remoteInput : remoteInputs.values()){
+			PlayerStatePacket statePacket = remoteInput.createStatePacket();
+			if(statePacket != null){
+				multiplayer.sendToPlayer(statePacket, remoteInput.getMultiplayerPlayer());
+			}
+		}
+		ticks++;
+
+		Level level = world.getLevel();
+		LevelMode mode = level.getMode();
+
+		for(Iterator<Player> it = players.iterator(); it.hasNext(); ){
+			Player player = it.next();
+			Score score = player.getScoreObject();
+			if(score.getLives() > 0){
+				if(player.isRemoved() && mode == LevelMode.NORMAL){
+					level.setMode(LevelMode.RESET);
+				}
+			} else {
+				it.remove();
+				score.onGameEnd();
+			}
+		}
+
+		if(!players.isEmpty()){
+			if(mode == LevelMode.STANDBY){
+				long time = level.getModeTimeMillis();
+				if(time > 600){
+					for(Player player : players){
+						if(player.isRemoved()){
+							world.addEntity(player);
+						}
+					}
+				}
+				if(time > 1500){
+					level.setMode(LevelMode.NORMAL);
+				}
+			}
+		} else {
+			if(mode == LevelMode.NORMAL){
+				level.setMode(LevelMode.RESET);
+			} else if(mode == LevelMode.STANDBY){ // all enemies have returned to start
+				Gdx.app.log("room " + roomId, "Game over after " + ticks + " ticks on level " + level.getNumber());
+				state = State.FINISHED;
+			}
+		}
+	}
+	private RoomMetrics createMetrics(){
+		return new RoomMetrics(roomId, port, state, multiplayer.getConnectedPeerCount(), players.size(), ticks,
+				profiler.getAverageFrameMillis(), profiler.getP99FrameMillis(), profiler.getAverageAllocatedBytes());
+	}
+
+	/** Tells each client that we are leaving and frees the port. Should not be called while {@link #tick()} is running */
+	@Override
+	public void close() {
+		state = State.FINISHED;
+		multiplayer.leave();
+	}
+}
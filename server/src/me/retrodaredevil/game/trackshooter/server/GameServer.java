@@ -0,0 +1,164 @@
+package me.retrodaredevil.game.trackshooter.server;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import me.retrodaredevil.game.trackshooter.GameScreen;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hosts many {@link GameRoom}s in one process. Room i is hosted on basePort + i. When a room finishes, it is closed and
+ * a new room is opened on the same port so clients can start another game.
+ * <p>
+ * Rooms are ticked at a fixed rate by a pool of threads that is shared between every room instead of each room
+ * having its own thread. A room is always ticked by one thread at a time, so rooms do not need any synchronization.
+ */
+public class GameServer implements Closeable {
+	private static final String TAG = "GameServer";
+
+	/** The number of nanoseconds between each tick of a room */
+	private static final long TICK_PERIOD_NANOS = (long) (GameScreen.STEP_DELTA * 1_000_000_000L);
+	/** The number of nanoseconds to wait before trying to reopen a room after the first time it could not be opened */
+	private static final long MIN_REOPEN_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+	/** The most nanoseconds to wait before trying to reopen a room */
+	private static final long MAX_REOPEN_DELAY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final RenderObject renderObject;
+	private final int requiredClients;
+	private final Random seeds;
+	private final ScheduledExecutorService executor;
+	private final List<RoomSlot> slots = new ArrayList<>();
+	private final AtomicInteger nextRoomId = new AtomicInteger();
+
+	/**
+	 * @param renderObject The RenderObject shared by every room. Usually from {@link me.retrodaredevil.game.trackshooter.headless.HeadlessRenderObjects#createRenderObject()}
+	 * @param basePort The port of the first room
+	 * @param rooms The number of rooms to host
+	 * @param requiredClients The number of clients that must connect to a room before its game starts
+	 * @param threads The number of threads that tick the rooms
+	 * @param seed The seed used to create the seed of each room's World
+	 * @throws IOException If the port of a room could not be bound
+	 */
+	public GameServer(RenderObject renderObject, int basePort, int rooms, int requiredClients, int threads, long seed) throws IOException {
+		this.renderObject = requireNonNull(renderObject);
+		if(rooms <= 0 || threads <= 0){
+			throw new IllegalArgumentException("rooms and threads must be > 0! rooms: " + rooms + " threads: " + threads);
+		}
+		this.requiredClients = requiredClients;
+		this.seeds = new Random(seed);
+		executor = Executors.newScheduledThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "room-ticker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			for(int i = 0; i < rooms; i++){
+				slots.add(new RoomSlot(createRoom(basePort + i)));
+			}
+		} catch(IOException e){
+			close();
+			throw e;
+		}
+		for(RoomSlot slot : slots){
+			executor.scheduleAtFixedRate(slot, 0, TICK_PERIOD_NANOS, TimeUnit.NANOSECONDS);
+		}
+	}
+	private GameRoom createRoom(int port) throws IOException {
+		final long seed;
+		synchronized(seeds){
+			seed = seeds.nextLong();
+		}
+		GameRoom room = new GameRoom(nextRoomId.getAndIncrement(), port, requiredClients, renderObject, seed);
+		Gdx.app.log(TAG, "Opened room " + room.getRoomId() + " on port " + room.getPort());
+		return room;
+	}
+
+	/** @return The latest metrics of each room in the order of their ports. Can be called from any thread */
+	public List<RoomMetrics> getMetrics(){
+		List<RoomMetrics> r = new ArrayList<>(slots.size());
+		for(RoomSlot slot : slots){
+			r.add(slot.room.getMetrics());
+		}
+		return r;
+	}
+
+	/** Stops ticking every room and then closes them */
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			if(!executor.awaitTermination(1, TimeUnit.SECONDS)){
+				Gdx.app.error(TAG, "Rooms took too long to stop ticking");
+			}
+		} catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+		for(RoomSlot slot : slots){
+			slot.room.close();
+		}
+	}
+
+	/**
+	 * Ticks a room and replaces it once it is finished. Because the room is replaced from the thread that ticks it,
+	 * a room is never closed while it is being ticked.
+	 * <p>
+	 * If the new room cannot be opened, it is tried again after {@link #MIN_REOPEN_DELAY_NANOS}. The delay doubles
+	 * after each failure up to {@link #MAX_REOPEN_DELAY_NANOS}.
+	 */
+	private final class RoomSlot implements Runnable {
+		private volatile GameRoom room;
+		/** true if {@link #room} is finished and closed and a new room has not been opened yet */
+		private boolean reopening = false;
+		/** The {@link System#nanoTime()} when we should try to open a new room */
+		private long reopenTimeNanos;
+		private long reopenDelayNanos = MIN_REOPEN_DELAY_NANOS;
+
+		RoomSlot(GameRoom room){
+			this.room = room;
+		}
+
+		@Override
+		public void run() {
+			GameRoom room = this.room;
+			if(!reopening){
+				room.tick();
+				if(room.getState() != GameRoom.State.FINISHED){
+					return;
+				}
+				Gdx.app.log(TAG, "Room " + room.getRoomId() + " finished. " + room.getMetrics());
+				room.close();
+				reopening = true;
+				reopenTimeNanos = System.nanoTime();
+			}
+			if(executor.isShutdown() || System.nanoTime() - reopenTimeNanos < 0){
+				return;
+			}
+			try {
+				this.room = createRoom(room.getPort());
+				reopening = false;
+				reopenDelayNanos = MIN_REOPEN_DELAY_NANOS;
+			} catch(IOException e){
+				String message = "Unable to reopen a room on port " + room.getPort() + ". Trying again in "
+						+ TimeUnit.NANOSECONDS.toSeconds(reopenDelayNanos) + " seconds";
+				if(reopenDelayNanos == MIN_REOPEN_DELAY_NANOS){ // only log the stack trace the first time
+					Gdx.app.error(TAG, message, e);
+				} else {
+					Gdx.app.error(TAG, message + ". " + e);
+				}
+				reopenTimeNanos = System.nanoTime() + reopenDelayNanos;
+				reopenDelayNanos = Math.min(reopenDelayNanos * 2, MAX_REOPEN_DELAY_NANOS);
+			}
+		}
+	}
+}
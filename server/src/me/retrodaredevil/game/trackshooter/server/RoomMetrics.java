@@ -0,0 +1,56 @@
+package me.retrodaredevil.game.trackshooter.server;
+
+import java.util.Locale;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable copy of how a {@link GameRoom} was doing when it was last measured. These are created on the thread
+ * that updates the room so they can be read from any thread.
+ */
+public final class RoomMetrics {
+	private final int roomId;
+	private final int port;
+	private final GameRoom.State state;
+	private final int connectedClients;
+	private final int players;
+	private final long ticks;
+	private final double averageTickMillis;
+	private final double p99TickMillis;
+	private final double averageAllocatedBytes;
+
+	RoomMetrics(int roomId, int port, GameRoom.State state, int connectedClients, int players, long ticks,
+				double averageTickMillis, double p99TickMillis, double averageAllocatedBytes){
+		this.roomId = roomId;
+		this.port = port;
+		this.state = requireNonNull(state);
+		this.connectedClients = connectedClients;
+		this.players = players;
+		this.ticks = ticks;
+		this.averageTickMillis = averageTickMillis;
+		this.p99TickMillis = p99TickMillis;
+		this.averageAllocatedBytes = averageAllocatedBytes;
+	}
+
+	public int getRoomId(){ return roomId; }
+	/** @return The port the room is listening on */
+	public int getPort(){ return port; }
+	public GameRoom.State getState(){ return state; }
+	/** @return The number of clients that are connected to the room */
+	public int getConnectedClients(){ return connectedClients; }
+	/** @return The number of players in the room's game that still have lives. 0 if the game has not started */
+	public int getPlayers(){ return players; }
+	/** @return The number of times the room's world has been updated */
+	public long getTicks(){ return ticks; }
+	/** @return The average number of milliseconds each tick took over the last {@link me.retrodaredevil.game.trackshooter.profile.FrameProfiler#SAMPLES} ticks */
+	public double getAverageTickMillis(){ return averageTickMillis; }
+	public double getP99TickMillis(){ return p99TickMillis; }
+	/** @return The average number of bytes allocated each tick or a negative number if this is not supported */
+	public double getAverageAllocatedBytes(){ return averageAllocatedBytes; }
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "room %d (port %d) %-7s clients %d players %d ticks %d tick avg %.3f ms p99 %.3f ms allocated %.0f B",
+				roomId, port, state, connectedClients, players, ticks, averageTickMillis, p99TickMillis, averageAllocatedBytes);
+	}
+}
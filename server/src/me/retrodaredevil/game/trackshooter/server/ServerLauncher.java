@@ -0,0 +1,81 @@
+package me.retrodaredevil.game.trackshooter.server;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import me.retrodaredevil.game.trackshooter.headless.HeadlessRenderObjects;
+import me.retrodaredevil.game.trackshooter.render.RenderObject;
+
+/**
+ * Runs a dedicated server that hosts games without rendering anything. Clients join a room with the desktop
+ * launcher's {@code --join host:port} option. Each room's tick cost and player count is logged periodically.
+ * <p>
+ * Usage: {@code [basePort] [rooms] [clientsPerRoom] [threads] [seed]}
+ */
+public class ServerLauncher {
+	private static final String TAG = "ServerLauncher";
+
+	private static final int DEFAULT_BASE_PORT = 7777;
+	private static final int DEFAULT_ROOMS = 4;
+	private static final int DEFAULT_CLIENTS_PER_ROOM = 2;
+	private static final int DEFAULT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	/** The number of seconds between each time the metrics are logged */
+	private static final float METRICS_LOG_PERIOD = 5;
+
+	public static void main(String[] arg) {
+		final int basePort = arg.length > 0 ? Integer.parseInt(arg[0]) : DEFAULT_BASE_PORT;
+		final int rooms = arg.length > 1 ? Integer.parseInt(arg[1]) : DEFAULT_ROOMS;
+		final int clientsPerRoom = arg.length > 2 ? Integer.parseInt(arg[2]) : DEFAULT_CLIENTS_PER_ROOM;
+		final int threads = arg.length > 3 ? Integer.parseInt(arg[3]) : DEFAULT_THREADS;
+		final long seed = arg.length > 4 ? Long.parseLong(arg[4]) : System.nanoTime();
+		if(rooms <= 0 || clientsPerRoom <= 0 || threads <= 0){
+			throw new IllegalArgumentException("rooms, clientsPerRoom and threads must be > 0!");
+		}
+
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		config.renderInterval = .1f; // the rooms are ticked by the server's own threads, so this only logs metrics
+		new HeadlessApplication(new ApplicationAdapter() {
+			private RenderObject renderObject;
+			private GameServer server;
+			private float timeSinceLog = 0;
+
+			@Override
+			public void create() {
+				renderObject = HeadlessRenderObjects.createRenderObject();
+				try {
+					server = new GameServer(renderObject, basePort, rooms, clientsPerRoom, threads, seed);
+				} catch(IOException e){
+					throw new UncheckedIOException("Unable to open the rooms", e);
+				}
+				Gdx.app.log(TAG, "Hosting " + rooms + " rooms on ports " + basePort + " to " + (basePort + rooms - 1)
+						+ " with " + threads + " threads (seed: " + seed + ")");
+			}
+
+			@Override
+			public void render() {
+				timeSinceLog += Gdx.graphics.getDeltaTime();
+				if(timeSinceLog >= METRICS_LOG_PERIOD){
+					timeSinceLog = 0;
+					for(RoomMetrics metrics : server.getMetrics()){
+						Gdx.app.log(TAG, metrics.toString());
+					}
+				}
+			}
+
+			@Override
+			public void dispose() {
+				if(server != null){
+					server.close();
+				}
+				renderObject.getMainSkin().dispose();
+				renderObject.getUISkin().dispose();
+				renderObject.getArcadeSkin().dispose();
+			}
+		}, config);
+	}
+}